@@ -36,4 +36,10 @@ public class AuthenticationEngineProperties implements Serializable {
     @NestedConfigurationProperty
     private GroovyAuthenticationEngineProcessorProperties groovyPostProcessor = new GroovyAuthenticationEngineProcessorProperties();
 
+    /**
+     * Execute authentication handlers concurrently.
+     */
+    @NestedConfigurationProperty
+    private ParallelAuthenticationEngineProperties parallel = new ParallelAuthenticationEngineProperties();
+
 }
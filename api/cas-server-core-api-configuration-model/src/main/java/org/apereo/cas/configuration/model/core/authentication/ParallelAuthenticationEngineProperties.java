@@ -0,0 +1,50 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link ParallelAuthenticationEngineProperties}.
+ * Controls whether authentication handlers that support the same credential
+ * should be executed concurrently rather than one after another.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("ParallelAuthenticationEngineProperties")
+public class ParallelAuthenticationEngineProperties implements Serializable {
+    private static final long serialVersionUID = 6153480431806453785L;
+
+    /**
+     * Execute all authentication handlers that support a credential concurrently.
+     * Results are evaluated as handlers complete, and handlers that are still running
+     * are cancelled as soon as the authentication policy is satisfied.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum amount of time to wait for authentication handlers to produce a result,
+     * measured from the time handlers are submitted for execution.
+     * Handlers that do not respond in time are recorded as failures.
+     */
+    @DurationCapable
+    private String timeout = "PT10S";
+
+    /**
+     * Maximum number of threads used to execute authentication handlers concurrently.
+     * Once all threads are busy, handlers are executed on the thread
+     * that carries out the authentication transaction.
+     */
+    private int poolSize = 20;
+}
@@ -0,0 +1,82 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link ParallelPrincipalAttributesProperties}.
+ * Controls whether attribute repositories that are merged together
+ * should be queried concurrently rather than one after another.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-support-person-directory", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("ParallelPrincipalAttributesProperties")
+public class ParallelPrincipalAttributesProperties implements Serializable {
+    private static final long serialVersionUID = -2217410652941390327L;
+
+    /**
+     * Query all attribute repositories concurrently when the aggregation
+     * strategy is set to merge results. Results are still merged in the order
+     * in which repositories are registered with the attribute repository plan.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum amount of time to wait for each attribute repository to produce a result.
+     */
+    @DurationCapable
+    private String timeout = "PT5S";
+
+    /**
+     * Maximum number of threads used to query attribute repositories concurrently.
+     */
+    private int poolSize = 20;
+
+    /**
+     * Decide what should happen if an attribute repository fails,
+     * times out or is skipped because its circuit breaker is open.
+     */
+    private PartialResultPolicyTypes partialResultPolicy = PartialResultPolicyTypes.ALLOW;
+
+    /**
+     * Number of consecutive failures after which an attribute repository
+     * is no longer queried until the circuit breaker reset timeout passes.
+     * A zero or negative value disables the circuit breaker.
+     */
+    private int circuitBreakerFailureThreshold = 5;
+
+    /**
+     * Amount of time an attribute repository is skipped once
+     * its circuit breaker opens, before it is queried again.
+     */
+    @DurationCapable
+    private String circuitBreakerResetTimeout = "PT30S";
+
+    /**
+     * Partial result policy types.
+     */
+    public enum PartialResultPolicyTypes {
+        /**
+         * Merge results of attribute repositories that succeeded
+         * and ignore those that failed or timed out.
+         */
+        ALLOW,
+        /**
+         * Discard all results, producing no person,
+         * if any attribute repository failed or timed out.
+         */
+        FAIL
+    }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serializable;
 import java.util.HashSet;
@@ -76,6 +77,20 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private Set<String> defaultAttributesToRelease = new HashSet<>(0);
 
+    /**
+     * Control the cache that holds principal attributes
+     * fetched by caching attribute repositories of registered services.
+     */
+    @NestedConfigurationProperty
+    private PrincipalAttributesRepositoryCacheProperties repositoryCache = new PrincipalAttributesRepositoryCacheProperties();
+
+    /**
+     * Control whether attribute repositories should be queried concurrently
+     * when the aggregation strategy is set to merge results.
+     */
+    @NestedConfigurationProperty
+    private ParallelPrincipalAttributesProperties parallel = new ParallelPrincipalAttributesProperties();
+
     /**
      * The aggregation strategy types.
      */
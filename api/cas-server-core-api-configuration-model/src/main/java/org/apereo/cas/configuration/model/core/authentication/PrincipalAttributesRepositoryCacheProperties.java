@@ -0,0 +1,63 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link PrincipalAttributesRepositoryCacheProperties}.
+ * Controls the cache that backs caching principal attribute repositories
+ * assigned to registered services. Cache weights are measured in number of attribute values.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("PrincipalAttributesRepositoryCacheProperties")
+public class PrincipalAttributesRepositoryCacheProperties implements Serializable {
+    private static final long serialVersionUID = 2914581742095113564L;
+
+    /**
+     * Maximum total weight of all cached principal attributes
+     * across all registered services.
+     */
+    private long maximumWeight = 1_000_000;
+
+    /**
+     * Maximum total weight of cached principal attributes
+     * that a single registered service may occupy in the cache.
+     * Once exceeded, attributes for new principals of that service are
+     * fetched from the source without being cached until existing entries expire.
+     */
+    private long maximumWeightPerService = 100_000;
+
+    /**
+     * Once cached attributes are older than this period, they
+     * continue to be served from the cache while a fresh copy is fetched
+     * in the background, until they finally expire based on the service policy.
+     * A zero value disables this behavior.
+     */
+    @DurationCapable
+    private String staleWhileRevalidate = "PT0S";
+
+    /**
+     * Number of threads dedicated to refreshing stale cached attributes in the background.
+     */
+    private int revalidationPoolSize = 2;
+
+    /**
+     * Maximum number of pending background refresh requests.
+     * Once exceeded, stale attributes continue to be served from the cache
+     * and are refreshed on a later request.
+     */
+    private int revalidationQueueSize = 1_000;
+}
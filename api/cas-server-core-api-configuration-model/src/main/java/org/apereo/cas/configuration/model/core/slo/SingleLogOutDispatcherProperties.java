@@ -0,0 +1,73 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogOutDispatcherProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogOutDispatcherProperties implements Serializable {
+
+    private static final long serialVersionUID = -6387461846394717398L;
+
+    /**
+     * Whether asynchronous back-channel logout messages should be handed over
+     * to a dedicated dispatcher that queues, throttles and retries deliveries per destination.
+     * When false, asynchronous messages are directly submitted to the HTTP client.
+     */
+    private boolean enabled;
+
+    /**
+     * Number of threads used to deliver logout messages.
+     */
+    private int poolSize = 10;
+
+    /**
+     * Maximum number of logout messages that may be pending delivery at any given time.
+     * Messages that arrive when the queue is full are rejected rather than blocking the caller.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of logout messages that may be concurrently delivered
+     * to the same destination, identified by its scheme, host and port.
+     */
+    private int maxConcurrentRequestsPerDestination = 5;
+
+    /**
+     * Maximum number of logout messages that may be delivered to the
+     * same destination per second. A zero or negative value disables rate limiting.
+     */
+    private int maxRequestsPerSecondPerDestination;
+
+    /**
+     * Maximum number of delivery attempts for each logout message.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before the first retry of a failed delivery.
+     * The delay is doubled for each subsequent retry.
+     */
+    @DurationCapable
+    private String retryBackoff = "PT2S";
+
+    /**
+     * Upper bound for the delay between retries of a failed delivery.
+     */
+    @DurationCapable
+    private String maxRetryBackoff = "PT1M";
+}
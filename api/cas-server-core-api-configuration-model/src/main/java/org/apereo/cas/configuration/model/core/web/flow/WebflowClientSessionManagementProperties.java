@@ -0,0 +1,63 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link WebflowClientSessionManagementProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+@JsonFilter("WebflowClientSessionManagementProperties")
+public class WebflowClientSessionManagementProperties implements Serializable {
+
+    private static final long serialVersionUID = -2187417233851287393L;
+
+    /**
+     * Whether flow execution state that is kept on the client should be
+     * encoded using the compact codec. The compact codec replaces class descriptors
+     * with identifiers from a fixed class dictionary, omits empty scopes and compresses
+     * the result using a preset dictionary, producing a considerably smaller execution
+     * parameter. Flow executions that are in progress when this setting is changed
+     * cannot be resumed.
+     */
+    private boolean compact;
+
+    /**
+     * Compression level (0-9) used by the compact codec.
+     * Lower levels favor speed over the size of the execution parameter.
+     */
+    private int compressionLevel = 1;
+
+    /**
+     * Encoded flow execution states that are at least this large, in bytes,
+     * are kept in a server-side cache; the client only receives a short signed handle
+     * to the cached state. A value of zero or less keeps all state on the client.
+     * Note that the cache is local to each CAS server node, so deployments
+     * with more than one node must pin the user's session to a node when this setting is enabled.
+     */
+    private int cacheThreshold;
+
+    /**
+     * Duration for which flow execution states are kept in the server-side cache.
+     */
+    @DurationCapable
+    private String cacheExpiration = "PT30M";
+
+    /**
+     * Maximum number of flow execution states that are kept in the server-side cache.
+     */
+    private long cacheMaximumSize = 100_000;
+}
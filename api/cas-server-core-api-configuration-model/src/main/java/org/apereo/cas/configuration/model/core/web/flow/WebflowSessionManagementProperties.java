@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 
@@ -64,4 +65,11 @@ public class WebflowSessionManagementProperties implements Serializable {
      * Only relevant if session storage is done on the server.
      */
     private transient Resource hzLocation = new ClassPathResource("hazelcast.xml");
+
+    /**
+     * Settings that control how flow execution state is encoded
+     * when sessions are stored on the client side.
+     */
+    @NestedConfigurationProperty
+    private WebflowClientSessionManagementProperties client = new WebflowClientSessionManagementProperties();
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.web.view;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -57,6 +58,21 @@ public class ViewProperties implements Serializable {
      */
     private List<String> templatePrefixes = new ArrayList<>(1);
 
+    /**
+     * Maximum number of template resolutions to remember,
+     * so that locating the template for a view, theme and locale
+     * does not have to consult every template location on every render.
+     * A value of zero or less turns off caching of template resolutions.
+     */
+    private long templateResolutionCacheSize = 1_000;
+
+    /**
+     * Duration after which a remembered template resolution expires
+     * and the template locations are consulted again.
+     */
+    @DurationCapable
+    private String templateResolutionCacheExpiration = "PT1M";
+
     /**
      * CAS1 views and locations.
      */
@@ -0,0 +1,54 @@
+package org.apereo.cas.configuration.model.support.consent;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link ConsentCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-support-consent-webflow")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("ConsentCacheProperties")
+public class ConsentCacheProperties implements Serializable {
+    private static final long serialVersionUID = 2873427815562306784L;
+
+    /**
+     * Whether consent decisions should be cached in memory, per principal,
+     * in front of the consent repository. Entries are invalidated locally
+     * when decisions are stored or deleted; other CAS server nodes
+     * pick up the change once the cached entry expires.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fixed duration for a cached entry to be automatically removed from the cache
+     * after its creation. This also bounds how long a change made on one node
+     * may remain invisible to other nodes.
+     */
+    @DurationCapable
+    private String duration = "PT1M";
+
+    /**
+     * Maximum number of principals whose consent decisions may be cached.
+     */
+    private long cacheSize = 10_000L;
+
+    /**
+     * Maximum number of services whose consent decisions may be cached
+     * for a single principal. Decisions for additional services are
+     * looked up in the consent repository every time.
+     */
+    private long maximumDecisionsPerPrincipal = 100L;
+}
@@ -108,6 +108,12 @@ public class ConsentProperties implements Serializable {
     @NestedConfigurationProperty
     private CouchDbConsentProperties couchDb = new CouchDbConsentProperties();
 
+    /**
+     * Caching settings for consent decisions.
+     */
+    @NestedConfigurationProperty
+    private ConsentCacheProperties cache = new ConsentCacheProperties();
+
     /**
      * Signing/encryption settings.
      */
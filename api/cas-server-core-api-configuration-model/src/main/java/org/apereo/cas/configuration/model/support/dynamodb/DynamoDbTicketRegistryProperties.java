@@ -47,6 +47,21 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
      */
     private String transientSessionTicketsTableName = "transientSessionTicketsTable";
 
+    /**
+     * Whether tickets should be written with an expiration timestamp
+     * and the time-to-live feature be turned on for ticket tables, allowing
+     * DynamoDb to remove expired tickets on its own. Note that DynamoDb
+     * removes expired items eventually, typically within a few days, and that
+     * ticket-granting tickets removed this way do not go through single logout.
+     */
+    private boolean timeToLiveEnabled = true;
+
+    /**
+     * Number of segments that are scanned in parallel when tickets
+     * are fetched or removed in bulk. Each segment is read page by page.
+     */
+    private int scanSegments = 4;
+
     /**
      * Crypto settings for the registry.
      */
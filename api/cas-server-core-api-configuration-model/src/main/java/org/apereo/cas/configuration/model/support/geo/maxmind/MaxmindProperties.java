@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.geo.maxmind;
 
 import org.apereo.cas.configuration.model.support.geo.BaseGeoLocationProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -34,4 +35,28 @@ public class MaxmindProperties extends BaseGeoLocationProperties {
      */
     @RequiredProperty
     private transient Resource countryDatabase;
+
+    /**
+     * Whether database files should be watched for changes,
+     * and reloaded once modified or replaced without a restart.
+     * Database files should be replaced atomically, i.e. by moving
+     * a complete file into place rather than writing over the existing file.
+     */
+    private boolean watcherEnabled = true;
+
+    /**
+     * Maximum number of decoded database records to keep in memory.
+     */
+    private int nodeCacheSize = 4096;
+
+    /**
+     * Maximum number of geo locations, resolved by ip address, to keep in memory.
+     */
+    private long cacheSize = 10_000L;
+
+    /**
+     * How long geo locations resolved by ip address should be kept in memory.
+     */
+    @DurationCapable
+    private String cacheExpiration = "PT1H";
 }
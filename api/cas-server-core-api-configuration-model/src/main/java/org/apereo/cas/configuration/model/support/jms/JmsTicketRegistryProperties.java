@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.jms;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -33,6 +34,20 @@ public class JmsTicketRegistryProperties implements Serializable {
      */
     private String queueIdentifier;
 
+    /**
+     * Maximum number of ticket changes that are sent together in a single message.
+     * Changes to the same ticket that are waiting to be sent are coalesced into its
+     * latest state. A value less than {@code 2} turns batching off, and every change
+     * is sent in its own message.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long a ticket change may wait for others to join its batch before the batch is sent.
+     */
+    @DurationCapable
+    private String batchLinger = "PT0.02S";
+
     /**
      * Crypto settings for the registry.
      */
@@ -37,9 +37,19 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
      * Ticket locking type. Acceptable values are
      * {@code READ,WRITE,OPTIMISTIC,OPTIMISTIC_FORCE_INCREMENT,PESSIMISTIC_READ,
      * PESSIMISTIC_WRITE,PESSIMISTIC_FORCE_INCREMENT,NONE}.
+     * Pessimistic lock types lock ticket rows as they are read.
+     * Optimistic lock types ({@code READ,WRITE,OPTIMISTIC,OPTIMISTIC_FORCE_INCREMENT}) read tickets
+     * without locking rows, and instead reject the update of a ticket that was changed
+     * by someone else since it was read, based on the ticket version.
      */
     private LockModeType ticketLockType = LockModeType.NONE;
 
+    /**
+     * Number of expired tickets that are removed by the registry cleaner with a single
+     * statement, when expired tickets are removed in bulk by their expiration time.
+     */
+    private int cleanerBatchSize = 500;
+
     /**
      * Indicates the lock duration when one is about to be acquired by the cleaner.
      */
@@ -80,6 +80,17 @@ public abstract class AbstractLdapProperties implements Serializable {
      */
     private boolean disablePooling;
 
+    /**
+     * Whether the connection pool should be shared with all other LDAP components
+     * that connect to the same LDAP servers with the same connection, bind, SSL and pool validation settings.
+     * A shared pool is created by the first component that asks for it, grows to the largest maximum pool size
+     * requested by the components that use it, and is closed once the last component that uses it is closed.
+     * Shared pools and their consumers are reported by the {@code ldapConnectionPools} actuator endpoint.
+     * Connection pools used to authenticate users via bind or compare operations are never shared,
+     * since their connections may be left bound as the authenticated user.
+     */
+    private boolean sharedPool;
+
     /**
      * Minimum LDAP connection pool size.
      * Size the pool should be initialized to and pruned to
@@ -28,6 +28,12 @@ public class MongoDbTicketRegistryProperties extends BaseMongoDbProperties {
      */
     private boolean dropCollection;
 
+    /**
+     * Number of ticket documents fetched from the server in each batch
+     * when tickets are streamed through a cursor.
+     */
+    private int cursorBatchSize = 100;
+
     /**
      * Crypto settings for the registry.
      */
@@ -28,6 +28,8 @@ public class OidcJsonWebKeystoreProperties implements Serializable {
 
     /**
      * Timeout that indicates how long should the JWKS file be kept in cache.
+     * Once elapsed, the JWKS file is reloaded in the background on the next request
+     * while the cached signing key continues to be used until the reload completes.
      */
     private int jwksCacheInMinutes = 60;
 
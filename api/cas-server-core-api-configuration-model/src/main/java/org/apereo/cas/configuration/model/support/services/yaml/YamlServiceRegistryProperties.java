@@ -31,6 +31,13 @@ public class YamlServiceRegistryProperties extends SpringResourceProperties {
      */
     private boolean watcherEnabled = true;
 
+    /**
+     * Maximum number of service definition files that are parsed in parallel
+     * when the registry is loaded. Files that have not changed since the previous
+     * load are not parsed again. A value of zero or less parses files sequentially.
+     */
+    private int loadParallelism = Runtime.getRuntime().availableProcessors();
+
     public YamlServiceRegistryProperties() {
         setLocation(new ClassPathResource("services"));
     }
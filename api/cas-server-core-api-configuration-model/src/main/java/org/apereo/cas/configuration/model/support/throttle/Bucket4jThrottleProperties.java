@@ -8,6 +8,10 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Configuration properties class for cas.throttle.
@@ -43,4 +47,64 @@ public class Bucket4jThrottleProperties implements Serializable {
      * Whether the request should block until capacity becomes available.
      */
     private boolean blocking = true;
+
+    /**
+     * Request attributes used to key buckets, so that each distinct combination
+     * of values gets its own bucket. When left empty, all requests share a single bucket.
+     */
+    private List<BucketKeyTypes> keys = new ArrayList<>(0);
+
+    /**
+     * Name of the JCache cache that holds the state of buckets. When defined,
+     * buckets are kept in the cache rather than in local memory, so that limits
+     * are enforced across all CAS nodes that share the cache.
+     * The cache is created if it does not exist.
+     */
+    private String cacheName;
+
+    /**
+     * Fully-qualified class name of the JCache caching provider that should manage the cache,
+     * such as the provider shipped with Hazelcast, Redisson or Ehcache.
+     * If undefined, the default caching provider found on the classpath is used.
+     */
+    private String cacheProvider;
+
+    /**
+     * URI of the configuration that is handed over to the JCache caching provider.
+     * If undefined, the default configuration of the caching provider is used.
+     */
+    private String cacheUri;
+
+    /**
+     * Additional properties handed over to the JCache caching provider
+     * when the cache manager is obtained, such as {@code hazelcast.config.location}
+     * or {@code hazelcast.instance.name} for Hazelcast.
+     */
+    private Map<String, String> cacheProperties = new HashMap<>(0);
+
+    /**
+     * Number of tokens each node takes at once from a bucket held in the JCache cache
+     * and hands out locally, so that keys well under the limit do not require a remote
+     * call per request. Tokens taken by a node are only usable by that node.
+     * A value of one or less consumes tokens from the cache on each request.
+     */
+    private long leaseSize = 10;
+
+    /**
+     * Request attributes that can be used to key buckets.
+     */
+    public enum BucketKeyTypes {
+        /**
+         * Client IP address.
+         */
+        IP_ADDRESS,
+        /**
+         * Username submitted with the request.
+         */
+        USERNAME,
+        /**
+         * Service submitted with the request.
+         */
+        SERVICE
+    }
 }
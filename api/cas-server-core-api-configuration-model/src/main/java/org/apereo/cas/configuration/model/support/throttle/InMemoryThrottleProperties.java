@@ -0,0 +1,33 @@
+package org.apereo.cas.configuration.model.support.throttle;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * Configuration properties class for in-memory throttling.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-support-throttle")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("InMemoryThrottleProperties")
+public class InMemoryThrottleProperties implements Serializable {
+    private static final long serialVersionUID = -2281942537846372431L;
+
+    /**
+     * Maximum number of throttling keys (i.e. IP addresses, or IP addresses and usernames)
+     * whose failures are tracked in memory. Once the limit is reached, records that are
+     * least likely to be used again are evicted, which keeps memory usage fixed
+     * when failures arrive from a very large number of sources.
+     */
+    private long capacity = 1_000_000L;
+}
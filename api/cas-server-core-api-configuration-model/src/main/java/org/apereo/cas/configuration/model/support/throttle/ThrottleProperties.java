@@ -53,6 +53,12 @@ public class ThrottleProperties implements Serializable {
     @NestedConfigurationProperty
     private Bucket4jThrottleProperties bucket4j = new Bucket4jThrottleProperties();
 
+    /**
+     * Settings related to throttling requests in memory.
+     */
+    @NestedConfigurationProperty
+    private InMemoryThrottleProperties inMemory = new InMemoryThrottleProperties();
+
     /**
      * Settings related to throttling requests using hazelcast.
      */
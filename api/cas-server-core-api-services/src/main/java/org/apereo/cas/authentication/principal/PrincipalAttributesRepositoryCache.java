@@ -2,8 +2,11 @@ package org.apereo.cas.authentication.principal;
 
 import org.apereo.cas.services.RegisteredService;
 
+import lombok.val;
+
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * This is {@link PrincipalAttributesRepositoryCache}.
@@ -34,6 +37,31 @@ public interface PrincipalAttributesRepositoryCache {
                                               RegisteredServicePrincipalAttributesRepository repository,
                                               Principal principal);
 
+    /**
+     * Fetch attributes from the cache, or load and cache them
+     * via the given loader if none are found.
+     * Implementations should guarantee that concurrent requests
+     * for the same principal and service trigger a single load.
+     *
+     * @param registeredService the registered service
+     * @param repository        the repository
+     * @param principal         the principal
+     * @param loader            the loader to fetch attributes from the source
+     * @return the map
+     */
+    default Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
+                                                      final RegisteredServicePrincipalAttributesRepository repository,
+                                                      final Principal principal,
+                                                      final Function<Principal, Map<String, List<Object>>> loader) {
+        val cachedAttributes = fetchAttributes(registeredService, repository, principal);
+        if (cachedAttributes != null && !cachedAttributes.isEmpty()) {
+            return cachedAttributes;
+        }
+        val attributes = loader.apply(principal);
+        putAttributes(registeredService, repository, principal.getId(), attributes);
+        return attributes;
+    }
+
     /**
      * Put attributes.
      *
@@ -3,7 +3,9 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.ticket.Ticket;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -25,6 +27,16 @@ public interface TicketRegistry {
      */
     void addTicket(Ticket ticket);
 
+    /**
+     * Add tickets to the registry.
+     * Implementations may override this to store all tickets in a single round trip.
+     *
+     * @param tickets the tickets to add
+     */
+    default void addTickets(final Collection<? extends Ticket> tickets) {
+        tickets.forEach(this::addTicket);
+    }
+
     /**
      * Retrieve a ticket from the registry. If the ticket retrieved does not
      * match the expected class, an InvalidTicketException is thrown.
@@ -53,6 +65,21 @@ public interface TicketRegistry {
      */
     Ticket getTicket(String ticketId, Predicate<Ticket> predicate);
 
+    /**
+     * Retrieve tickets from the registry by their ids.
+     * Tickets that cannot be found or have expired are not returned.
+     * Implementations may override this to fetch all tickets in a single round trip.
+     *
+     * @param ticketIds the ids of the tickets we wish to retrieve
+     * @return the tickets that were found
+     */
+    default Collection<? extends Ticket> getTickets(final Collection<String> ticketIds) {
+        return ticketIds.stream()
+            .map(this::getTicket)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Remove a specific ticket from the registry.
      * If ticket to delete is TGT then related service tickets are removed as well.
@@ -71,6 +98,17 @@ public interface TicketRegistry {
      */
     int deleteTicket(Ticket ticketId);
 
+    /**
+     * Remove tickets from the registry by their ids.
+     * As with single removals, related tickets of ticket-granting tickets are removed as well.
+     *
+     * @param ticketIds the ids of the tickets to delete
+     * @return the number of tickets deleted including children.
+     */
+    default int deleteTickets(final Collection<String> ticketIds) {
+        return ticketIds.stream().mapToInt(this::deleteTicket).sum();
+    }
+
     /**
      * Delete all tickets from the registry.
      *
@@ -199,6 +199,24 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
 
         val result = handler.authenticate(credential);
+        handleAuthenticationHandlerExecutionResult(builder, credential, resolver, handler, result);
+    }
+
+    /**
+     * Record the successful result of an authentication handler and resolve the principal.
+     *
+     * @param builder    the builder
+     * @param credential the credential
+     * @param resolver   the resolver
+     * @param handler    the handler
+     * @param result     the result produced by the handler
+     * @throws GeneralSecurityException the general security exception
+     */
+    protected void handleAuthenticationHandlerExecutionResult(final AuthenticationBuilder builder,
+                                                              final Credential credential,
+                                                              final PrincipalResolver resolver,
+                                                              final AuthenticationHandler handler,
+                                                              final AuthenticationHandlerExecutionResult result) throws GeneralSecurityException {
         val authenticationHandlerName = handler.getName();
         builder.addSuccess(authenticationHandlerName, result);
         LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
@@ -290,38 +308,7 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
             while (it.hasNext()) {
                 val credential = it.next();
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
-
-                val itHandlers = handlerSet.iterator();
-                var proceedWithNextHandler = true;
-                while (proceedWithNextHandler && itHandlers.hasNext()) {
-                    val handler = itHandlers.next();
-                    if (handler.supports(credential)) {
-                        try {
-                            val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
-                            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
-                            authenticateAndResolvePrincipal(builder, credential, resolver, handler);
-
-                            val authnResult = builder.build();
-                            AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
-                            val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
-                            proceedWithNextHandler = !executionResult.isSuccess();
-                        } catch (final GeneralSecurityException e) {
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
-                        } catch (final Exception e) {
-                            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
-                                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
-                                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
-                                + "the authentication event.", credential, credential.getClass().getSimpleName());
-
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
-                        }
-                    } else {
-                        LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
-                            handler.getName(), credential);
-                    }
-                }
+                authenticateCredential(transaction, builder, credential, handlerSet);
             }
             evaluateFinalAuthentication(builder, transaction, handlerSet);
             return builder;
@@ -330,6 +317,81 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    /**
+     * Authenticate the credential with the authentication handlers that support it, one after another,
+     * until the authentication policy is satisfied or a failure does not allow the chain to proceed.
+     *
+     * @param transaction the transaction
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param handlerSet  the authentication handlers
+     */
+    protected void authenticateCredential(final AuthenticationTransaction transaction,
+                                          final AuthenticationBuilder builder,
+                                          final Credential credential,
+                                          final Set<AuthenticationHandler> handlerSet) {
+        val itHandlers = handlerSet.iterator();
+        var proceedWithNextHandler = true;
+        while (proceedWithNextHandler && itHandlers.hasNext()) {
+            val handler = itHandlers.next();
+            if (handler.supports(credential)) {
+                try {
+                    val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                    LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+                    authenticateAndResolvePrincipal(builder, credential, resolver, handler);
+                    proceedWithNextHandler = !isAuthenticationPolicySatisfied(transaction, builder, handlerSet);
+                } catch (final Exception e) {
+                    proceedWithNextHandler = handleAuthenticationHandlerFailure(transaction, builder, credential, handler, e);
+                }
+            } else {
+                LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
+                    handler.getName(), credential);
+            }
+        }
+    }
+
+    /**
+     * Bind the authentication produced so far as in progress,
+     * and evaluate whether it satisfies the authentication policies.
+     *
+     * @param transaction the transaction
+     * @param builder     the builder
+     * @param handlerSet  the authentication handlers
+     * @return true if authentication policies are satisfied
+     */
+    protected boolean isAuthenticationPolicySatisfied(final AuthenticationTransaction transaction,
+                                                      final AuthenticationBuilder builder,
+                                                      final Set<AuthenticationHandler> handlerSet) {
+        val authnResult = builder.build();
+        AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
+        return evaluateAuthenticationPolicies(authnResult, transaction, handlerSet).isSuccess();
+    }
+
+    /**
+     * Record the failure of an authentication handler.
+     *
+     * @param transaction the transaction
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param handler     the handler
+     * @param failure     the failure
+     * @return true if authentication should proceed with the next handler
+     */
+    protected boolean handleAuthenticationHandlerFailure(final AuthenticationTransaction transaction,
+                                                         final AuthenticationBuilder builder,
+                                                         final Credential credential,
+                                                         final AuthenticationHandler handler,
+                                                         final Throwable failure) {
+        if (!(failure instanceof GeneralSecurityException)) {
+            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+                + "the authentication event.", credential, credential.getClass().getSimpleName());
+        }
+        handleAuthenticationException(failure, handler.getName(), builder);
+        return shouldAuthenticationChainProceedOnFailure(transaction, failure);
+    }
+
     /**
      * Evaluate produced authentication context.
      * We apply an implicit security policy of at least one successful authentication.
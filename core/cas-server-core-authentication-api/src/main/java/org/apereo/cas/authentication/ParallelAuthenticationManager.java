@@ -0,0 +1,196 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionStartedEvent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link ParallelAuthenticationManager}.
+ * Executes all authentication handlers that support a credential concurrently, and evaluates
+ * their results in the order in which they complete. Results are recorded and principals are resolved
+ * on the thread that carries out the authentication transaction, exactly as if handlers ran one after another;
+ * once the authentication policy is satisfied or a failure does not allow the chain to proceed,
+ * handlers that are still running are cancelled and their results are ignored.
+ * Handlers observe the credentials and authentication bound to the thread at the time they are submitted.
+ * The timeout of each handler is measured from the moment it begins to run, so that handlers
+ * waiting for a thread are not reported as unresponsive; executors that reject work once saturated
+ * may run the handler on the calling thread instead.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@Getter
+@Setter
+public class ParallelAuthenticationManager extends DefaultAuthenticationManager implements AutoCloseable {
+    private final ExecutorService executorService;
+
+    private Duration timeout = Duration.ofSeconds(10);
+
+    public ParallelAuthenticationManager(final AuthenticationEventExecutionPlan authenticationEventExecutionPlan,
+                                         final boolean principalResolutionFailureFatal,
+                                         final ConfigurableApplicationContext applicationContext,
+                                         final ExecutorService executorService) {
+        super(authenticationEventExecutionPlan, principalResolutionFailureFatal, applicationContext);
+        this.executorService = executorService;
+    }
+
+    private static AuthenticationHandlerExecutionResult execute(final AuthenticationHandler handler,
+                                                                final Credential credential,
+                                                                final Collection<Credential> credentials,
+                                                                final Authentication currentAuthentication,
+                                                                final AuthenticationBuilder currentBuilder,
+                                                                final Authentication inProgressAuthentication) throws Exception {
+        AuthenticationCredentialsThreadLocalBinder.bindCurrent(credentials);
+        AuthenticationCredentialsThreadLocalBinder.bindCurrent(currentAuthentication);
+        AuthenticationCredentialsThreadLocalBinder.bindCurrent(currentBuilder);
+        AuthenticationCredentialsThreadLocalBinder.bindInProgress(inProgressAuthentication);
+        try {
+            return handler.authenticate(credential);
+        } finally {
+            AuthenticationCredentialsThreadLocalBinder.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    protected void authenticateCredential(final AuthenticationTransaction transaction,
+                                          final AuthenticationBuilder builder,
+                                          final Credential credential,
+                                          final Set<AuthenticationHandler> handlerSet) {
+        val supportingHandlers = handlerSet
+            .stream()
+            .filter(handler -> handler.supports(credential))
+            .collect(Collectors.toList());
+        if (supportingHandlers.size() <= 1) {
+            super.authenticateCredential(transaction, builder, credential, handlerSet);
+            return;
+        }
+
+        val credentials = transaction.getCredentials();
+        val currentAuthentication = AuthenticationCredentialsThreadLocalBinder.getCurrentAuthentication();
+        val currentBuilder = AuthenticationCredentialsThreadLocalBinder.getCurrentAuthenticationBuilder();
+        val inProgressAuthentication = AuthenticationCredentialsThreadLocalBinder.getInProgressAuthentication();
+
+        val callerThread = Thread.currentThread();
+        val completionService = new ExecutorCompletionService<AuthenticationHandlerExecutionResult>(executorService);
+        val executions = new LinkedHashMap<Future<AuthenticationHandlerExecutionResult>, HandlerExecution>();
+        supportingHandlers.forEach(handler -> {
+            LOGGER.debug("Submitting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+            publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
+            val execution = new HandlerExecution(handler);
+            executions.put(completionService.submit(() -> {
+                execution.start();
+                if (Thread.currentThread() == callerThread) {
+                    return handler.authenticate(credential);
+                }
+                return execute(handler, credential, credentials, currentAuthentication, currentBuilder, inProgressAuthentication);
+            }), execution);
+        });
+
+        val timedOut = new HashSet<Future<AuthenticationHandlerExecutionResult>>();
+        try {
+            var proceedWithNextHandler = true;
+            var pending = executions.size();
+            while (proceedWithNextHandler && pending > 0) {
+                val now = System.nanoTime();
+                val deadline = executions.entrySet()
+                    .stream()
+                    .filter(entry -> !entry.getKey().isDone())
+                    .mapToLong(entry -> entry.getValue().getDeadline(now, timeout))
+                    .min()
+                    .orElse(now);
+                val execution = completionService.poll(Math.max(0, deadline - now), TimeUnit.NANOSECONDS);
+                if (execution == null) {
+                    val expired = System.nanoTime();
+                    for (val entry : executions.entrySet()) {
+                        val future = entry.getKey();
+                        val handler = entry.getValue().getHandler();
+                        if (!future.isDone() && entry.getValue().getDeadline(expired, timeout) - expired <= 0) {
+                            LOGGER.warn("Authentication handler [{}] did not respond within [{}]", handler.getName(), timeout);
+                            timedOut.add(future);
+                            future.cancel(true);
+                            pending--;
+                            handleAuthenticationException(new PreventedException("Authentication handler "
+                                + handler.getName() + " did not respond within " + timeout), handler.getName(), builder);
+                        }
+                    }
+                    continue;
+                }
+                if (timedOut.contains(execution)) {
+                    continue;
+                }
+                pending--;
+                proceedWithNextHandler = handleAuthenticationHandlerExecution(transaction, builder, credential,
+                    handlerSet, executions.get(execution).getHandler(), execution);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Authentication of [{}] was interrupted", credential.getId());
+        } finally {
+            executions.keySet().forEach(future -> future.cancel(true));
+        }
+    }
+
+    private boolean handleAuthenticationHandlerExecution(final AuthenticationTransaction transaction,
+                                                         final AuthenticationBuilder builder,
+                                                         final Credential credential,
+                                                         final Set<AuthenticationHandler> handlerSet,
+                                                         final AuthenticationHandler handler,
+                                                         final Future<AuthenticationHandlerExecutionResult> execution) {
+        try {
+            val result = execution.get();
+            val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+            handleAuthenticationHandlerExecutionResult(builder, credential, resolver, handler, result);
+            return !isAuthenticationPolicySatisfied(transaction, builder, handlerSet);
+        } catch (final ExecutionException e) {
+            return handleAuthenticationHandlerFailure(transaction, builder, credential, handler, e.getCause());
+        } catch (final Exception e) {
+            return handleAuthenticationHandlerFailure(transaction, builder, credential, handler, e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class HandlerExecution {
+        @Getter
+        private final AuthenticationHandler handler;
+
+        private volatile boolean started;
+
+        private volatile long startedAt;
+
+        void start() {
+            startedAt = System.nanoTime();
+            started = true;
+        }
+
+        /**
+         * Handlers that are still waiting for a thread are not timed out,
+         * as the timeout only starts once the handler begins to run.
+         */
+        long getDeadline(final long now, final Duration timeout) {
+            return started ? startedAt + timeout.toNanos() : now + timeout.toNanos();
+        }
+    }
+}
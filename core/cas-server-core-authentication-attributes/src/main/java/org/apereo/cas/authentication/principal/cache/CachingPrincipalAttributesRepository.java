@@ -15,7 +15,6 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -54,15 +53,22 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
 
     @Override
     public Map<String, List<Object>> getAttributes(final Principal principal, final RegisteredService registeredService) {
+        return ApplicationContextProvider.getPrincipalAttributesRepositoryCache()
+            .map(cache -> cache.fetchAttributes(registeredService, this, principal, this::resolvePrincipalAttributes))
+            .orElseGet(() -> resolvePrincipalAttributes(principal));
+    }
+
+    /**
+     * Resolve principal attributes from the principal and the attribute repository,
+     * merged based on the merging strategy.
+     *
+     * @param principal the principal
+     * @return the map
+     */
+    protected Map<String, List<Object>> resolvePrincipalAttributes(final Principal principal) {
         val mergeStrategy = determineMergingStrategy();
         LOGGER.trace("Determined merging strategy as [{}]", mergeStrategy);
 
-        val cachedAttributes = fetchCachedPrincipalAttributes(principal, registeredService);
-        if (cachedAttributes != null && !cachedAttributes.isEmpty()) {
-            LOGGER.debug("Found [{}] cached attributes for principal [{}] that are [{}]", cachedAttributes.size(), principal.getId(), cachedAttributes);
-            return cachedAttributes;
-        }
-
         val principalAttributes = getPrincipalAttributes(principal);
         LOGGER.trace("Principal attributes extracted for [{}] are [{}]", principal.getId(), principalAttributes);
 
@@ -73,9 +79,9 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
             LOGGER.debug("Merging current principal attributes with that of the repository via strategy [{}]", mergeStrategy);
             val mergedAttributes = CoreAuthenticationUtils.getAttributeMerger(mergeStrategy)
                 .mergeAttributes(principalAttributes, personDirectoryAttributes);
-            return convertAttributesToPrincipalAttributesAndCache(principal, mergedAttributes, registeredService);
+            return convertPersonAttributesToPrincipalAttributes(mergedAttributes);
         }
-        return convertAttributesToPrincipalAttributesAndCache(principal, principalAttributes, registeredService);
+        return convertPersonAttributesToPrincipalAttributes(principalAttributes);
     }
 
     @Override
@@ -87,17 +93,4 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
                 LOGGER.trace("Cached attributes for [{}] and [{}]", id, registeredService.getName());
             });
     }
-
-    /**
-     * Gets cached principal attributes.
-     *
-     * @param principal         the principal
-     * @param registeredService the registered service
-     * @return the cached principal attributes
-     */
-    protected Map<String, List<Object>> fetchCachedPrincipalAttributes(final Principal principal, final RegisteredService registeredService) {
-        return ApplicationContextProvider.getPrincipalAttributesRepositoryCache()
-            .map(cache -> cache.fetchAttributes(registeredService, this, principal))
-            .orElse(new HashMap<>(0));
-    }
 }
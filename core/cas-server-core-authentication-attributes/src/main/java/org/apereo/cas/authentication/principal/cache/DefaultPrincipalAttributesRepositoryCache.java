@@ -3,65 +3,113 @@ package org.apereo.cas.authentication.principal.cache;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesRepositoryCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Closeable;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * Attributes for all registered services are kept in a single concurrent cache
+ * that is bounded by a global weight, where the weight of an entry is the number of attribute values.
+ * Each registered service is also held to its own weight budget, and each entry expires
+ * according to the policy of the repository that produced it. Concurrent requests
+ * to load attributes for the same principal and service result in a single load.
+ * Empty results are never cached, since they typically indicate that the attribute source
+ * could not be reached; stale attributes are refreshed on a dedicated, bounded thread pool.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @Slf4j
 public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttributesRepositoryCache, Closeable {
-    private static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
-
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
+    private final Map<String, AtomicLong> registeredServiceWeights = new ConcurrentHashMap<>();
 
-    /**
-     * Build registered service cache key string.
-     *
-     * @param registeredService the registered service
-     * @return the string
-     */
-    private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + '@' + registeredService.getName();
-        return DigestUtils.sha512(key);
+    private final Cache<PrincipalAttributesCacheKey, CachedPrincipalAttributes> cache;
+
+    private final long maximumWeightPerService;
+
+    private final long staleWhileRevalidateNanos;
+
+    private final ExecutorService revalidationExecutor;
+
+    public DefaultPrincipalAttributesRepositoryCache() {
+        this(new PrincipalAttributesRepositoryCacheProperties());
     }
 
-    /**
-     * Initialize cache cache.
-     *
-     * @param repository the repository
-     * @return the cache
-     */
-    private static Cache<String, Map<String, List<Object>>> initializeCache(final RegisteredServicePrincipalAttributesRepository repository) {
+    public DefaultPrincipalAttributesRepositoryCache(final PrincipalAttributesRepositoryCacheProperties properties) {
+        this.maximumWeightPerService = properties.getMaximumWeightPerService();
+        this.staleWhileRevalidateNanos = StringUtils.isBlank(properties.getStaleWhileRevalidate())
+            ? 0
+            : Beans.newDuration(properties.getStaleWhileRevalidate()).toNanos();
+        val poolSize = Math.max(1, properties.getRevalidationPoolSize());
+        this.revalidationExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(Math.max(1, properties.getRevalidationQueueSize())), r -> {
+                val thread = new Thread(r, "PrincipalAttributesRevalidationThread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumWeight())
+            .weigher((PrincipalAttributesCacheKey key, CachedPrincipalAttributes value) -> value.getWeight())
+            .expireAfter(new CachedPrincipalAttributesExpiry())
+            .removalListener((RemovalListener<PrincipalAttributesCacheKey, CachedPrincipalAttributes>) (key, value, cause) -> {
+                LOGGER.trace("Removing cached attributes for [{}]; removal cause is [{}]", key, cause);
+                if (key != null && value != null) {
+                    getRegisteredServiceWeight(key).addAndGet(-value.getWeight());
+                }
+            })
+            .build();
+    }
+
+    private static PrincipalAttributesCacheKey buildCacheKey(final RegisteredService registeredService, final String principalId) {
+        return new PrincipalAttributesCacheKey(registeredService.getId() + "@" + registeredService.getName(), principalId);
+    }
+
+    private static long getExpirationInNanos(final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = CachingPrincipalAttributesRepository.class.cast(repository);
         val unit = TimeUnit.valueOf(StringUtils.defaultString(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
-        return Caffeine.newBuilder()
-            .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        return Math.max(0, unit.toNanos(cachedRepository.getExpiration()));
+    }
+
+    private static Map<String, List<Object>> newAttributesMap() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     }
 
     @Override
     public void close() {
+        revalidationExecutor.shutdownNow();
         invalidate();
     }
 
@@ -70,44 +118,171 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
      */
     @Override
     public void invalidate() {
-        registeredServicesCache.values().forEach(Cache::invalidateAll);
+        cache.invalidateAll();
     }
 
     @Override
     public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
                                                      final RegisteredServicePrincipalAttributesRepository repository,
                                                      final Principal principal) {
-        val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        return cache.get(principal.getId(), s -> {
+        val cachedAttributes = cache.getIfPresent(buildCacheKey(registeredService, principal.getId()));
+        if (cachedAttributes == null) {
             LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
-            return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            return newAttributesMap();
+        }
+        return cachedAttributes.getAttributes();
+    }
+
+    @Override
+    public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
+                                                     final RegisteredServicePrincipalAttributesRepository repository,
+                                                     final Principal principal,
+                                                     final Function<Principal, Map<String, List<Object>>> loader) {
+        val key = buildCacheKey(registeredService, principal.getId());
+        val cachedAttributes = cache.getIfPresent(key);
+        if (cachedAttributes != null) {
+            revalidateIfStale(key, cachedAttributes, repository, principal, loader);
+            return cachedAttributes.getAttributes();
+        }
+        if (isWeightBudgetExceeded(key)) {
+            LOGGER.debug("Cache weight budget for [{}] is exhausted; attributes for [{}] will not be cached",
+                registeredService.getName(), principal.getId());
+            return Optional.ofNullable(loader.apply(principal)).orElseGet(DefaultPrincipalAttributesRepositoryCache::newAttributesMap);
+        }
+        val uncached = new AtomicReference<Map<String, List<Object>>>();
+        val loaded = cache.get(key, k -> {
+            LOGGER.debug("No cached attributes could be found for [{}]; fetching attributes from source", principal.getId());
+            val attributes = loader.apply(principal);
+            uncached.set(attributes);
+            return newCachedPrincipalAttributes(k, repository, attributes);
         });
+        return Optional.ofNullable(loaded)
+            .map(CachedPrincipalAttributes::getAttributes)
+            .or(() -> Optional.ofNullable(uncached.get()))
+            .orElseGet(DefaultPrincipalAttributesRepositoryCache::newAttributesMap);
     }
 
     @Override
     public void putAttributes(final RegisteredService registeredService,
                               final RegisteredServicePrincipalAttributesRepository repository,
                               final String id, final Map<String, List<Object>> attributes) {
-        val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        cache.put(id, attributes);
+        val key = buildCacheKey(registeredService, id);
+        if (attributes == null || attributes.isEmpty()) {
+            LOGGER.debug("No attributes are provided for [{}]; removing cached attributes", id);
+            cache.invalidate(key);
+            return;
+        }
+        if (isWeightBudgetExceeded(key) && cache.getIfPresent(key) == null) {
+            LOGGER.debug("Cache weight budget for [{}] is exhausted; attributes for [{}] will not be cached",
+                registeredService.getName(), id);
+            return;
+        }
+        val value = newCachedPrincipalAttributes(key, repository, attributes);
+        if (value != null) {
+            cache.put(key, value);
+        }
     }
 
-    /**
-     * Gets registered service cache instance.
-     *
-     * @param registeredService the registered service
-     * @param repository        the repository
-     * @return the registered service cache instance
-     */
-    private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
-        final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
-        
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+    private CachedPrincipalAttributes newCachedPrincipalAttributes(final PrincipalAttributesCacheKey key,
+                                                                   final RegisteredServicePrincipalAttributesRepository repository,
+                                                                   final Map<String, List<Object>> attributes) {
+        if (attributes == null || attributes.isEmpty()) {
+            LOGGER.trace("Empty attributes for [{}] will not be cached", key);
+            return null;
+        }
+        val value = new CachedPrincipalAttributes(attributes, getExpirationInNanos(repository));
+        getRegisteredServiceWeight(key).addAndGet(value.getWeight());
+        return value;
+    }
+
+    private void revalidateIfStale(final PrincipalAttributesCacheKey key,
+                                   final CachedPrincipalAttributes cachedAttributes,
+                                   final RegisteredServicePrincipalAttributesRepository repository,
+                                   final Principal principal,
+                                   final Function<Principal, Map<String, List<Object>>> loader) {
+        if (staleWhileRevalidateNanos <= 0
+            || System.nanoTime() - cachedAttributes.getCreationTime() < staleWhileRevalidateNanos
+            || !cachedAttributes.getRevalidating().compareAndSet(false, true)) {
+            return;
+        }
+        LOGGER.debug("Cached attributes for [{}] are stale; refreshing attributes in the background", principal.getId());
+        try {
+            CompletableFuture.supplyAsync(() -> loader.apply(principal), revalidationExecutor)
+                .whenComplete((attributes, error) -> {
+                    if (error != null) {
+                        LoggingUtils.warn(LOGGER, error);
+                    }
+                    val refreshed = error == null ? newCachedPrincipalAttributes(key, repository, attributes) : null;
+                    if (refreshed == null || !cache.asMap().replace(key, cachedAttributes, refreshed)) {
+                        if (refreshed != null) {
+                            getRegisteredServiceWeight(key).addAndGet(-refreshed.getWeight());
+                        }
+                        cachedAttributes.getRevalidating().set(false);
+                    }
+                });
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Unable to schedule refreshing attributes for [{}]; stale attributes will be served", principal.getId());
+            cachedAttributes.getRevalidating().set(false);
+        }
+    }
+
+    private boolean isWeightBudgetExceeded(final PrincipalAttributesCacheKey key) {
+        return getRegisteredServiceWeight(key).get() >= maximumWeightPerService;
+    }
+
+    private AtomicLong getRegisteredServiceWeight(final PrincipalAttributesCacheKey key) {
+        return registeredServiceWeights.computeIfAbsent(key.getRegisteredServiceKey(), k -> new AtomicLong());
+    }
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class PrincipalAttributesCacheKey {
+        private final String registeredServiceKey;
+
+        private final String principalId;
+    }
+
+    @Getter
+    private static class CachedPrincipalAttributes {
+        private final Map<String, List<Object>> attributes;
+
+        private final long expirationNanos;
+
+        private final long creationTime = System.nanoTime();
+
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        private final int weight;
+
+        CachedPrincipalAttributes(final Map<String, List<Object>> attributes, final long expirationNanos) {
+            this.attributes = attributes;
+            this.expirationNanos = expirationNanos;
+            this.weight = 1 + attributes.values()
+                .stream()
+                .mapToInt(values -> values == null ? 0 : values.size())
+                .sum();
+        }
+    }
+
+    private static class CachedPrincipalAttributesExpiry implements Expiry<PrincipalAttributesCacheKey, CachedPrincipalAttributes> {
+        @Override
+        public long expireAfterCreate(final PrincipalAttributesCacheKey key, final CachedPrincipalAttributes value,
+                                      final long currentTime) {
+            return value.getExpirationNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final PrincipalAttributesCacheKey key, final CachedPrincipalAttributes value,
+                                      final long currentTime, final long currentDuration) {
+            return value.getExpirationNanos();
+        }
+
+        @Override
+        public long expireAfterRead(final PrincipalAttributesCacheKey key, final CachedPrincipalAttributes value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
     }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicyTests;
+import org.apereo.cas.authentication.principal.cache.DefaultPrincipalAttributesRepositoryCacheTests;
 import org.apereo.cas.services.ChainingAttributeReleasePolicyTests;
 import org.apereo.cas.services.DefaultRegisteredServiceAcceptableUsagePolicyTests;
 import org.apereo.cas.services.DenyAllAttributeReleasePolicyTests;
@@ -37,7 +38,8 @@ import org.junit.runner.RunWith;
     ChainingAttributeReleasePolicyTests.class,
     ChainingRegisteredServiceConsentPolicyTests.class,
     DefaultRegisteredServiceAcceptableUsagePolicyTests.class,
-    DefaultRegisteredServiceConsentPolicyTests.class
+    DefaultRegisteredServiceConsentPolicyTests.class,
+    DefaultPrincipalAttributesRepositoryCacheTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllAuthenticationAttributesTestsSuite {
@@ -0,0 +1,183 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.CoreAttributesTestUtils;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesRepositoryCacheProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultPrincipalAttributesRepositoryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Attributes")
+public class DefaultPrincipalAttributesRepositoryCacheTests {
+
+    private static Function<Principal, Map<String, List<Object>>> countingLoader(final AtomicInteger counter) {
+        return principal -> {
+            counter.incrementAndGet();
+            return Map.of("uid", List.of(principal.getId()), "count", List.of(counter.get()));
+        };
+    }
+
+    @Test
+    public void verifySingleLoadForConcurrentRequests() throws Exception {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", Map.of());
+
+        val calls = new AtomicInteger();
+        val started = new CountDownLatch(1);
+        val loader = (Function<Principal, Map<String, List<Object>>>) p -> {
+            calls.incrementAndGet();
+            try {
+                started.await(5, TimeUnit.SECONDS);
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of("uid", List.of(p.getId()));
+        };
+
+        val executor = Executors.newFixedThreadPool(16);
+        try {
+            val tasks = IntStream.range(0, 16)
+                .mapToObj(i -> (Callable<Map<String, List<Object>>>) () ->
+                    cache.fetchAttributes(registeredService, repository, principal, loader))
+                .collect(Collectors.toList());
+            val futures = tasks.stream().map(executor::submit).collect(Collectors.toList());
+            started.countDown();
+            for (val future : futures) {
+                assertEquals(List.of("casuser"), future.get().get("uid"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertFalse(cache.fetchAttributes(registeredService, repository, principal).isEmpty());
+    }
+
+    @Test
+    public void verifyPerServiceWeightBudget() {
+        val properties = new PrincipalAttributesRepositoryCacheProperties().setMaximumWeightPerService(3);
+        val cache = new DefaultPrincipalAttributesRepositoryCache(properties);
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        val calls = new AtomicInteger();
+
+        val first = CoreAttributesTestUtils.getPrincipal("first", Map.of());
+        cache.fetchAttributes(registeredService, repository, first, countingLoader(calls));
+        cache.fetchAttributes(registeredService, repository, first, countingLoader(calls));
+        assertEquals(1, calls.get());
+
+        val second = CoreAttributesTestUtils.getPrincipal("second", Map.of());
+        cache.fetchAttributes(registeredService, repository, second, countingLoader(calls));
+        cache.fetchAttributes(registeredService, repository, second, countingLoader(calls));
+        assertEquals(3, calls.get());
+        assertTrue(cache.fetchAttributes(registeredService, repository, second).isEmpty());
+
+        cache.invalidate();
+        assertTrue(cache.fetchAttributes(registeredService, repository, first).isEmpty());
+    }
+
+    @Test
+    public void verifyStaleWhileRevalidate() throws Exception {
+        val properties = new PrincipalAttributesRepositoryCacheProperties().setStaleWhileRevalidate("PT0.05S");
+        val cache = new DefaultPrincipalAttributesRepositoryCache(properties);
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", Map.of());
+        val calls = new AtomicInteger();
+
+        var attributes = cache.fetchAttributes(registeredService, repository, principal, countingLoader(calls));
+        assertEquals(List.of(1), attributes.get("count"));
+        Thread.sleep(100);
+        attributes = cache.fetchAttributes(registeredService, repository, principal, countingLoader(calls));
+        assertEquals(List.of(1), attributes.get("count"));
+
+        val deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline
+            && List.of(1).equals(cache.fetchAttributes(registeredService, repository, principal).get("count"))) {
+            Thread.sleep(20);
+        }
+        assertEquals(List.of(2), cache.fetchAttributes(registeredService, repository, principal).get("count"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void verifyExpiration() throws Exception {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MILLISECONDS.name(), 50);
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", Map.of());
+        cache.putAttributes(registeredService, repository, principal.getId(), Map.of("uid", List.of("casuser")));
+        assertFalse(cache.fetchAttributes(registeredService, repository, principal).isEmpty());
+        Thread.sleep(200);
+        assertTrue(cache.fetchAttributes(registeredService, repository, principal).isEmpty());
+    }
+
+    @Test
+    public void verifyEmptyAttributesAreNotCached() {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", Map.of());
+        val calls = new AtomicInteger();
+
+        val loader = (Function<Principal, Map<String, List<Object>>>) p -> calls.incrementAndGet() == 1
+            ? Map.of()
+            : Map.of("uid", List.of(p.getId()));
+        assertTrue(cache.fetchAttributes(registeredService, repository, principal, loader).isEmpty());
+        assertTrue(cache.fetchAttributes(registeredService, repository, principal).isEmpty());
+        assertEquals(List.of("casuser"), cache.fetchAttributes(registeredService, repository, principal, loader).get("uid"));
+        assertEquals(2, calls.get());
+
+        cache.putAttributes(registeredService, repository, principal.getId(), Map.of());
+        assertTrue(cache.fetchAttributes(registeredService, repository, principal).isEmpty());
+        cache.close();
+    }
+
+    @Test
+    public void verifyStaleAttributesSurviveFailedRevalidation() throws Exception {
+        val properties = new PrincipalAttributesRepositoryCacheProperties().setStaleWhileRevalidate("PT0.05S");
+        val cache = new DefaultPrincipalAttributesRepositoryCache(properties);
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", Map.of());
+        val calls = new AtomicInteger();
+
+        val loader = (Function<Principal, Map<String, List<Object>>>) p -> calls.incrementAndGet() == 1
+            ? Map.of("uid", List.of(p.getId()))
+            : Map.of();
+        cache.fetchAttributes(registeredService, repository, principal, loader);
+        Thread.sleep(100);
+        assertEquals(List.of("casuser"), cache.fetchAttributes(registeredService, repository, principal, loader).get("uid"));
+
+        val deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && calls.get() < 2) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(50);
+        assertEquals(2, calls.get());
+        assertEquals(List.of("casuser"), cache.fetchAttributes(registeredService, repository, principal).get("uid"));
+        cache.close();
+    }
+}
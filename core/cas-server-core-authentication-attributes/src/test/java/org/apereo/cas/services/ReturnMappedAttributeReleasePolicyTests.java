@@ -8,6 +8,7 @@ import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ArrayListMultimap;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -25,12 +26,17 @@ import org.springframework.core.io.ClassPathResource;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +47,7 @@ import static org.mockito.Mockito.*;
  * @since 5.0.0
  */
 @Tag("Attributes")
+@Slf4j
 @SpringBootTest(classes = {
     RefreshAutoConfiguration.class,
     CasCoreUtilConfiguration.class
@@ -344,4 +351,44 @@ public class ReturnMappedAttributeReleasePolicyTests {
         assertFalse(result.containsKey("attr1"));
         assertTrue(result.containsKey("userId"));
     }
+
+    @Test
+    @Order(12)
+    public void verifyInlinedGroovyAttributesConcurrently() throws Exception {
+        val allowedAttributes = ArrayListMultimap.<String, Object>create();
+        allowedAttributes.put("attr1", "groovy { return 'DOMAIN\\\\' + attributes['uid'][0] }");
+        val policy = new ReturnMappedAttributeReleasePolicy(CollectionUtils.wrap(allowedAttributes));
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        when(registeredService.getAttributeReleasePolicy()).thenReturn(policy);
+        val service = CoreAttributesTestUtils.getService();
+
+        val threads = 16;
+        val executionsPerThread = 500;
+        val executor = Executors.newFixedThreadPool(threads);
+        try {
+            val tasks = IntStream.range(0, threads)
+                .mapToObj(thread -> (Callable<Integer>) () -> {
+                    for (var i = 0; i < executionsPerThread; i++) {
+                        val uid = "user-" + thread + '-' + i;
+                        val principal = CoreAttributesTestUtils.getPrincipal(uid, Map.<String, List<Object>>of("uid", List.of(uid)));
+                        val result = policy.getAttributes(principal, service, registeredService);
+                        assertEquals(List.of("DOMAIN\\" + uid), result.get("attr1"));
+                    }
+                    return executionsPerThread;
+                })
+                .collect(Collectors.toList());
+            val started = System.nanoTime();
+            var total = 0;
+            for (val future : executor.invokeAll(tasks)) {
+                total += future.get();
+            }
+            val elapsed = Duration.ofNanos(System.nanoTime() - started);
+            LOGGER.info("Released inline groovy mapped attributes [{}] times across [{}] threads in [{}] ms",
+                total, threads, elapsed.toMillis());
+            assertEquals(threads * executionsPerThread, total);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, ApplicationContextProvider.getScriptResourceCacheManager().get().getKeys().size());
+    }
 }
@@ -5,6 +5,7 @@ import org.apereo.cas.services.RegisteredService;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import javax.servlet.http.HttpServletRequest;
@@ -15,13 +16,18 @@ import java.util.Optional;
 /**
  * Default MFA Trigger selection strategy. This strategy looks for valid triggers in the following order: request
  * parameter, RegisteredService policy, principal attribute.
+ * The outcome is remembered for the duration of the request, so that resolving the provider
+ * again for the same authentication and service does not evaluate all triggers again.
  *
  * @author Daniel Frett
  * @since 5.0.0
  */
+@Slf4j
 @RequiredArgsConstructor
 @Getter
 public class DefaultMultifactorTriggerSelectionStrategy implements MultifactorAuthenticationTriggerSelectionStrategy {
+    private static final String REQUEST_ATTRIBUTE_RESOLVED_TRIGGER = DefaultMultifactorTriggerSelectionStrategy.class.getName();
+
     private final Collection<MultifactorAuthenticationTrigger> multifactorAuthenticationTriggers;
 
     @Override
@@ -29,6 +35,25 @@ public class DefaultMultifactorTriggerSelectionStrategy implements MultifactorAu
                                     final RegisteredService registeredService,
                                     final Authentication authentication,
                                     final Service service) {
+        val resolved = request != null ? request.getAttribute(REQUEST_ATTRIBUTE_RESOLVED_TRIGGER) : null;
+        if (resolved instanceof ResolvedMultifactorTrigger
+            && ((ResolvedMultifactorTrigger) resolved).matches(this, registeredService, authentication, service)) {
+            val result = ((ResolvedMultifactorTrigger) resolved).getResult();
+            LOGGER.trace("Multifactor authentication triggers are already evaluated for this request with result [{}]", result);
+            return result;
+        }
+        val result = resolveMultifactorAuthenticationTrigger(request, registeredService, authentication, service);
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE_RESOLVED_TRIGGER,
+                new ResolvedMultifactorTrigger(this, registeredService, authentication, service, result));
+        }
+        return result;
+    }
+
+    private Optional<String> resolveMultifactorAuthenticationTrigger(final HttpServletRequest request,
+                                                                     final RegisteredService registeredService,
+                                                                     final Authentication authentication,
+                                                                     final Service service) {
         for (val trigger : multifactorAuthenticationTriggers) {
             if (!trigger.supports(request, registeredService, authentication, service)) {
                 continue;
@@ -40,4 +65,28 @@ public class DefaultMultifactorTriggerSelectionStrategy implements MultifactorAu
         }
         return Optional.empty();
     }
+
+    @RequiredArgsConstructor
+    private static class ResolvedMultifactorTrigger {
+        private final MultifactorAuthenticationTriggerSelectionStrategy strategy;
+
+        private final RegisteredService registeredService;
+
+        private final Authentication authentication;
+
+        private final Service service;
+
+        @Getter
+        private final Optional<String> result;
+
+        boolean matches(final MultifactorAuthenticationTriggerSelectionStrategy strategy,
+                        final RegisteredService registeredService,
+                        final Authentication authentication,
+                        final Service service) {
+            return this.strategy == strategy
+                && this.registeredService == registeredService
+                && this.authentication == authentication
+                && this.service == service;
+        }
+    }
 }
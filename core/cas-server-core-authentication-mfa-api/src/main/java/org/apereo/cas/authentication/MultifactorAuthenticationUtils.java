@@ -5,6 +5,8 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -15,13 +17,17 @@ import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.RequestContext;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,6 +42,8 @@ import java.util.stream.Stream;
 @UtilityClass
 public class MultifactorAuthenticationUtils {
 
+    private static final AtomicReference<MultifactorAuthenticationProviderIndex> PROVIDER_INDEX = new AtomicReference<>();
+
     /**
      * Build event attribute map map.
      *
@@ -227,9 +235,7 @@ public class MultifactorAuthenticationUtils {
     public static Optional<MultifactorAuthenticationProvider> getMultifactorAuthenticationProviderFromApplicationContext(final String providerId,
         final ApplicationContext applicationContext) {
         LOGGER.trace("Locating bean definition for [{}]", providerId);
-        return getAvailableMultifactorAuthenticationProviders(applicationContext).values().stream()
-            .filter(p -> p.matches(providerId))
-            .findFirst();
+        return getMultifactorAuthenticationProviderById(providerId, applicationContext);
     }
 
     /**
@@ -265,14 +271,7 @@ public class MultifactorAuthenticationUtils {
      */
     public static Map<String, MultifactorAuthenticationProvider> getAvailableMultifactorAuthenticationProviders(
         final ApplicationContext applicationContext) {
-        try {
-            return applicationContext.getBeansOfType(MultifactorAuthenticationProvider.class, false, true);
-        } catch (final Exception e) {
-            LOGGER.trace("No beans of type [{}] are available in the application context. "
-                    + "CAS may not be configured to handle multifactor authentication requests in absence of a provider",
-                MultifactorAuthenticationProvider.class);
-        }
-        return new HashMap<>(0);
+        return new LinkedHashMap<>(getMultifactorAuthenticationProviderIndex(applicationContext).getProviders());
     }
 
     /**
@@ -285,10 +284,63 @@ public class MultifactorAuthenticationUtils {
      */
     public static Optional<MultifactorAuthenticationProvider> getMultifactorAuthenticationProviderById(final String providerId,
         final ApplicationContext context) {
-        return getAvailableMultifactorAuthenticationProviders(context)
+        val index = getMultifactorAuthenticationProviderIndex(context);
+        val provider = index.getProvidersById().get(providerId);
+        if (provider != null && provider.matches(providerId)) {
+            return Optional.of(provider);
+        }
+        return index.getProviders()
             .values()
             .stream()
             .filter(p -> p.matches(providerId))
             .findFirst();
     }
+
+    /**
+     * Gets the index of multifactor authentication providers available in the application context.
+     * The index is reused for as long as the names of provider beans in the application context remain the same,
+     * which the bean factory caches once its configuration is frozen, and is otherwise rebuilt.
+     *
+     * @param applicationContext the application context
+     * @return the multifactor authentication provider index
+     */
+    private static MultifactorAuthenticationProviderIndex getMultifactorAuthenticationProviderIndex(
+        final ApplicationContext applicationContext) {
+        try {
+            val beanNames = applicationContext.getBeanNamesForType(MultifactorAuthenticationProvider.class, false, true);
+            val index = PROVIDER_INDEX.get();
+            if (index != null && beanNames != null && index.getApplicationContext() == applicationContext
+                && Arrays.equals(index.getBeanNames(), beanNames)) {
+                return index;
+            }
+            val providers = applicationContext.getBeansOfType(MultifactorAuthenticationProvider.class, false, true);
+            val providersById = new HashMap<String, MultifactorAuthenticationProvider>(providers.size());
+            providers.values().stream()
+                .filter(provider -> StringUtils.isNotBlank(provider.getId()))
+                .forEach(provider -> providersById.putIfAbsent(provider.getId(), provider));
+            val result = new MultifactorAuthenticationProviderIndex(applicationContext, beanNames,
+                Collections.unmodifiableMap(providers), providersById);
+            if (beanNames != null) {
+                PROVIDER_INDEX.set(result);
+            }
+            return result;
+        } catch (final Exception e) {
+            LOGGER.trace("No beans of type [{}] are available in the application context. "
+                    + "CAS may not be configured to handle multifactor authentication requests in absence of a provider",
+                MultifactorAuthenticationProvider.class);
+        }
+        return new MultifactorAuthenticationProviderIndex(applicationContext, null, new HashMap<>(0), new HashMap<>(0));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class MultifactorAuthenticationProviderIndex {
+        private final ApplicationContext applicationContext;
+
+        private final String[] beanNames;
+
+        private final Map<String, MultifactorAuthenticationProvider> providers;
+
+        private final Map<String, MultifactorAuthenticationProvider> providersById;
+    }
 }
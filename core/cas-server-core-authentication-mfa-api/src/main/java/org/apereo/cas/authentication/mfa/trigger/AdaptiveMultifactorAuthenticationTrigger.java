@@ -11,6 +11,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.HttpRequestUtils;
+import org.apereo.cas.util.RegexUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -23,8 +24,10 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.core.Ordered;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * This is {@link AdaptiveMultifactorAuthenticationTrigger}.
@@ -43,20 +46,23 @@ public class AdaptiveMultifactorAuthenticationTrigger implements MultifactorAuth
 
     private int order = Ordered.LOWEST_PRECEDENCE;
 
+    @Getter(lazy = true)
+    private final Map<String, Pattern> requiredMultifactorPatterns = compileRequiredMultifactorPatterns();
+
     @Override
     public Optional<MultifactorAuthenticationProvider> isActivated(final Authentication authentication,
                                                                    final RegisteredService registeredService,
                                                                    final HttpServletRequest httpServletRequest,
                                                                    final Service service) {
 
-        val multifactorMap = casProperties.getAuthn().getAdaptive().getPolicy().getRequireMultifactor();
+        val multifactorMap = getRequiredMultifactorPatterns();
 
         if (service == null || authentication == null) {
             LOGGER.trace("No service or authentication is available to determine event for principal");
             return Optional.empty();
         }
 
-        if (multifactorMap == null || multifactorMap.isEmpty()) {
+        if (multifactorMap.isEmpty()) {
             LOGGER.trace("Adaptive authentication is not configured to require multifactor authentication");
             return Optional.empty();
         }
@@ -73,10 +79,9 @@ public class AdaptiveMultifactorAuthenticationTrigger implements MultifactorAuth
 
         val agent = HttpRequestUtils.getHttpServletRequestUserAgent(httpServletRequest);
 
-        val entries = multifactorMap.entrySet();
-        for (final Map.Entry entry : entries) {
-            val mfaMethod = entry.getKey().toString();
-            val pattern = entry.getValue().toString();
+        for (val entry : multifactorMap.entrySet()) {
+            val mfaMethod = entry.getKey();
+            val pattern = entry.getValue();
 
             val providerFound = MultifactorAuthenticationUtils.resolveProvider(providerMap, mfaMethod);
 
@@ -98,15 +103,15 @@ public class AdaptiveMultifactorAuthenticationTrigger implements MultifactorAuth
     }
 
     private static boolean checkUserAgentOrClientIp(final String clientIp, final String agent,
-                                                    final String mfaMethod, final String pattern) {
-        if (StringUtils.isNotBlank(agent) && agent.matches(pattern)) {
+                                                    final String mfaMethod, final Pattern pattern) {
+        if (StringUtils.isNotBlank(agent) && RegexUtils.matches(pattern, agent)) {
             LOGGER.debug("Current user agent [{}] at [{}] matches the provided pattern [{}] for "
                     + "adaptive authentication and is required to use [{}]",
                 agent, clientIp, pattern, mfaMethod);
             return true;
         }
 
-        if (StringUtils.isNotBlank(clientIp) && clientIp.matches(pattern)) {
+        if (StringUtils.isNotBlank(clientIp) && RegexUtils.matches(pattern, clientIp)) {
             LOGGER.debug("Current client IP [{}] matches the provided pattern [{}] for "
                     + "adaptive authentication and is required to use [{}]",
                 clientIp, pattern, mfaMethod);
@@ -117,7 +122,7 @@ public class AdaptiveMultifactorAuthenticationTrigger implements MultifactorAuth
 
     private boolean checkRequestGeoLocation(final HttpServletRequest httpServletRequest,
                                             final String clientIp, final String mfaMethod,
-                                            final String pattern) {
+                                            final Pattern pattern) {
         if (this.geoLocationService == null) {
             LOGGER.trace("No geolocation service is defined");
             return false;
@@ -131,7 +136,7 @@ public class AdaptiveMultifactorAuthenticationTrigger implements MultifactorAuth
         }
 
         val address = loc.build();
-        if (address.matches(pattern)) {
+        if (RegexUtils.matches(pattern, address)) {
             LOGGER.debug("Current address [{}] at [{}] matches the provided pattern [{}] for "
                     + "adaptive authentication and is required to use [{}]",
                 address, clientIp, pattern, mfaMethod);
@@ -139,4 +144,13 @@ public class AdaptiveMultifactorAuthenticationTrigger implements MultifactorAuth
         }
         return false;
     }
+
+    private Map<String, Pattern> compileRequiredMultifactorPatterns() {
+        val patterns = new LinkedHashMap<String, Pattern>();
+        val multifactorMap = casProperties.getAuthn().getAdaptive().getPolicy().getRequireMultifactor();
+        if (multifactorMap != null) {
+            multifactorMap.forEach((mfaMethod, pattern) -> patterns.put(mfaMethod, RegexUtils.createPattern(pattern, 0)));
+        }
+        return patterns;
+    }
 }
@@ -9,6 +9,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.RegexUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import org.springframework.core.Ordered;
 import javax.servlet.http.HttpServletRequest;
 
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import static org.springframework.util.StringUtils.commaDelimitedListToSet;
 
@@ -44,6 +46,10 @@ public class AuthenticationAttributeMultifactorAuthenticationTrigger implements
 
     private int order = Ordered.LOWEST_PRECEDENCE;
 
+    @Getter(lazy = true)
+    private final Pattern globalAuthenticationAttributeValuePattern = RegexUtils.createPattern(casProperties.getAuthn().getMfa()
+        .getTriggers().getAuthentication().getGlobalAuthenticationAttributeValueRegex(), 0);
+
     @Override
     public Optional<MultifactorAuthenticationProvider> isActivated(final Authentication authentication, final RegisteredService registeredService,
                                                                    final HttpServletRequest httpServletRequest, final Service service) {
@@ -74,7 +80,8 @@ public class AuthenticationAttributeMultifactorAuthenticationTrigger implements
             LOGGER.debug("Found a single multifactor provider [{}] in the application context", provider);
             val result = multifactorAuthenticationProviderResolver.resolveEventViaAuthenticationAttribute(
                 authentication, attributeNames, registeredService, Optional.empty(), providers,
-                (attributeValue, mfaProvider) -> attributeValue != null && attributeValue.matches(globalAuthenticationAttributeValueRegex));
+                (attributeValue, mfaProvider) -> attributeValue != null
+                    && RegexUtils.matches(getGlobalAuthenticationAttributeValuePattern(), attributeValue));
             if (result != null && !result.isEmpty()) {
                 return Optional.of(provider);
             }
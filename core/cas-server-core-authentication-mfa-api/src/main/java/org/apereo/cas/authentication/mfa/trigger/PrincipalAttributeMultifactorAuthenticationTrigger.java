@@ -12,6 +12,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.RegexUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ import javax.servlet.http.HttpServletRequest;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static org.springframework.util.StringUtils.*;
 
@@ -50,6 +52,10 @@ public class PrincipalAttributeMultifactorAuthenticationTrigger implements Multi
 
     private int order = Ordered.LOWEST_PRECEDENCE;
 
+    @Getter(lazy = true)
+    private final Pattern globalPrincipalAttributeValuePattern = RegexUtils.createPattern(casProperties.getAuthn().getMfa()
+        .getTriggers().getPrincipal().getGlobalPrincipalAttributeValueRegex(), 0);
+
     @Override
     public Optional<MultifactorAuthenticationProvider> isActivated(final Authentication authentication,
                                                                    final RegisteredService registeredService,
@@ -154,13 +160,12 @@ public class PrincipalAttributeMultifactorAuthenticationTrigger implements Multi
     protected Set<Event> resolveSingleMultifactorProvider(final Optional<RequestContext> context, final RegisteredService service,
                                                           final Principal principal,
                                                           final Collection<MultifactorAuthenticationProvider> providers) {
-        val globalPrincipalAttributeValueRegex = casProperties.getAuthn().getMfa()
-            .getTriggers().getPrincipal().getGlobalPrincipalAttributeValueRegex();
         val provider = providers.iterator().next();
         LOGGER.trace("Found a single multifactor provider [{}] in the application context", provider);
         val attributeNames = commaDelimitedListToSet(casProperties.getAuthn().getMfa()
             .getTriggers().getPrincipal().getGlobalPrincipalAttributeNameTriggers());
         return multifactorAuthenticationProviderResolver.resolveEventViaPrincipalAttribute(principal, attributeNames, service, context, providers,
-            (attributeValue, mfaProvider) -> attributeValue != null && attributeValue.matches(globalPrincipalAttributeValueRegex));
+            (attributeValue, mfaProvider) -> attributeValue != null
+                && RegexUtils.matches(getGlobalPrincipalAttributeValuePattern(), attributeValue));
     }
 }
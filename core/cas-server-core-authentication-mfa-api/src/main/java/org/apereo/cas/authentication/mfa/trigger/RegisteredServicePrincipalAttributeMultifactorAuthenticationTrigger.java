@@ -79,11 +79,12 @@ public class RegisteredServicePrincipalAttributeMultifactorAuthenticationTrigger
             providers.add(resolvedProvider);
         }
         LOGGER.debug("Resolved multifactor providers are [{}]", providers);
+        val pattern = Pattern.compile(policy.getPrincipalAttributeValueToMatch());
         val result = multifactorAuthenticationProviderResolver.resolveEventViaPrincipalAttribute(principal,
             org.springframework.util.StringUtils.commaDelimitedListToSet(policy.getPrincipalAttributeNameTrigger()),
             registeredService, Optional.empty(), providers,
             (attributeValue, mfaProvider) ->
-                attributeValue != null && RegexUtils.matches(Pattern.compile(policy.getPrincipalAttributeValueToMatch()), attributeValue));
+                attributeValue != null && RegexUtils.matches(pattern, attributeValue));
 
         if (result != null && !result.isEmpty()) {
             val id = CollectionUtils.firstElement(result);
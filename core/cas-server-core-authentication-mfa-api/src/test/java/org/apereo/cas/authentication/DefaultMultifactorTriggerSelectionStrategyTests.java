@@ -10,6 +10,8 @@ import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,4 +36,32 @@ public class DefaultMultifactorTriggerSelectionStrategyTests {
             MultifactorAuthenticationTestUtils.getService("https://www.example.org"));
         assertNotNull(result);
     }
+
+    @Test
+    public void verifyTriggersAreEvaluatedOncePerRequest() {
+        val triggers = IntStream.range(0, 20)
+            .mapToObj(i -> {
+                val trigger = mock(MultifactorAuthenticationTrigger.class);
+                when(trigger.supports(any(), any(), any(), any())).thenReturn(true);
+                when(trigger.isActivated(any(), any(), any(), any())).thenReturn(Optional.empty());
+                return trigger;
+            })
+            .collect(Collectors.toList());
+        when(triggers.get(19).isActivated(any(), any(), any(), any()))
+            .thenReturn(Optional.of(new TestMultifactorAuthenticationProvider()));
+
+        val strategy = new DefaultMultifactorTriggerSelectionStrategy(triggers);
+        val request = new MockHttpServletRequest();
+        val registeredService = MultifactorAuthenticationTestUtils.getRegisteredService();
+        val authentication = MultifactorAuthenticationTestUtils.getAuthentication("casuser");
+        val service = MultifactorAuthenticationTestUtils.getService("https://www.example.org");
+        IntStream.range(0, 10).forEach(i -> assertEquals(TestMultifactorAuthenticationProvider.ID,
+            strategy.resolve(request, registeredService, authentication, service).orElseThrow()));
+        triggers.forEach(trigger -> verify(trigger, times(1)).isActivated(any(), any(), any(), any()));
+
+        val otherAuthentication = MultifactorAuthenticationTestUtils.getAuthentication("casuser");
+        assertTrue(strategy.resolve(request, registeredService, otherAuthentication, service).isPresent());
+        assertTrue(strategy.resolve(new MockHttpServletRequest(), registeredService, authentication, service).isPresent());
+        triggers.forEach(trigger -> verify(trigger, times(3)).isActivated(any(), any(), any(), any()));
+    }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.authentication.mfa;
 
 import org.apereo.cas.authentication.AuthenticationException;
+import org.apereo.cas.authentication.MultifactorAuthenticationProvider;
 import org.apereo.cas.authentication.MultifactorAuthenticationUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -193,4 +195,28 @@ public class MultifactorAuthenticationUtilsTests {
         assertNotNull(result);
         assertFalse(result.isEmpty());
     }
+
+    @Test
+    public void verifyProvidersAreIndexed() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        IntStream.range(0, 50).forEach(i -> TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(
+            applicationContext, new TestMultifactorAuthenticationProvider("mfa-provider-" + i)));
+
+        val context = spy(applicationContext);
+        IntStream.range(0, 500).forEach(i -> {
+            val id = "mfa-provider-" + (i % 50);
+            val provider = MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(id, context);
+            assertTrue(provider.isPresent());
+            assertEquals(id, provider.get().getId());
+        });
+        assertEquals(50, MultifactorAuthenticationUtils.getAvailableMultifactorAuthenticationProviders(context).size());
+        verify(context, times(1)).getBeansOfType(MultifactorAuthenticationProvider.class, false, true);
+
+        TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(applicationContext,
+            new TestMultifactorAuthenticationProvider("mfa-provider-new"));
+        assertTrue(MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById("mfa-provider-new", context).isPresent());
+        assertEquals(51, MultifactorAuthenticationUtils.getAvailableMultifactorAuthenticationProviders(context).size());
+        verify(context, times(2)).getBeansOfType(MultifactorAuthenticationProvider.class, false, true);
+    }
 }
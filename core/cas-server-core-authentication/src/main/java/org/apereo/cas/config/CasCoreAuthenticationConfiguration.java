@@ -12,7 +12,9 @@ import org.apereo.cas.authentication.DefaultAuthenticationManager;
 import org.apereo.cas.authentication.DefaultAuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
+import org.apereo.cas.authentication.ParallelAuthenticationManager;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +32,9 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link CasCoreAuthenticationConfiguration}.
@@ -66,6 +71,22 @@ public class CasCoreAuthenticationConfiguration {
     @Bean
     @RefreshScope
     public AuthenticationManager casAuthenticationManager() {
+        val parallel = casProperties.getAuthn().getCore().getEngine().getParallel();
+        if (parallel.isEnabled()) {
+            val poolSize = Math.max(1, parallel.getPoolSize());
+            val manager = new ParallelAuthenticationManager(
+                authenticationEventExecutionPlan.getObject(),
+                casProperties.getPersonDirectory().isPrincipalResolutionFailureFatal(),
+                applicationContext,
+                new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), r -> {
+                    val thread = new Thread(r, "ParallelAuthenticationThread");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy()));
+            manager.setTimeout(Beans.newDuration(parallel.getTimeout()));
+            LOGGER.debug("Authentication handlers will be executed in parallel with a timeout of [{}]", manager.getTimeout());
+            return manager;
+        }
         return new DefaultAuthenticationManager(
             authenticationEventExecutionPlan.getObject(),
             casProperties.getPersonDirectory().isPrincipalResolutionFailureFatal(),
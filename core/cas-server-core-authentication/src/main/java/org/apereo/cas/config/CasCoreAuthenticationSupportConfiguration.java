@@ -149,6 +149,7 @@ public class CasCoreAuthenticationSupportConfiguration {
     @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
     @Bean
     public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache() {
-        return new DefaultPrincipalAttributesRepositoryCache();
+        val properties = casProperties.getAuthn().getAttributeRepository().getCore().getRepositoryCache();
+        return new DefaultPrincipalAttributesRepositoryCache(properties);
     }
 }
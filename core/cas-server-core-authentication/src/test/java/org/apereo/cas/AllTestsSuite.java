@@ -10,6 +10,7 @@ import org.apereo.cas.authentication.DefaultAuthenticationTests;
 import org.apereo.cas.authentication.DefaultPasswordEncoderTests;
 import org.apereo.cas.authentication.FileTrustStoreSslSocketFactoryTests;
 import org.apereo.cas.authentication.OneTimePasswordCredentialTests;
+import org.apereo.cas.authentication.ParallelAuthenticationManagerTests;
 import org.apereo.cas.authentication.RememberMePasswordCredentialTests;
 import org.apereo.cas.authentication.UsernamePasswordCredentialTests;
 import org.apereo.cas.authentication.attribute.DefaultAttributeDefinitionTests;
@@ -71,6 +72,7 @@ import org.junit.runner.RunWith;
     AllAuthenticationHandlersSucceededAuthenticationPolicyTests.class,
     BasicCredentialMetaDataTests.class,
     DefaultAuthenticationManagerTests.class,
+    ParallelAuthenticationManagerTests.class,
     CasCoreAuthenticationSupportConfigurationTests.class,
     ChainingPrincipalElectionStrategyTests.class,
     UsernamePasswordCredentialTests.class,
@@ -0,0 +1,198 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.authentication.handler.DefaultAuthenticationHandlerResolver;
+import org.apereo.cas.authentication.policy.AtLeastOneCredentialValidatedAuthenticationPolicy;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.PrincipalResolver;
+
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.security.auth.login.FailedLoginException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ParallelAuthenticationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Authentication")
+public class ParallelAuthenticationManagerTests {
+    private static final long SLOW_HANDLER_LATENCY = 1_000;
+
+    private final AtomicInteger interruptedHandlers = new AtomicInteger();
+
+    private final List<String[]> boundCredentialIds = new CopyOnWriteArrayList<>();
+
+    private ParallelAuthenticationManager manager;
+
+    private static AuthenticationTransaction newTransaction() {
+        return new DefaultAuthenticationTransactionFactory().newTransaction(CoreAuthenticationTestUtils.getService(),
+            CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("casuser"));
+    }
+
+    private AuthenticationHandler newStubHandler(final String name, final long latency, final boolean success) throws Exception {
+        val handler = mock(AuthenticationHandler.class);
+        when(handler.getName()).thenReturn(name);
+        when(handler.supports(any(Credential.class))).thenReturn(true);
+        when(handler.authenticate(any(Credential.class))).thenAnswer(args -> {
+            boundCredentialIds.add(AuthenticationCredentialsThreadLocalBinder.getCurrentCredentialIds());
+            try {
+                Thread.sleep(latency);
+            } catch (final InterruptedException e) {
+                interruptedHandlers.incrementAndGet();
+                throw e;
+            }
+            if (success) {
+                val principal = PrincipalFactoryUtils.newPrincipalFactory().createPrincipal("casuser");
+                return new DefaultAuthenticationHandlerExecutionResult(handler, mock(CredentialMetaData.class), principal);
+            }
+            throw new FailedLoginException(name + " failed");
+        });
+        return handler;
+    }
+
+    private AuthenticationHandler newConcurrentHandler(final String name, final CountDownLatch running) throws Exception {
+        val handler = mock(AuthenticationHandler.class);
+        when(handler.getName()).thenReturn(name);
+        when(handler.supports(any(Credential.class))).thenReturn(true);
+        when(handler.authenticate(any(Credential.class))).thenAnswer(args -> {
+            running.countDown();
+            assertTrue(running.await(SLOW_HANDLER_LATENCY * 5, TimeUnit.MILLISECONDS));
+            throw new FailedLoginException(name + " failed");
+        });
+        return handler;
+    }
+
+    private ParallelAuthenticationManager newAuthenticationManager(final AuthenticationHandler... handlers) {
+        return newAuthenticationManager(Executors.newFixedThreadPool(4), handlers);
+    }
+
+    private ParallelAuthenticationManager newAuthenticationManager(final ExecutorService executorService,
+                                                                   final AuthenticationHandler... handlers) {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        for (val handler : handlers) {
+            map.put(handler, null);
+        }
+        val plan = new DefaultAuthenticationEventExecutionPlan();
+        plan.registerAuthenticationHandlerWithPrincipalResolver(map);
+        plan.registerAuthenticationHandlerResolver(new DefaultAuthenticationHandlerResolver());
+        plan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        manager = new ParallelAuthenticationManager(plan, false,
+            mock(ConfigurableApplicationContext.class), executorService);
+        return manager;
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void verifySlowHandlersAreCancelledOncePolicyIsSatisfied() throws Exception {
+        val manager = newAuthenticationManager(
+            newStubHandler("SlowFailingA", SLOW_HANDLER_LATENCY, false),
+            newStubHandler("SlowFailingB", SLOW_HANDLER_LATENCY, false),
+            newStubHandler("FastSuccess", 50, true));
+
+        val start = System.nanoTime();
+        val authentication = manager.authenticate(newTransaction());
+        val elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals("casuser", authentication.getPrincipal().getId());
+        assertTrue(authentication.getSuccesses().containsKey("FastSuccess"));
+        assertTrue(authentication.getFailures().isEmpty());
+        assertTrue(elapsed.toMillis() < SLOW_HANDLER_LATENCY, () -> "Authentication took " + elapsed);
+        Thread.sleep(100);
+        assertEquals(2, interruptedHandlers.get());
+        assertEquals(3, boundCredentialIds.size());
+        boundCredentialIds.forEach(ids -> assertArrayEquals(new String[]{"casuser"}, ids));
+    }
+
+    @Test
+    public void verifyAllFailuresAreRecorded() throws Exception {
+        val running = new CountDownLatch(3);
+        val manager = newAuthenticationManager(
+            newConcurrentHandler("FailingA", running),
+            newConcurrentHandler("FailingB", running),
+            newConcurrentHandler("FailingC", running));
+
+        val exception = assertThrows(AuthenticationException.class, () -> manager.authenticate(newTransaction()));
+        val errors = exception.getHandlerErrors();
+        assertEquals(3, errors.size());
+        assertTrue(errors.keySet().containsAll(List.of("FailingA", "FailingB", "FailingC")));
+        errors.values().forEach(error -> assertEquals(FailedLoginException.class, error.getClass()));
+        assertEquals(0, interruptedHandlers.get());
+    }
+
+    @Test
+    public void verifyWaitingHandlersAreNotTimedOut() throws Exception {
+        val manager = newAuthenticationManager(Executors.newSingleThreadExecutor(),
+            newStubHandler("FailingA", 150, false),
+            newStubHandler("FailingB", 150, false),
+            newStubHandler("FailingC", 150, false));
+        manager.setTimeout(Duration.ofMillis(400));
+
+        val exception = assertThrows(AuthenticationException.class, () -> manager.authenticate(newTransaction()));
+        val errors = exception.getHandlerErrors();
+        assertEquals(3, errors.size());
+        errors.values().forEach(error -> assertEquals(FailedLoginException.class, error.getClass()));
+    }
+
+    @Test
+    public void verifyHandlersRunOnCallerWhenPoolIsSaturated() throws Exception {
+        val executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+        val manager = newAuthenticationManager(executor,
+            newStubHandler("FailingA", 50, false),
+            newStubHandler("FailingB", 50, false),
+            newStubHandler("FailingC", 50, false));
+
+        val exception = assertThrows(AuthenticationException.class, () -> manager.authenticate(newTransaction()));
+        assertEquals(3, exception.getHandlerErrors().size());
+        assertEquals(3, boundCredentialIds.size());
+        boundCredentialIds.forEach(ids -> assertArrayEquals(new String[]{"casuser"}, ids));
+    }
+
+    @Test
+    public void verifyHandlersThatTimeOutAreRecordedAsFailures() throws Exception {
+        val manager = newAuthenticationManager(
+            newStubHandler("Unresponsive", SLOW_HANDLER_LATENCY * 10, true),
+            newStubHandler("Failing", 50, false));
+        manager.setTimeout(Duration.ofMillis(300));
+
+        val exception = assertThrows(AuthenticationException.class, () -> manager.authenticate(newTransaction()));
+        val errors = exception.getHandlerErrors();
+        assertEquals(2, errors.size());
+        assertEquals(PreventedException.class, errors.get("Unresponsive").getClass());
+        assertEquals(FailedLoginException.class, errors.get("Failing").getClass());
+    }
+
+    @Test
+    public void verifySingleSupportingHandler() throws Exception {
+        val manager = newAuthenticationManager(newStubHandler("Single", 0, true));
+        val authentication = manager.authenticate(newTransaction());
+        assertTrue(authentication.getSuccesses().containsKey("Single"));
+        assertEquals(Map.of(), authentication.getFailures());
+    }
+}
@@ -1,19 +1,36 @@
 package org.apereo.cas.web.support.mgmr;
 
 import org.apereo.cas.configuration.model.support.cookie.PinnableCookieProperties;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.HttpRequestUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.web.support.InvalidCookieException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
+import com.google.common.net.InetAddresses;
+import lombok.SneakyThrows;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.Serializable;
+import java.net.InetAddress;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 /**
@@ -24,6 +41,13 @@ import java.util.stream.Stream;
  * request from same IP and with the same user-agent as when cookie was created.
  * The client info (with original client ip) may be null if cluster failover occurs and session replication not working.
  *
+ * Pinned cookie values are built using a compact versioned layout, where the client ip address
+ * and a truncated hash of the user-agent keyed by the cookie value are packed in binary form
+ * ahead of the cookie value. Cookies that were built using the original {@code value@ip@user-agent}
+ * layout continue to be accepted. Decoded cookie values are remembered for the client ip address
+ * and user-agent of the request, so that repeated requests from the same browser
+ * can skip decrypting and verifying the cookie.
+ *
  * @author Misagh Moayyed
  * @since 4.1
  */
@@ -33,36 +57,102 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
     private static final int COOKIE_FIELDS_LENGTH = 3;
     private static final long serialVersionUID = -2696352696382374584L;
 
+    private static final String COMPACT_COOKIE_VERSION_PREFIX = "~1.";
+    private static final char COMPACT_COOKIE_FIELD_SEPARATOR = '.';
+
+    private static final int ADDRESS_TYPE_TEXT = 0;
+    private static final int ADDRESS_TYPE_IPV4 = 4;
+    private static final int ADDRESS_TYPE_IPV6 = 6;
+    private static final int IPV4_ADDRESS_LENGTH = 4;
+    private static final int IPV6_ADDRESS_LENGTH = 16;
+
+    private static final int USER_AGENT_HASH_LENGTH = 16;
+
+    private static final long DECODED_COOKIE_CACHE_SIZE = 10_000;
+    private static final Duration DECODED_COOKIE_CACHE_EXPIRATION = Duration.ofMinutes(5);
+
     private final PinnableCookieProperties cookieProperties;
 
+    private final transient Cache<DecodedCookieCacheKey, String> decodedCookies = Caffeine.newBuilder()
+        .maximumSize(DECODED_COOKIE_CACHE_SIZE)
+        .expireAfterAccess(DECODED_COOKIE_CACHE_EXPIRATION)
+        .build();
+
     public DefaultCasCookieValueManager(final CipherExecutor<Serializable, Serializable> cipherExecutor,
                                         final PinnableCookieProperties cookieProperties) {
         super(cipherExecutor);
         this.cookieProperties = cookieProperties;
     }
 
-    @Override
-    protected String buildCompoundCookieValue(final String givenCookieValue, final HttpServletRequest request) {
-        val builder = new StringBuilder(givenCookieValue);
+    private static byte[] hashUserAgent(final String cookieValue, final String userAgent) {
+        val hash = new HmacUtils(HmacAlgorithms.HMAC_SHA_256, cookieValue).hmac(StringUtils.defaultString(userAgent));
+        return Arrays.copyOf(hash, USER_AGENT_HASH_LENGTH);
+    }
 
-        if (cookieProperties.isPinToSession()) {
-            val clientInfo = ClientInfoHolder.getClientInfo();
-            builder.append(COOKIE_FIELD_SEPARATOR).append(clientInfo.getClientIpAddress());
+    private static String normalizeIpAddress(final String ipAddress) {
+        return InetAddresses.isInetAddress(ipAddress)
+            ? InetAddresses.toAddrString(InetAddresses.forString(ipAddress))
+            : ipAddress;
+    }
 
-            val userAgent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
-            if (StringUtils.isBlank(userAgent)) {
-                throw new IllegalStateException("Request does not specify a user-agent");
+    @SneakyThrows
+    private static String buildCompactCookieValue(final String cookieValue, final String ipAddress, final String userAgent) {
+        val bytes = new ByteArrayOutputStream();
+        try (val output = new DataOutputStream(bytes)) {
+            if (InetAddresses.isInetAddress(ipAddress)) {
+                val address = InetAddresses.forString(ipAddress).getAddress();
+                output.writeByte(address.length == IPV4_ADDRESS_LENGTH ? ADDRESS_TYPE_IPV4 : ADDRESS_TYPE_IPV6);
+                output.write(address);
+            } else {
+                output.writeByte(ADDRESS_TYPE_TEXT);
+                output.writeUTF(ipAddress);
             }
-            builder.append(COOKIE_FIELD_SEPARATOR).append(userAgent);
-        } else {
-            LOGGER.trace("Cookie session-pinning is disabled");
+            output.write(hashUserAgent(cookieValue, userAgent));
         }
+        return COMPACT_COOKIE_VERSION_PREFIX + EncodingUtils.encodeUrlSafeBase64(bytes.toByteArray())
+            + COMPACT_COOKIE_FIELD_SEPARATOR + cookieValue;
+    }
 
-        return builder.toString();
+    @Override
+    public String obtainCookieValue(final String cookie, final HttpServletRequest request) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        if (clientInfo == null) {
+            return super.obtainCookieValue(cookie, request);
+        }
+        val userAgent = StringUtils.defaultString(HttpRequestUtils.getHttpServletRequestUserAgent(request));
+        val key = new DecodedCookieCacheKey(cookie, clientInfo.getClientIpAddress(), DigestUtils.sha256(userAgent));
+        val cached = decodedCookies.getIfPresent(key);
+        if (cached != null) {
+            LOGGER.trace("Found previously decoded cookie value for [{}]", key.getClientIpAddress());
+            return cached;
+        }
+        val cookieValue = super.obtainCookieValue(cookie, request);
+        if (cookieValue != null) {
+            decodedCookies.put(key, cookieValue);
+        }
+        return cookieValue;
+    }
+
+    @Override
+    protected String buildCompoundCookieValue(final String givenCookieValue, final HttpServletRequest request) {
+        if (!cookieProperties.isPinToSession()) {
+            LOGGER.trace("Cookie session-pinning is disabled");
+            return givenCookieValue;
+        }
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val userAgent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
+        if (StringUtils.isBlank(userAgent)) {
+            throw new IllegalStateException("Request does not specify a user-agent");
+        }
+        return buildCompactCookieValue(givenCookieValue, clientInfo.getClientIpAddress(), userAgent);
     }
 
     @Override
     protected String obtainValueFromCompoundCookie(final String value, final HttpServletRequest request) {
+        if (value.startsWith(COMPACT_COOKIE_VERSION_PREFIX)) {
+            return obtainValueFromCompactCookie(value, request);
+        }
+
         val cookieParts = Splitter.on(String.valueOf(COOKIE_FIELD_SEPARATOR)).splitToList(value);
 
         val cookieValue = cookieParts.get(0);
@@ -81,13 +171,71 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
             throw new InvalidCookieException("Invalid cookie. Required fields are empty");
         }
 
+        validateIpAddress(cookieIpAddress);
+
+        val agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
+        if (!cookieUserAgent.equals(agent)) {
+            throw new InvalidCookieException("Invalid cookie. Required user-agent " + cookieUserAgent + " does not match " + agent);
+        }
+        return cookieValue;
+    }
+
+    private String obtainValueFromCompactCookie(final String value, final HttpServletRequest request) {
+        val separator = value.indexOf(COMPACT_COOKIE_FIELD_SEPARATOR, COMPACT_COOKIE_VERSION_PREFIX.length());
+        if (separator < 0) {
+            throw new InvalidCookieException("Invalid cookie. Required fields are missing");
+        }
+        val cookieValue = value.substring(separator + 1);
+        if (StringUtils.isBlank(cookieValue)) {
+            throw new InvalidCookieException("Invalid cookie. Required fields are empty");
+        }
+        if (!cookieProperties.isPinToSession()) {
+            LOGGER.trace("Cookie session-pinning is disabled. Returning cookie value as it was provided");
+            return cookieValue;
+        }
+
+        val cookieIpAddress = new StringBuilder();
+        val cookieUserAgentHash = new byte[USER_AGENT_HASH_LENGTH];
+        val fields = EncodingUtils.decodeUrlSafeBase64(value.substring(COMPACT_COOKIE_VERSION_PREFIX.length(), separator));
+        try (val input = new DataInputStream(new ByteArrayInputStream(fields))) {
+            val addressType = input.readUnsignedByte();
+            if (addressType == ADDRESS_TYPE_TEXT) {
+                cookieIpAddress.append(input.readUTF());
+            } else if (addressType == ADDRESS_TYPE_IPV4 || addressType == ADDRESS_TYPE_IPV6) {
+                val address = new byte[addressType == ADDRESS_TYPE_IPV4 ? IPV4_ADDRESS_LENGTH : IPV6_ADDRESS_LENGTH];
+                input.readFully(address);
+                cookieIpAddress.append(InetAddresses.toAddrString(InetAddress.getByAddress(address)));
+            } else {
+                throw new InvalidCookieException("Invalid cookie. Unknown remote address type " + addressType);
+            }
+            input.readFully(cookieUserAgentHash);
+            if (input.available() > 0) {
+                throw new InvalidCookieException("Invalid cookie. Unexpected fields are present");
+            }
+        } catch (final InvalidCookieException e) {
+            throw e;
+        } catch (final Exception e) {
+            LOGGER.trace(e.getMessage(), e);
+            throw new InvalidCookieException("Invalid cookie. Required fields cannot be read");
+        }
+
+        validateIpAddress(cookieIpAddress.toString());
+
+        val agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
+        if (!MessageDigest.isEqual(cookieUserAgentHash, hashUserAgent(cookieValue, agent))) {
+            throw new InvalidCookieException("Invalid cookie. Required user-agent does not match " + agent);
+        }
+        return cookieValue;
+    }
+
+    private void validateIpAddress(final String cookieIpAddress) {
         val clientInfo = ClientInfoHolder.getClientInfo();
         if (clientInfo == null) {
             throw new InvalidCookieException("Unable to match required remote address "
                     + cookieIpAddress + " because client ip at time of cookie creation is unknown");
         }
 
-        if (!cookieIpAddress.equals(clientInfo.getClientIpAddress())) {
+        if (!normalizeIpAddress(cookieIpAddress).equals(normalizeIpAddress(clientInfo.getClientIpAddress()))) {
             if (StringUtils.isBlank(cookieProperties.getAllowedIpAddressesPattern())
                 || !RegexUtils.find(cookieProperties.getAllowedIpAddressesPattern(), clientInfo.getClientIpAddress())) {
                 throw new InvalidCookieException("Invalid cookie. Required remote address "
@@ -96,11 +244,14 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
             LOGGER.debug("Required remote address [{}] does not match [{}], but it's authorized proceed",
                 cookieIpAddress, clientInfo.getClientIpAddress());
         }
+    }
 
-        val agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
-        if (!cookieUserAgent.equals(agent)) {
-            throw new InvalidCookieException("Invalid cookie. Required user-agent " + cookieUserAgent + " does not match " + agent);
-        }
-        return cookieValue;
+    @Value
+    private static class DecodedCookieCacheKey {
+        String cookie;
+
+        String clientIpAddress;
+
+        String userAgentHash;
     }
 }
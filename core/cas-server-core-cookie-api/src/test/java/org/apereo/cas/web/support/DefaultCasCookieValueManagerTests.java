@@ -99,13 +99,85 @@ public class DefaultCasCookieValueManagerTests {
         request.setLocalAddr(CLIENT_IP);
         request.addHeader("User-Agent", USER_AGENT);
         val encoded = cookieValueManager.buildCookieValue(VALUE, request);
-        assertEquals(String.join("@", VALUE, CLIENT_IP, USER_AGENT), encoded);
+        assertTrue(encoded.endsWith('.' + VALUE));
+        assertFalse(encoded.contains(USER_AGENT));
+        assertFalse(encoded.contains(CLIENT_IP));
 
         when(cookie.getValue()).thenReturn(encoded);
         val decoded = cookieValueManager.obtainCookieValue(cookie, request);
         assertEquals(VALUE, decoded);
     }
 
+    @Test
+    public void verifyLegacyCookieValue() {
+        val request = new MockHttpServletRequest();
+        request.addHeader("User-Agent", USER_AGENT);
+        val props = new TicketGrantingCookieProperties();
+        val mgr = new DefaultCasCookieValueManager(CipherExecutor.noOp(), props);
+        assertEquals(VALUE, mgr.obtainCookieValue(String.join("@", VALUE, CLIENT_IP, USER_AGENT), request));
+        props.setPinToSession(false);
+        assertEquals(VALUE, mgr.obtainCookieValue(String.join("@", VALUE, "1.2.3.4", "agent"), request));
+    }
+
+    @Test
+    public void verifyCompactCookieIsPinned() {
+        val request = new MockHttpServletRequest();
+        request.addHeader("User-Agent", USER_AGENT);
+        val props = new TicketGrantingCookieProperties();
+        val value = new DefaultCasCookieValueManager(CipherExecutor.noOp(), props).buildCookieValue(VALUE, request);
+
+        val otherAgent = new MockHttpServletRequest();
+        otherAgent.addHeader("User-Agent", "Other-Client/2.0.0");
+        assertThrows(InvalidCookieException.class,
+            () -> new DefaultCasCookieValueManager(CipherExecutor.noOp(), props).obtainCookieValue(value, otherAgent));
+
+        val tampered = value.substring(0, value.lastIndexOf('.') + 1) + "TGT-other";
+        assertThrows(InvalidCookieException.class,
+            () -> new DefaultCasCookieValueManager(CipherExecutor.noOp(), props).obtainCookieValue(tampered, request));
+        assertThrows(InvalidCookieException.class,
+            () -> new DefaultCasCookieValueManager(CipherExecutor.noOp(), props).obtainCookieValue("~1.AQ." + VALUE, request));
+
+        val remoteRequest = new MockHttpServletRequest();
+        remoteRequest.setRemoteAddr("185.86.151.11");
+        ClientInfoHolder.setClientInfo(new ClientInfo(remoteRequest));
+        assertThrows(InvalidCookieException.class,
+            () -> new DefaultCasCookieValueManager(CipherExecutor.noOp(), props).obtainCookieValue(value, request));
+
+        props.setPinToSession(false);
+        assertEquals(VALUE, new DefaultCasCookieValueManager(CipherExecutor.noOp(), props).obtainCookieValue(value, otherAgent));
+    }
+
+    @Test
+    public void verifyCompactCookieWithIpv6Address() {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("0:0:0:0:0:0:0:1");
+        request.setLocalAddr("0:0:0:0:0:0:0:1");
+        request.addHeader("User-Agent", USER_AGENT);
+        ClientInfoHolder.setClientInfo(new ClientInfo(request));
+        val mgr = new DefaultCasCookieValueManager(CipherExecutor.noOp(), new TicketGrantingCookieProperties());
+        val value = mgr.buildCookieValue(VALUE, request);
+        assertEquals(VALUE, mgr.obtainCookieValue(value, request));
+    }
+
+    @Test
+    public void verifyDecodedCookieIsCached() {
+        val request = new MockHttpServletRequest();
+        request.addHeader("User-Agent", USER_AGENT);
+        val cipher = spy(CipherExecutor.noOp());
+        val mgr = new DefaultCasCookieValueManager(cipher, new TicketGrantingCookieProperties());
+        val value = mgr.buildCookieValue(VALUE, request);
+        for (var i = 0; i < 3; i++) {
+            assertEquals(VALUE, mgr.obtainCookieValue(value, request));
+        }
+        verify(cipher, times(1)).decode(eq(value), any());
+
+        val otherAgent = new MockHttpServletRequest();
+        otherAgent.addHeader("User-Agent", "Other-Client/2.0.0");
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue(value, otherAgent));
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue(value, otherAgent));
+        verify(cipher, times(3)).decode(eq(value), any());
+    }
+
     @Test
     public void verifyNoPinning() {
         val props = new TicketGrantingCookieProperties();
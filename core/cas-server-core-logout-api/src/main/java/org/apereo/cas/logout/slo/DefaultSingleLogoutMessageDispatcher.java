@@ -0,0 +1,259 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.LogoutHttpMessage;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcher}.
+ * Logout messages are held in a bounded queue per destination, where a destination
+ * is identified by the scheme, host and port of the logout url. Each destination
+ * is allowed a limited number of concurrent deliveries and, optionally, a limited
+ * rate of deliveries so that a mass logout cannot overwhelm a single application
+ * or starve others. Identical messages that are pending delivery are coalesced,
+ * and failed deliveries are retried with exponential backoff.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@Getter
+public class DefaultSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, DisposableBean {
+    private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicLong sentCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong retriedCount = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private final HttpClient httpClient;
+
+    private final SingleLogOutDispatcherProperties properties;
+
+    private final ScheduledExecutorService executorService;
+
+    private final long retryBackoffMillis;
+
+    private final long maxRetryBackoffMillis;
+
+    private final long permitIntervalNanos;
+
+    public DefaultSingleLogoutMessageDispatcher(final HttpClient httpClient,
+                                                final SingleLogOutDispatcherProperties properties) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.executorService = Executors.newScheduledThreadPool(Math.max(1, properties.getPoolSize()));
+        this.retryBackoffMillis = Beans.newDuration(properties.getRetryBackoff()).toMillis();
+        this.maxRetryBackoffMillis = Beans.newDuration(properties.getMaxRetryBackoff()).toMillis();
+        this.permitIntervalNanos = properties.getMaxRequestsPerSecondPerDestination() > 0
+            ? TimeUnit.SECONDS.toNanos(1) / properties.getMaxRequestsPerSecondPerDestination()
+            : 0;
+    }
+
+    private static String getDestinationKey(final URL url) {
+        val port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        return url.getProtocol() + "://" + url.getHost() + ':' + port;
+    }
+
+    @Override
+    public boolean dispatch(final LogoutHttpMessage message) {
+        val destination = destinations.computeIfAbsent(getDestinationKey(message.getUrl()), Destination::new);
+        val task = new DispatchTask(new DispatchedHttpMessage(message), message.getUrl() + "?" + message.getMessage());
+        if (!destination.getPendingMessages().add(task.getId())) {
+            LOGGER.debug("Logout message to [{}] is already pending delivery and will be coalesced", message.getUrl());
+            coalescedCount.incrementAndGet();
+            return true;
+        }
+        if (pendingCount.incrementAndGet() > properties.getQueueCapacity()) {
+            pendingCount.decrementAndGet();
+            destination.getPendingMessages().remove(task.getId());
+            rejectedCount.incrementAndGet();
+            LOGGER.warn("Logout message to [{}] is rejected since [{}] logout messages are pending delivery",
+                message.getUrl(), properties.getQueueCapacity());
+            return false;
+        }
+        destination.getQueue().offer(task);
+        return submit(() -> drain(destination));
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        val statistics = new LinkedHashMap<String, Object>();
+        statistics.put("pending", pendingCount.get());
+        statistics.put("sent", sentCount.get());
+        statistics.put("failed", failedCount.get());
+        statistics.put("retried", retriedCount.get());
+        statistics.put("rejected", rejectedCount.get());
+        statistics.put("coalesced", coalescedCount.get());
+        statistics.put("destinations", destinations.size());
+        return statistics;
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    private boolean submit(final Runnable runnable) {
+        try {
+            executorService.execute(runnable);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            LoggingUtils.warn(LOGGER, e);
+            return false;
+        }
+    }
+
+    private void drain(final Destination destination) {
+        while (!destination.getQueue().isEmpty()) {
+            if (!destination.getPermits().tryAcquire()) {
+                return;
+            }
+            val delay = reserveDeliverySlot(destination);
+            if (delay > 0) {
+                destination.getPermits().release();
+                executorService.schedule(() -> drain(destination), delay, TimeUnit.NANOSECONDS);
+                return;
+            }
+            val task = destination.getQueue().poll();
+            if (task == null) {
+                destination.getPermits().release();
+                return;
+            }
+            if (!submit(() -> deliver(destination, task))) {
+                destination.getPermits().release();
+                complete(destination, task);
+                failedCount.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private long reserveDeliverySlot(final Destination destination) {
+        if (permitIntervalNanos <= 0) {
+            return 0;
+        }
+        while (true) {
+            val now = System.nanoTime();
+            val next = destination.getNextDeliveryTime().get();
+            if (now - next < 0) {
+                return next - now;
+            }
+            if (destination.getNextDeliveryTime().compareAndSet(next, now + permitIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private void deliver(final Destination destination, final DispatchTask task) {
+        var delivered = false;
+        try {
+            LOGGER.trace("Delivering logout message to [{}], attempt [{}]", task.getMessage().getUrl(), task.getAttempts().get() + 1);
+            delivered = httpClient.sendMessageToEndPoint(task.getMessage());
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            destination.getPermits().release();
+        }
+
+        if (delivered) {
+            complete(destination, task);
+            sentCount.incrementAndGet();
+        } else if (task.getAttempts().incrementAndGet() < properties.getMaxAttempts()) {
+            val backoff = Math.min(maxRetryBackoffMillis, retryBackoffMillis << Math.min(30, task.getAttempts().get() - 1));
+            LOGGER.debug("Logout message to [{}] could not be delivered; retrying in [{}] ms", task.getMessage().getUrl(), backoff);
+            retriedCount.incrementAndGet();
+            executorService.schedule(() -> {
+                destination.getQueue().offer(task);
+                drain(destination);
+            }, backoff, TimeUnit.MILLISECONDS);
+        } else {
+            LOGGER.warn("Logout message to [{}] could not be delivered after [{}] attempt(s)",
+                task.getMessage().getUrl(), task.getAttempts().get());
+            complete(destination, task);
+            failedCount.incrementAndGet();
+        }
+        drain(destination);
+    }
+
+    private void complete(final Destination destination, final DispatchTask task) {
+        destination.getPendingMessages().remove(task.getId());
+        pendingCount.decrementAndGet();
+    }
+
+    @Getter
+    private class Destination {
+        private final String name;
+
+        private final Queue<DispatchTask> queue = new ConcurrentLinkedQueue<>();
+
+        private final Set<String> pendingMessages = ConcurrentHashMap.newKeySet();
+
+        private final Semaphore permits = new Semaphore(Math.max(1, properties.getMaxConcurrentRequestsPerDestination()));
+
+        private final AtomicLong nextDeliveryTime = new AtomicLong(System.nanoTime());
+
+        Destination(final String name) {
+            this.name = name;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class DispatchTask {
+        private final HttpMessage message;
+
+        private final String id;
+
+        private final AtomicInteger attempts = new AtomicInteger();
+    }
+
+    /**
+     * Synchronous copy of the original message, so that
+     * the outcome of each delivery attempt can be observed.
+     */
+    private static class DispatchedHttpMessage extends HttpMessage {
+        private static final long serialVersionUID = -3148460311924317422L;
+
+        DispatchedHttpMessage(final HttpMessage message) {
+            super(message.getUrl(), message.getMessage(), false);
+            setContentType(message.getContentType());
+        }
+
+        @Override
+        protected String formatOutputMessageInternal(final String message) {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.logout.LogoutHttpMessage;
+
+import java.util.Map;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher}, responsible for
+ * delivering back-channel logout messages in the background.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@FunctionalInterface
+public interface SingleLogoutMessageDispatcher {
+
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Queue the logout message for delivery. Implementations
+     * must not block the caller while the message is delivered.
+     *
+     * @param message the message
+     * @return true if the message was accepted for delivery.
+     */
+    boolean dispatch(LogoutHttpMessage message);
+
+    /**
+     * Collect delivery statistics.
+     *
+     * @return the map
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
+}
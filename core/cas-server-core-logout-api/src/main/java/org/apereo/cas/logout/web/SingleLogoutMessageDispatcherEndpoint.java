@@ -0,0 +1,42 @@
+package org.apereo.cas.logout.web;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.web.BaseCasActuatorEndpoint;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcherEndpoint} that reports
+ * the number of back-channel logout messages pending, sent and failed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Endpoint(id = "sloDispatcher", enableByDefault = false)
+public class SingleLogoutMessageDispatcherEndpoint extends BaseCasActuatorEndpoint {
+    private final ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher;
+
+    public SingleLogoutMessageDispatcherEndpoint(final CasConfigurationProperties casProperties,
+                                                 final ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher) {
+        super(casProperties);
+        this.singleLogoutMessageDispatcher = singleLogoutMessageDispatcher;
+    }
+
+    /**
+     * Report delivery statistics of the logout message dispatcher.
+     *
+     * @return the map
+     */
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return singleLogoutMessageDispatcher.stream()
+            .findFirst()
+            .map(SingleLogoutMessageDispatcher::getStatistics)
+            .orElseGet(Map::of);
+    }
+}
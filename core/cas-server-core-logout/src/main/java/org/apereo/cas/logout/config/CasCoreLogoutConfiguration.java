@@ -12,12 +12,15 @@ import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
 import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.web.SingleLogoutMessageDispatcherEndpoint;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.http.HttpClient;
@@ -28,7 +31,9 @@ import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -85,6 +90,10 @@ public class CasCoreLogoutConfiguration {
     @Autowired
     private ConfigurableApplicationContext applicationContext;
 
+    @Autowired
+    @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+    private ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher;
+
     @ConditionalOnMissingBean(name = "singleLogoutServiceLogoutUrlBuilder")
     @Bean
     @RefreshScope
@@ -116,12 +125,28 @@ public class CasCoreLogoutConfiguration {
     @Bean
     @RefreshScope
     public SingleLogoutServiceMessageHandler defaultSingleLogoutServiceMessageHandler() {
-        return new DefaultSingleLogoutServiceMessageHandler(httpClient.getObject(),
+        val handler = new DefaultSingleLogoutServiceMessageHandler(httpClient.getObject(),
             defaultSingleLogoutMessageCreator(),
             servicesManager.getObject(),
             singleLogoutServiceLogoutUrlBuilder(),
             casProperties.getSlo().isAsynchronous(),
             authenticationServiceSelectionPlan.getObject());
+        singleLogoutMessageDispatcher.ifAvailable(handler::setMessageDispatcher);
+        return handler;
+    }
+
+    @ConditionalOnMissingBean(name = SingleLogoutMessageDispatcher.BEAN_NAME)
+    @ConditionalOnProperty(prefix = "cas.slo.dispatcher", name = "enabled", havingValue = "true")
+    @Bean
+    @RefreshScope
+    public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher() {
+        return new DefaultSingleLogoutMessageDispatcher(httpClient.getObject(), casProperties.getSlo().getDispatcher());
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public SingleLogoutMessageDispatcherEndpoint singleLogoutMessageDispatcherEndpoint() {
+        return new SingleLogoutMessageDispatcherEndpoint(casProperties, singleLogoutMessageDispatcher);
     }
 
     @ConditionalOnMissingBean(name = LogoutManager.DEFAULT_BEAN_NAME)
@@ -169,11 +194,11 @@ public class CasCoreLogoutConfiguration {
 
             if (casProperties.getLogout().isRemoveDescendantTickets()) {
                 LOGGER.debug("CAS is configured to remove descendant tickets of the ticket-granting tickets");
-                plan.registerLogoutPostProcessor(ticketGrantingTicket -> ticketGrantingTicket.getDescendantTickets()
-                    .forEach(t -> {
-                        LOGGER.debug("Deleting ticket [{}] from the registry as a descendant of [{}]", t, ticketGrantingTicket.getId());
-                        ticketRegistry.getObject().deleteTicket(t);
-                    }));
+                plan.registerLogoutPostProcessor(ticketGrantingTicket -> {
+                    val descendants = ticketGrantingTicket.getDescendantTickets();
+                    LOGGER.debug("Deleting tickets [{}] from the registry as descendants of [{}]", descendants, ticketGrantingTicket.getId());
+                    ticketRegistry.getObject().deleteTickets(descendants);
+                });
             }
         };
     }
@@ -29,7 +29,8 @@ import org.junit.runner.RunWith;
     CasCoreLogoutConfigurationTests.class,
     DefaultSingleLogoutServiceMessageHandlerTests.class,
     DefaultSingleLogoutMessageCreatorTests.class,
-    SamlCompliantLogoutMessageCreatorTests.class
+    SamlCompliantLogoutMessageCreatorTests.class,
+    DefaultSingleLogoutMessageDispatcherTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class CasLogoutTestsSuite {
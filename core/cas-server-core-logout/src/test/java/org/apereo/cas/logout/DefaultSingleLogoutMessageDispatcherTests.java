@@ -0,0 +1,150 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Logout")
+public class DefaultSingleLogoutMessageDispatcherTests {
+
+    @SneakyThrows
+    private static LogoutHttpMessage newLogoutMessage(final String url, final String payload) {
+        return new LogoutHttpMessage(new URL(url), payload, true);
+    }
+
+    @SneakyThrows
+    private static void waitUntil(final BooleanSupplier condition) {
+        val deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for logout messages");
+            Thread.sleep(10);
+        }
+    }
+
+    private static SingleLogOutDispatcherProperties newProperties() {
+        return new SingleLogOutDispatcherProperties()
+            .setEnabled(true)
+            .setRetryBackoff("PT0.05S")
+            .setMaxRetryBackoff("PT0.1S");
+    }
+
+    @Test
+    public void verifyMessagesDeliveredSynchronously() {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(args -> {
+            val message = args.getArgument(0, HttpMessage.class);
+            assertFalse(message.isAsynchronous());
+            assertEquals(LogoutHttpMessage.LOGOUT_REQUEST_PARAMETER + "=payload", message.getMessage());
+            return true;
+        });
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, newProperties());
+        try {
+            assertTrue(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "payload")));
+            waitUntil(() -> dispatcher.getSentCount().get() == 1);
+            assertEquals(0, dispatcher.getPendingCount().get());
+            assertEquals(1L, dispatcher.getStatistics().get("sent"));
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    public void verifyFailedMessagesRetried() {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class)))
+            .thenThrow(new IllegalStateException("Failed"))
+            .thenReturn(false)
+            .thenReturn(true);
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, newProperties().setMaxAttempts(3));
+        try {
+            assertTrue(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "payload")));
+            waitUntil(() -> dispatcher.getSentCount().get() == 1);
+            assertEquals(2, dispatcher.getRetriedCount().get());
+            assertEquals(0, dispatcher.getFailedCount().get());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    public void verifyMessagesFailAfterAttempts() {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, newProperties().setMaxAttempts(2));
+        try {
+            assertTrue(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "payload")));
+            waitUntil(() -> dispatcher.getFailedCount().get() == 1);
+            verify(httpClient, times(2)).sendMessageToEndPoint(any(HttpMessage.class));
+            assertEquals(0, dispatcher.getPendingCount().get());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyBackpressureAndCoalescing() {
+        val latch = new CountDownLatch(1);
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(args -> latch.await(5, TimeUnit.SECONDS));
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, newProperties().setQueueCapacity(2));
+        try {
+            assertTrue(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "first")));
+            assertTrue(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "first")));
+            assertEquals(1, dispatcher.getCoalescedCount().get());
+            assertTrue(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "second")));
+            assertFalse(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "third")));
+            assertEquals(1, dispatcher.getRejectedCount().get());
+            latch.countDown();
+            waitUntil(() -> dispatcher.getSentCount().get() == 2);
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    public void verifyConcurrencyLimitedPerDestination() {
+        val current = new AtomicInteger();
+        val maximum = new AtomicInteger();
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(args -> {
+            maximum.accumulateAndGet(current.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            current.decrementAndGet();
+            return true;
+        });
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient,
+            newProperties().setMaxConcurrentRequestsPerDestination(2).setPoolSize(8));
+        try {
+            for (var i = 0; i < 20; i++) {
+                assertTrue(dispatcher.dispatch(newLogoutMessage("https://app.example.org/logout", "payload-" + i)));
+            }
+            waitUntil(() -> dispatcher.getSentCount().get() == 20);
+            assertTrue(maximum.get() <= 2);
+            assertEquals(1, dispatcher.getDestinations().size());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.serialization.StringSerializer;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.ToString;
@@ -25,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -36,13 +38,18 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -50,6 +57,8 @@ import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractResourceBasedServiceRegistry}.
+ * Loading the registry only parses service definition files whose size or modification time
+ * have changed since the previous load, and changed files are parsed in parallel.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -83,6 +92,18 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private Pattern serviceFileNamePattern;
 
+    /**
+     * Maximum number of service definition files parsed in parallel.
+     */
+    @Setter
+    private int loadParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Service definitions loaded from each file, keyed by the file path.
+     */
+    @ToString.Exclude
+    private final Map<Path, ServiceDefinitionResource> serviceDefinitionResources = new ConcurrentHashMap<>();
+
     protected AbstractResourceBasedServiceRegistry(final Resource configDirectory,
                                                    final Collection<StringSerializer<RegisteredService>> serializers,
                                                    final ConfigurableApplicationContext applicationContext,
@@ -219,13 +240,15 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Override
     public synchronized Collection<RegisteredService> load() {
         LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
-        val files = FileUtils.listFiles(this.serviceRegistryDirectory.toFile(), getExtensions(), true);
+        val files = FileUtils.listFiles(this.serviceRegistryDirectory.toFile(), getExtensions(), true)
+            .stream()
+            .sorted()
+            .collect(Collectors.toList());
         LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
 
-        this.services = files
+        this.services = loadServiceDefinitionResources(files)
             .stream()
-            .map(this::load)
-            .filter(Objects::nonNull)
+            .map(ServiceDefinitionResource::getServices)
             .flatMap(Collection::stream)
             .sorted()
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
@@ -339,6 +362,46 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         this.serviceRegistryWatcherService.start(getClass().getSimpleName());
     }
 
+    /**
+     * Load service definitions from the given files. Definitions of files that have not changed
+     * since the previous load are reused, and the remaining files are parsed in parallel.
+     * Resources are returned in the order of the given files regardless of the order in which they are parsed.
+     *
+     * @param files the files
+     * @return the service definition resources
+     */
+    private List<ServiceDefinitionResource> loadServiceDefinitionResources(final List<File> files) {
+        val resources = files.stream()
+            .map(ServiceDefinitionResource::of)
+            .collect(Collectors.toList());
+        val changed = resources
+            .stream()
+            .filter(resource -> {
+                val previous = serviceDefinitionResources.get(resource.getFile().toPath());
+                return previous == null || !resource.reuse(previous);
+            })
+            .collect(Collectors.toList());
+        LOGGER.debug("Located [{}] service definition file(s) of which [{}] have changed since the last load", resources.size(), changed.size());
+
+        val parallelism = Math.min(loadParallelism, changed.size());
+        if (parallelism <= 1) {
+            changed.forEach(resource -> resource.load(this));
+        } else {
+            val executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                changed.stream()
+                    .map(resource -> CompletableFuture.runAsync(() -> resource.load(this), executor))
+                    .collect(Collectors.toList())
+                    .forEach(CompletableFuture::join);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        serviceDefinitionResources.clear();
+        resources.forEach(resource -> serviceDefinitionResources.put(resource.getFile().toPath(), resource));
+        return resources;
+    }
+
     /**
      * Remove registered service.
      *
@@ -403,4 +466,69 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
      */
     protected abstract String[] getExtensions();
 
+    /**
+     * Service definitions loaded from a file along with the file attributes at the time it was read.
+     * An unmodified copy of the definitions is kept, so that services handed out to the registry and
+     * modified in memory since are not reused and the next load reflects what is found in the file.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    private static class ServiceDefinitionResource {
+        private final File file;
+
+        private final long size;
+
+        private final FileTime lastModifiedTime;
+
+        private final Object fileKey;
+
+        private List<RegisteredService> definitions;
+
+        private List<RegisteredService> services = new ArrayList<>(0);
+
+        static ServiceDefinitionResource of(final File file) {
+            try {
+                val attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+                return new ServiceDefinitionResource(file, attributes.size(), attributes.lastModifiedTime(), attributes.fileKey());
+            } catch (final Exception e) {
+                LOGGER.trace("Unable to read attributes of [{}]: [{}]", file, e.getMessage());
+                return new ServiceDefinitionResource(file, -1, null, null);
+            }
+        }
+
+        void load(final AbstractResourceBasedServiceRegistry registry) {
+            this.services = new ArrayList<>(ObjectUtils.defaultIfNull(registry.load(file), List.of()));
+            try {
+                this.definitions = services.stream().map(SerializationUtils::clone).collect(Collectors.toList());
+            } catch (final Exception e) {
+                LOGGER.debug("Service definitions from [{}] cannot be copied and will be parsed again on the next load: [{}]",
+                    file, e.getMessage());
+                this.definitions = null;
+            }
+        }
+
+        /**
+         * Reuse the service definitions of the previous resource if the file has not changed.
+         *
+         * @param previous the resource from the previous load
+         * @return true if the definitions were reused
+         */
+        boolean reuse(final ServiceDefinitionResource previous) {
+            if (previous.definitions == null || lastModifiedTime == null
+                || size != previous.size
+                || !lastModifiedTime.equals(previous.lastModifiedTime)
+                || !Objects.equals(fileKey, previous.fileKey)) {
+                return false;
+            }
+            this.definitions = previous.definitions;
+            this.services = new ArrayList<>(definitions.size());
+            for (var i = 0; i < definitions.size(); i++) {
+                val definition = definitions.get(i);
+                val service = previous.services.get(i);
+                val unmodified = definition.getId() == service.getId() && definition.equals(service);
+                services.add(unmodified ? service : SerializationUtils.clone(definition));
+            }
+            return true;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import org.apereo.cas.services.DefaultChainingServiceRegistryTests;
 import org.apereo.cas.services.ServiceRegistryInitializerEventListenerTests;
 import org.apereo.cas.services.ServiceRegistryInitializerTests;
 import org.apereo.cas.services.replication.DefaultRegisteredServiceReplicationStrategyTests;
+import org.apereo.cas.services.resource.AbstractResourceBasedServiceRegistryTests;
 import org.apereo.cas.services.resource.CreateResourceBasedRegisteredServiceWatcherTests;
 import org.apereo.cas.services.resource.DefaultRegisteredServiceResourceNamingStrategyTests;
 import org.apereo.cas.services.resource.DeleteResourceBasedRegisteredServiceWatcherTests;
@@ -27,7 +28,8 @@ import org.junit.runner.RunWith;
     DefaultRegisteredServiceResourceNamingStrategyTests.class,
     DeleteResourceBasedRegisteredServiceWatcherTests.class,
     CreateResourceBasedRegisteredServiceWatcherTests.class,
-    ModifyResourceBasedRegisteredServiceWatcherTests.class
+    ModifyResourceBasedRegisteredServiceWatcherTests.class,
+    AbstractResourceBasedServiceRegistryTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllServiceRegistryTestsSuite {
@@ -0,0 +1,151 @@
+package org.apereo.cas.services.resource;
+
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServiceRegistryListener;
+import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AbstractResourceBasedServiceRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("RegisteredService")
+@Slf4j
+public class AbstractResourceBasedServiceRegistryTests {
+    private static final int NUMBER_OF_SERVICES = 2_000;
+
+    private final RegisteredServiceJsonSerializer serializer = new RegisteredServiceJsonSerializer();
+
+    private final AtomicInteger loadedServices = new AtomicInteger();
+
+    private File directory;
+
+    private AbstractResourceBasedServiceRegistry registry;
+
+    private static RegexRegisteredService buildService(final long id, final String name) {
+        val service = new RegexRegisteredService();
+        service.setId(id);
+        service.setName(name);
+        service.setServiceId("^https://app" + id + ".example.org/.*");
+        return service;
+    }
+
+    @BeforeEach
+    @SneakyThrows
+    public void setup() {
+        directory = Files.createTempDirectory("services").toFile();
+        for (var i = 1; i <= NUMBER_OF_SERVICES; i++) {
+            serializer.to(new File(directory, "Sample-" + i + ".json"), buildService(i, "Sample"));
+        }
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        val listener = new ServiceRegistryListener() {
+            private static final long serialVersionUID = -2309185457264925493L;
+
+            @Override
+            public RegisteredService postLoad(final RegisteredService registeredService) {
+                loadedServices.incrementAndGet();
+                return registeredService;
+            }
+        };
+        registry = new AbstractResourceBasedServiceRegistry(new FileSystemResource(directory),
+            List.of(serializer), applicationContext, List.of(listener)) {
+            @Override
+            protected String[] getExtensions() {
+                return new String[]{"json"};
+            }
+        };
+        registry.setLoadParallelism(8);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        registry.destroy();
+        FileUtils.deleteQuietly(directory);
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyUnchangedFilesAreNotParsedAgain() {
+        var start = System.nanoTime();
+        assertEquals(NUMBER_OF_SERVICES, registry.load().size());
+        val initialLoadTime = System.nanoTime() - start;
+        assertEquals(NUMBER_OF_SERVICES, loadedServices.get());
+        val service = registry.findServiceById(10);
+        assertNotNull(service);
+
+        start = System.nanoTime();
+        assertEquals(NUMBER_OF_SERVICES, registry.load().size());
+        val reloadTime = System.nanoTime() - start;
+        LOGGER.info("Loaded [{}] service definitions in [{}]ms and reloaded them in [{}]ms",
+            NUMBER_OF_SERVICES, initialLoadTime / 1_000_000, reloadTime / 1_000_000);
+        assertEquals(NUMBER_OF_SERVICES, loadedServices.get());
+        assertSame(service, registry.findServiceById(10));
+
+        val file = new File(directory, "Sample-10.json");
+        val modified = buildService(10, "Sample");
+        modified.setDescription("Modified");
+        serializer.to(file, modified);
+        Files.setLastModifiedTime(file.toPath(), FileTime.from(Instant.now().plusSeconds(10)));
+        assertTrue(new File(directory, "Sample-20.json").delete());
+
+        assertEquals(NUMBER_OF_SERVICES - 1, registry.load().size());
+        assertEquals(NUMBER_OF_SERVICES + 1, loadedServices.get());
+        assertEquals("Modified", registry.findServiceById(10).getDescription());
+        assertNull(registry.findServiceById(20));
+    }
+
+    @Test
+    public void verifyServicesModifiedInMemoryAreReloaded() {
+        registry.load();
+        val service = registry.findServiceById(5);
+        service.setEvaluationOrder(666);
+        registry.load();
+        assertEquals(NUMBER_OF_SERVICES, loadedServices.get());
+        val reloaded = registry.findServiceById(5);
+        assertNotSame(service, reloaded);
+        assertNotEquals(666, reloaded.getEvaluationOrder());
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyDuplicateServicesAreResolvedInFileOrder() {
+        val first = buildService(NUMBER_OF_SERVICES + 1, "Duplicate");
+        first.setDescription("First");
+        serializer.to(new File(directory, "Duplicate-a.json"), first);
+        val second = buildService(NUMBER_OF_SERVICES + 1, "Duplicate");
+        second.setDescription("Second");
+        serializer.to(new File(directory, "Duplicate-b.json"), second);
+
+        for (var i = 0; i < 3; i++) {
+            assertEquals(NUMBER_OF_SERVICES + 1, registry.load().size());
+            assertEquals("First", registry.findServiceById(NUMBER_OF_SERVICES + 1).getDescription());
+        }
+        registry.setLoadParallelism(0);
+        FileUtils.touch(new File(directory, "Duplicate-a.json"));
+        assertEquals(NUMBER_OF_SERVICES + 1, registry.load().size());
+        assertEquals("First", registry.findServiceById(NUMBER_OF_SERVICES + 1).getDescription());
+    }
+}
@@ -8,11 +8,14 @@ import org.apereo.cas.services.RegexRegisteredService;
 
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import lombok.val;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
 
 import java.io.File;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
@@ -100,4 +103,57 @@ public class RegisteredServiceJsonSerializerTests {
         assertNotNull(s.getAuthenticationPolicy());
         assertNull(s.getAuthenticationPolicy().getCriteria());
     }
+
+    @Test
+    public void verifySampleServicesRoundTrip() throws Exception {
+        val zer = new RegisteredServiceJsonSerializer();
+        val files = FileUtils.listFiles(new ClassPathResource("services").getFile(), new String[]{"json"}, true);
+        assertFalse(files.isEmpty());
+        for (val file : files) {
+            val service = zer.from(file);
+            assertNotNull(service);
+            assertEquals(service, zer.from(zer.toString(service)));
+            assertEquals(service, zer.from(FileUtils.readFileToString(file, StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void verifyHjsonSyntax() {
+        val zer = new RegisteredServiceJsonSerializer();
+        val hjson = "{\n"
+            + "  # comment\n"
+            + "  \"@class\": \"org.apereo.cas.services.RegexRegisteredService\",\n"
+            + "  serviceId: ^https://xyz.*\n"
+            + "  // comment\n"
+            + "  name: XYZ\n"
+            + "  id: 20161214,\n"
+            + "}";
+        val s = zer.from(hjson);
+        assertNotNull(s);
+        assertEquals("^https://xyz.*", s.getServiceId());
+        assertEquals("XYZ", s.getName());
+        assertEquals(20161214, s.getId());
+    }
+
+    @Test
+    public void verifyHjsonDisabled() {
+        val zer = new RegisteredServiceJsonSerializer() {
+            private static final long serialVersionUID = 2047429346436219546L;
+
+            @Override
+            protected boolean isHjsonEnabled() {
+                return false;
+            }
+        };
+        val service = new RegexRegisteredService();
+        service.setServiceId("^https://xyz.*");
+        service.setName("XYZ");
+        service.setId(20161214);
+        val json = zer.toString(service);
+        assertEquals(service, zer.from(json));
+        assertNull(zer.from("{\n"
+            + "  \"@class\": \"org.apereo.cas.services.RegexRegisteredService\"\n"
+            + "  serviceId: ^https://xyz.*\n"
+            + "}"));
+    }
 }
@@ -98,6 +98,33 @@ public abstract class AbstractTicket implements Ticket, TicketState {
     @Column(name = "EXPIRED", nullable = false)
     private Boolean expired = Boolean.FALSE;
 
+    /**
+     * The time after which this ticket is known to be expired, if any.
+     * Maintained by ticket registries that index tickets by expiration.
+     */
+    @Column(name = "EXPIRATION_TIME")
+    @Getter
+    @JsonIgnore
+    private ZonedDateTime expirationTime;
+
+    /**
+     * The normalized identifier of the principal that owns this ticket, if any.
+     * Maintained by ticket registries that index tickets by principal.
+     */
+    @Column(name = "PRINCIPAL_ID", length = 1024)
+    @Getter
+    @JsonIgnore
+    private String principalId;
+
+    /**
+     * The version of this ticket, incremented by ticket registries
+     * that guard updates with optimistic version checks.
+     */
+    @Column(name = "TICKET_VERSION")
+    @Getter
+    @JsonIgnore
+    private Long version;
+
 
     protected AbstractTicket(final String id, final ExpirationPolicy expirationPolicy) {
         this.id = id;
@@ -19,10 +19,11 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -119,66 +120,79 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public int deleteTicket(final Ticket ticket) {
-        val count = new AtomicInteger(0);
-        if (ticket instanceof TicketGrantingTicket) {
-            LOGGER.debug("Removing children of ticket [{}] from the registry.", ticket.getId());
-            val tgt = (TicketGrantingTicket) ticket;
-            count.addAndGet(deleteChildren(tgt));
-            if (ticket instanceof ProxyGrantingTicket) {
-                deleteProxyGrantingTicketFromParent((ProxyGrantingTicket) ticket);
-            } else {
-                deleteLinkedProxyGrantingTickets(count, tgt);
-            }
+        return deleteTicketsWithChildren(List.of(ticket));
+    }
+
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) {
+        val ids = ticketIds.stream().filter(StringUtils::isNotBlank).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) {
+            LOGGER.trace("No ticket ids are provided for deletion");
+            return 0;
         }
-        LOGGER.debug("Removing ticket [{}] from the registry.", ticket);
-        if (deleteSingleTicket(ticket.getId())) {
-            count.incrementAndGet();
+        return deleteTicketsWithChildren(getTickets(ids));
+    }
+
+    @Override
+    public Collection<? extends Ticket> getTickets(final Collection<String> ticketIds) {
+        val expiredTickets = new LinkedHashSet<String>();
+        val tickets = getTickets(ticketIds, ticket -> {
+            if (ticket != null && ticket.isExpired()) {
+                expiredTickets.add(ticket.getId());
+                return false;
+            }
+            return true;
+        });
+        if (!expiredTickets.isEmpty()) {
+            LOGGER.debug("Tickets [{}] have expired and are now removed from the ticket registry", expiredTickets);
+            deleteSingleTickets(expiredTickets);
         }
-        return count.intValue();
+        return tickets;
     }
 
     /**
-     * Delete a single ticket instance from the store.
+     * Gets tickets from the registry by their ids using a predicate.
+     * Registries that are able to fetch multiple entries at once should override this,
+     * and test each fetched ticket using the predicate.
      *
-     * @param ticketId the ticket id
-     * @return true/false
+     * @param ticketIds the ticket ids
+     * @param predicate the predicate that tests the ticket
+     * @return the tickets that were found and accepted by the predicate
      */
-    public abstract boolean deleteSingleTicket(String ticketId);
-
-    private void deleteLinkedProxyGrantingTickets(final AtomicInteger count, final TicketGrantingTicket tgt) {
-        val pgts = new LinkedHashSet<>(tgt.getProxyGrantingTickets().keySet());
-        val hasPgts = !pgts.isEmpty();
-        count.getAndAdd(deleteTickets(pgts));
-        if (hasPgts) {
-            LOGGER.debug("Removing proxy-granting tickets from parent ticket-granting ticket");
-            tgt.getProxyGrantingTickets().clear();
-            updateTicket(tgt);
-        }
-    }
-
-    private void deleteProxyGrantingTicketFromParent(final ProxyGrantingTicket ticket) {
-        ticket.getTicketGrantingTicket().getProxyGrantingTickets().remove(ticket.getId());
-        updateTicket(ticket.getTicketGrantingTicket());
+    public Collection<? extends Ticket> getTickets(final Collection<String> ticketIds, final Predicate<Ticket> predicate) {
+        return ticketIds.stream()
+            .filter(StringUtils::isNotBlank)
+            .map(ticketId -> getTicket(ticketId, predicate))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
 
     /**
-     * Delete tickets.
+     * Delete a single ticket instance from the store.
      *
-     * @param tickets the tickets
-     * @return the total number of deleted tickets
+     * @param ticketId the ticket id
+     * @return true/false
      */
-    protected int deleteTickets(final Set<String> tickets) {
-        return deleteTickets(tickets.stream());
-    }
+    public abstract boolean deleteSingleTicket(String ticketId);
 
     /**
-     * Delete tickets.
+     * Delete ticket instances from the store, without processing related tickets.
+     * Registries that are able to remove multiple entries at once should override this.
      *
-     * @param tickets the tickets
-     * @return the total number of deleted tickets
+     * @param ticketIds the ticket ids
+     * @return the number of deleted tickets
      */
-    protected int deleteTickets(final Stream<String> tickets) {
-        return tickets.mapToInt(this::deleteTicket).sum();
+    public int deleteSingleTickets(final Collection<String> ticketIds) {
+        return (int) ticketIds.stream()
+            .filter(ticketId -> {
+                if (deleteSingleTicket(ticketId)) {
+                    LOGGER.debug("Removed ticket [{}]", ticketId);
+                    return true;
+                }
+                LOGGER.debug("Unable to remove ticket [{}]", ticketId);
+                return false;
+            })
+            .count();
     }
 
     /**
@@ -188,19 +202,60 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      * @return the count of tickets that were removed including child tickets and zero if the ticket was not deleted
      */
     protected int deleteChildren(final TicketGrantingTicket ticket) {
-        val count = new AtomicInteger(0);
         val services = ticket.getServices();
-        if (services != null && !services.isEmpty()) {
-            services.keySet().forEach(ticketId -> {
-                if (deleteSingleTicket(ticketId)) {
-                    LOGGER.debug("Removed ticket [{}]", ticketId);
-                    count.incrementAndGet();
-                } else {
-                    LOGGER.debug("Unable to remove ticket [{}]", ticketId);
+        if (services == null || services.isEmpty()) {
+            return 0;
+        }
+        return deleteSingleTickets(new LinkedHashSet<>(services.keySet()));
+    }
+
+    /**
+     * Delete tickets along with their related tickets.
+     * Service tickets of ticket-granting tickets, and proxy-granting tickets linked to
+     * ticket-granting tickets are collected first, and then removed together so that registries
+     * that support bulk operations can fetch and remove them in as few calls as possible.
+     * Parents of proxy-granting tickets are only updated if they are not removed as well.
+     *
+     * @param tickets the tickets
+     * @return the number of tickets deleted including children
+     */
+    private int deleteTicketsWithChildren(final Collection<? extends Ticket> tickets) {
+        val ticketsToDelete = new LinkedHashSet<String>();
+        val proxyGrantingTickets = new ArrayList<ProxyGrantingTicket>();
+        var pending = tickets;
+        while (!pending.isEmpty()) {
+            val linkedProxyGrantingTickets = new LinkedHashSet<String>();
+            pending.forEach(ticket -> {
+                if (ticket instanceof TicketGrantingTicket) {
+                    LOGGER.debug("Removing children of ticket [{}] from the registry.", ticket.getId());
+                    val tgt = (TicketGrantingTicket) ticket;
+                    val services = tgt.getServices();
+                    if (services != null) {
+                        ticketsToDelete.addAll(services.keySet());
+                    }
+                    if (ticket instanceof ProxyGrantingTicket) {
+                        proxyGrantingTickets.add((ProxyGrantingTicket) ticket);
+                    } else {
+                        linkedProxyGrantingTickets.addAll(tgt.getProxyGrantingTickets().keySet());
+                    }
                 }
+                LOGGER.debug("Removing ticket [{}] from the registry.", ticket);
+                ticketsToDelete.add(ticket.getId());
             });
+            linkedProxyGrantingTickets.removeAll(ticketsToDelete);
+            pending = linkedProxyGrantingTickets.isEmpty() ? List.of() : getTickets(linkedProxyGrantingTickets);
         }
-        return count.intValue();
+        proxyGrantingTickets
+            .stream()
+            .filter(pgt -> pgt.getTicketGrantingTicket() != null
+                && !ticketsToDelete.contains(pgt.getTicketGrantingTicket().getId()))
+            .forEach(this::deleteProxyGrantingTicketFromParent);
+        return deleteSingleTickets(ticketsToDelete);
+    }
+
+    private void deleteProxyGrantingTicketFromParent(final ProxyGrantingTicket ticket) {
+        ticket.getTicketGrantingTicket().getProxyGrantingTickets().remove(ticket.getId());
+        updateTicket(ticket.getTicketGrantingTicket());
     }
 
     /**
@@ -21,4 +21,9 @@ public class EncodedTicketStringSerializer extends AbstractJacksonBackedStringSe
         return DefaultEncodedTicket.class;
     }
 
+    @Override
+    protected boolean isHjsonEnabled() {
+        return false;
+    }
+
 }
@@ -20,4 +20,9 @@ public class ProxyGrantingTicketStringSerializer extends AbstractJacksonBackedSt
     public Class<ProxyGrantingTicketImpl> getTypeToSerialize() {
         return ProxyGrantingTicketImpl.class;
     }
+
+    @Override
+    protected boolean isHjsonEnabled() {
+        return false;
+    }
 }
@@ -20,4 +20,9 @@ public class ProxyTicketStringSerializer extends AbstractJacksonBackedStringSeri
     public Class<ProxyTicketImpl> getTypeToSerialize() {
         return ProxyTicketImpl.class;
     }
+
+    @Override
+    protected boolean isHjsonEnabled() {
+        return false;
+    }
 }
@@ -20,4 +20,9 @@ public class ServiceTicketStringSerializer extends AbstractJacksonBackedStringSe
     public Class<ServiceTicketImpl> getTypeToSerialize() {
         return ServiceTicketImpl.class;
     }
+
+    @Override
+    protected boolean isHjsonEnabled() {
+        return false;
+    }
 }
@@ -20,4 +20,9 @@ public class TicketGrantingTicketStringSerializer extends AbstractJacksonBackedS
     public Class<TicketGrantingTicketImpl> getTypeToSerialize() {
         return TicketGrantingTicketImpl.class;
     }
+
+    @Override
+    protected boolean isHjsonEnabled() {
+        return false;
+    }
 }
@@ -20,4 +20,9 @@ public class TransientSessionTicketStringSerializer extends AbstractJacksonBacke
     public Class<TransientSessionTicketImpl> getTypeToSerialize() {
         return TransientSessionTicketImpl.class;
     }
+
+    @Override
+    protected boolean isHjsonEnabled() {
+        return false;
+    }
 }
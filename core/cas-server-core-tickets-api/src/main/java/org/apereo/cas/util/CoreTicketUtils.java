@@ -1,6 +1,8 @@
 package org.apereo.cas.util;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -8,8 +10,13 @@ import org.apereo.cas.util.function.FunctionUtils;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.time.DateTimeException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
 /**
  * This is {@link CoreTicketUtils}.
  *
@@ -71,4 +78,35 @@ public class CoreTicketUtils {
         return CipherExecutor.noOp();
     }
 
+    /**
+     * Determine the time after which the ticket is certain to have expired,
+     * based on the time-to-live and time-to-idle reported by its expiration policy.
+     * The policy may expire the ticket sooner, i.e. once it's used up, but not later.
+     * Tickets that are already expired are given the current time.
+     *
+     * @param ticket the ticket
+     * @return the expiration time, or null if it cannot be determined
+     */
+    public static ZonedDateTime getExpirationTime(final Ticket ticket) {
+        val policy = ticket.getExpirationPolicy();
+        if (policy == null) {
+            return null;
+        }
+        if (ticket.isExpired()) {
+            return ZonedDateTime.now(ZoneOffset.UTC);
+        }
+        val state = ticket instanceof TicketState ? (TicketState) ticket : null;
+        val timeToLive = state != null ? policy.getTimeToLive(state) : policy.getTimeToLive();
+        val seconds = Math.max(ObjectUtils.defaultIfNull(timeToLive, 0L), ObjectUtils.defaultIfNull(policy.getTimeToIdle(), 0L));
+        val lastTimeUsed = state != null && state.getLastTimeUsed() != null ? state.getLastTimeUsed() : ticket.getCreationTime();
+        if (seconds <= 0 || lastTimeUsed == null) {
+            return null;
+        }
+        try {
+            return lastTimeUsed.plusSeconds(seconds);
+        } catch (final DateTimeException e) {
+            LOGGER.trace("Unable to calculate expiration time for ticket [{}]: [{}]", ticket.getId(), e.getMessage());
+            return null;
+        }
+    }
 }
@@ -67,7 +67,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -504,6 +506,40 @@ public abstract class BaseTicketRegistryTests {
         });
     }
 
+    @RepeatedTest(2)
+    @Transactional
+    public void verifyBulkTicketOperations() {
+        val service = RegisteredServiceTestUtils.getService("TGT_BULK_TEST");
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val st1 = tgt.grantServiceTicket(serviceTicketId + "-1", service, NeverExpiresExpirationPolicy.INSTANCE, false, false);
+        val st2 = tgt.grantServiceTicket(serviceTicketId + "-2", service, NeverExpiresExpirationPolicy.INSTANCE, false, false);
+        ticketRegistry.addTickets(List.of(tgt, st1, st2));
+
+        val ticketIds = List.of(tgt.getId(), st1.getId(), st2.getId());
+        val unknownTicketId = new ServiceTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(ServiceTicket.PREFIX);
+        val tickets = ticketRegistry.getTickets(List.of(tgt.getId(), st1.getId(), st2.getId(), unknownTicketId));
+        assertEquals(3, tickets.size(), () -> "Wrong ticket count. useEncryption[" + useEncryption + ']');
+        assertTrue(tickets.stream().map(Ticket::getId).collect(Collectors.toList()).containsAll(ticketIds));
+
+        assertEquals(3, ticketRegistry.deleteTickets(List.of(tgt.getId(), unknownTicketId)));
+        assertTrue(ticketRegistry.getTickets(ticketIds).isEmpty());
+        ticketIds.forEach(id -> assertNull(ticketRegistry.getTicket(id)));
+    }
+
+    @RepeatedTest(2)
+    public void verifyBulkGetSkipsExpiredTickets() {
+        val authn = CoreAuthenticationTestUtils.getAuthentication();
+        val expiredTicketId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+        ticketRegistry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId, authn, NeverExpiresExpirationPolicy.INSTANCE));
+        ticketRegistry.addTicket(new TicketGrantingTicketImpl(expiredTicketId, authn, new AlwaysExpiresExpirationPolicy()));
+
+        val tickets = ticketRegistry.getTickets(List.of(ticketGrantingTicketId, expiredTicketId));
+        assertEquals(1, tickets.size());
+        assertEquals(ticketGrantingTicketId, tickets.iterator().next().getId());
+        assertNull(ticketRegistry.getTicket(expiredTicketId));
+    }
+
     protected abstract TicketRegistry getNewTicketRegistry();
 
     /**
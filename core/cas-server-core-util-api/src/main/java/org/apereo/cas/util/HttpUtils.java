@@ -1,5 +1,7 @@
 package org.apereo.cas.util;
 
+import org.apereo.cas.util.http.HttpMessage;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -12,24 +14,33 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
+import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link HttpUtils}.
@@ -52,6 +63,19 @@ public class HttpUtils {
 
     private static final int SOCKET_TIMEOUT_IN_MILLISECONDS = 10 * 1000;
 
+    private static final int IDLE_CONNECTION_TIMEOUT_IN_SECONDS = 30;
+
+    /**
+     * Pooled http clients, keyed by the proxy url through which requests are routed.
+     * Timeouts are the same for all clients, and authentication is set
+     * on each individual request, so clients can otherwise be shared.
+     */
+    private static final Map<String, CloseableHttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(HttpUtils::closeHttpClients, "HttpUtilsShutdownHook"));
+    }
+
     @SuperBuilder
     @Getter
     public static class HttpExecutionRequest {
@@ -82,7 +106,7 @@ public class HttpUtils {
          *
          * @return the boolean
          */
-        private boolean isBasicAuthentication() {
+        public boolean isBasicAuthentication() {
             return StringUtils.isNotBlank(basicAuthUsername) && StringUtils.isNotBlank(basicAuthPassword);
         }
 
@@ -91,31 +115,47 @@ public class HttpUtils {
          *
          * @return the boolean
          */
-        private boolean isBearerAuthentication() {
+        public boolean isBearerAuthentication() {
             return StringUtils.isNotBlank(bearerToken);
         }
     }
     
     /**
      * Execute http request and produce a response.
+     * Requests are executed by a pooled client that is shared by all requests that use the same proxy,
+     * so that connections are kept alive and reused. Responses must be closed via {@link #close(HttpResponse)}
+     * so their connection can be released back to the pool.
      *
      * @param execution the request
      * @return the http response
      */
     public static HttpResponse execute(final HttpExecutionRequest execution) {
+        try {
+            return execute(execution, getHttpClient(execution.getProxyUrl()));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Execute http request using the given client and produce a response.
+     * The proxy url of the request is not taken into account; requests are routed
+     * based on the configuration of the given client.
+     *
+     * @param execution the request
+     * @param client    the client
+     * @return the http response
+     */
+    public static HttpResponse execute(final HttpExecutionRequest execution, final HttpClient client) {
         try {
             val uri = buildHttpUri(execution.getUrl().trim(), execution.getParameters());
             val request = getHttpRequestByMethod(execution.getMethod().name().toLowerCase().trim(), execution.getEntity(), uri);
             execution.getHeaders().forEach((k, v) -> request.addHeader(k, v.toString()));
             prepareHttpRequest(request, execution);
-            val builder = getHttpClientBuilder();
-            if (StringUtils.isNotBlank(execution.getProxyUrl())) {
-                val proxyEndpoint = new URL(execution.getProxyUrl());
-                val proxy = new HttpHost(proxyEndpoint.getHost(), proxyEndpoint.getPort(), proxyEndpoint.getProtocol());
-                builder.setProxy(proxy);
-            }
-            val client = builder.build();
-            return client.execute(request);
+            val context = HttpClientContext.create();
+            context.setCookieStore(new BasicCookieStore());
+            return client.execute(request, context);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -123,7 +163,29 @@ public class HttpUtils {
     }
 
     /**
-     * Close the response.
+     * Execute http request and read the response into a http message.
+     *
+     * @param execution the request
+     * @return the http message, or null if no response was received
+     */
+    public static HttpMessage executeAndRead(final HttpExecutionRequest execution) {
+        return readHttpMessage(execution, execute(execution));
+    }
+
+    /**
+     * Execute http request using the given client and read the response into a http message.
+     *
+     * @param execution the request
+     * @param client    the client
+     * @return the http message, or null if no response was received
+     */
+    public static HttpMessage executeAndRead(final HttpExecutionRequest execution, final HttpClient client) {
+        return readHttpMessage(execution, execute(execution, client));
+    }
+
+    /**
+     * Close the response. Any remaining content is consumed first,
+     * so that the underlying connection can be reused.
      *
      * @param response the response to close
      */
@@ -131,6 +193,7 @@ public class HttpUtils {
         if (response instanceof CloseableHttpResponse) {
             val closeableHttpResponse = (CloseableHttpResponse) response;
             try {
+                EntityUtils.consumeQuietly(closeableHttpResponse.getEntity());
                 closeableHttpResponse.close();
             } catch (final Exception e) {
                 LoggingUtils.error(LOGGER, e);
@@ -207,13 +270,51 @@ public class HttpUtils {
         }
     }
 
-    private static URI buildHttpUri(final String url, final Map<String, Object> parameters) throws URISyntaxException {
+    /**
+     * Build http uri with the given query parameters.
+     *
+     * @param url        the url
+     * @param parameters the parameters
+     * @return the uri
+     * @throws URISyntaxException the uri syntax exception
+     */
+    public static URI buildHttpUri(final String url, final Map<String, Object> parameters) throws URISyntaxException {
         val uriBuilder = new URIBuilder(url);
         parameters.forEach((k, v) -> uriBuilder.addParameter(k, v.toString()));
         return uriBuilder.build();
     }
 
-    private HttpClientBuilder getHttpClientBuilder() {
+    private static HttpMessage readHttpMessage(final HttpExecutionRequest execution, final HttpResponse response) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            val entity = response.getEntity();
+            val message = new HttpMessage(new URL(execution.getUrl().trim()),
+                entity == null ? StringUtils.EMPTY : EntityUtils.toString(entity, StandardCharsets.UTF_8));
+            message.setResponseCode(response.getStatusLine().getStatusCode());
+            if (entity != null && entity.getContentType() != null) {
+                message.setContentType(entity.getContentType().getValue());
+            }
+            return message;
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            close(response);
+        }
+        return null;
+    }
+
+    private static CloseableHttpClient getHttpClient(final String proxyUrl) throws MalformedURLException {
+        if (StringUtils.isBlank(proxyUrl)) {
+            return HTTP_CLIENTS.computeIfAbsent(StringUtils.EMPTY, k -> getHttpClientBuilder().build());
+        }
+        val proxyEndpoint = new URL(proxyUrl);
+        val proxy = new HttpHost(proxyEndpoint.getHost(), proxyEndpoint.getPort(), proxyEndpoint.getProtocol());
+        return HTTP_CLIENTS.computeIfAbsent(proxyUrl.trim(), k -> getHttpClientBuilder().setProxy(proxy).build());
+    }
+
+    private static HttpClientBuilder getHttpClientBuilder() {
         val requestConfig = RequestConfig.custom();
         requestConfig.setConnectTimeout(CONNECT_TIMEOUT_IN_MILLISECONDS);
         requestConfig.setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_IN_MILLISECONDS);
@@ -224,6 +325,19 @@ public class HttpUtils {
             .useSystemProperties()
             .setMaxConnTotal(MAX_CONNECTIONS)
             .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+            .evictExpiredConnections()
+            .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)
             .setDefaultRequestConfig(requestConfig.build());
     }
+
+    private static void closeHttpClients() {
+        HTTP_CLIENTS.values().forEach(client -> {
+            try {
+                client.close();
+            } catch (final Exception e) {
+                LOGGER.trace(e.getMessage(), e);
+            }
+        });
+        HTTP_CLIENTS.clear();
+    }
 }
@@ -1,6 +1,11 @@
 package org.apereo.cas.util.http;
 
+import org.apereo.cas.util.HttpUtils;
+
+import org.apache.commons.lang3.StringUtils;
+
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Define the behaviour of a HTTP client.
@@ -10,6 +15,10 @@ import java.net.URL;
  * @since 4.0.0
  */
 public interface HttpClient {
+    /**
+     * Bean name of the non-blocking http client.
+     */
+    String BEAN_NAME_NON_BLOCKING_HTTP_CLIENT = "nonBlockingHttpClient";
 
     /**
      * Sends a message to a particular endpoint.  Option of sending it without
@@ -46,6 +55,53 @@ public interface HttpClient {
      */
     boolean isValidEndPoint(URL url);
 
+    /**
+     * Sends a message to a particular endpoint without blocking the caller.
+     * The returned future completes once the response is received, regardless
+     * of whether the message is marked as asynchronous.
+     *
+     * @param message the message that should be sent to the http endpoint
+     * @return the future that completes with true if the message was successfully sent.
+     */
+    default CompletableFuture<Boolean> sendMessageToEndPointAsync(final HttpMessage message) {
+        return CompletableFuture.supplyAsync(() -> sendMessageToEndPoint(message));
+    }
+
+    /**
+     * Contact the URL endpoint as a GET without blocking the caller.
+     *
+     * @param url the url
+     * @return the future that completes with the http message, or null if the response was not acceptable.
+     */
+    default CompletableFuture<HttpMessage> sendMessageToEndPointAsync(final URL url) {
+        return CompletableFuture.supplyAsync(() -> sendMessageToEndPoint(url));
+    }
+
+    /**
+     * Ensure that the url is reachable without blocking the caller.
+     *
+     * @param url the url to call
+     * @return the future that completes with whether the url is valid
+     */
+    default CompletableFuture<Boolean> isValidEndPointAsync(final URL url) {
+        return CompletableFuture.supplyAsync(() -> isValidEndPoint(url));
+    }
+
+    /**
+     * Execute the http request without blocking the caller.
+     * Unlike {@link #sendMessageToEndPointAsync(URL)}, the response is returned
+     * along with its status code and body, whether or not the status code is acceptable.
+     * Requests that specify a proxy are executed via the shared clients of {@link HttpUtils}.
+     *
+     * @param execution the request
+     * @return the future that completes with the http message, or null if no response was received.
+     */
+    default CompletableFuture<HttpMessage> executeAsync(final HttpUtils.HttpExecutionRequest execution) {
+        return CompletableFuture.supplyAsync(() -> StringUtils.isBlank(execution.getProxyUrl())
+            ? HttpUtils.executeAndRead(execution, getWrappedHttpClient())
+            : HttpUtils.executeAndRead(execution));
+    }
+
     /**
      * Gets wrapped http client.
      *
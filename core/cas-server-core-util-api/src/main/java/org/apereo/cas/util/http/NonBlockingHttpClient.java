@@ -0,0 +1,249 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This is {@link NonBlockingHttpClient}, an implementation of CAS {@link HttpClient}
+ * that delegates to the non-blocking {@link java.net.http.HttpClient}.
+ * Requests are multiplexed over reused connections using HTTP/2 where the endpoint supports it,
+ * and fall back to HTTP/1.1 otherwise. Callers that do not need to block may use the
+ * {@link CompletableFuture} variants to overlap outbound calls, while the synchronous variants
+ * simply wait for the response.
+ * The client relies on the hostname verification built into {@link java.net.http.HttpClient};
+ * operations that need the Apache HTTP client, such as {@link #getWrappedHttpClient()},
+ * are served by a blocking client that is created on demand from the same factory.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@Getter
+public class NonBlockingHttpClient implements HttpClient, DisposableBean {
+    private final java.net.http.HttpClient client;
+
+    private final List<Integer> acceptableCodes;
+
+    private final Duration readTimeout;
+
+    private final Map<String, String> defaultHeaders;
+
+    private final HttpClientFactory httpClientFactory;
+
+    @Getter(AccessLevel.NONE)
+    private SimpleHttpClient blockingHttpClient;
+
+    public NonBlockingHttpClient(final java.net.http.HttpClient client,
+                                 final List<Integer> acceptableCodes,
+                                 final Duration readTimeout,
+                                 final Map<String, String> defaultHeaders,
+                                 final HttpClientFactory httpClientFactory) {
+        this.client = client;
+        this.acceptableCodes = acceptableCodes;
+        this.readTimeout = readTimeout;
+        this.defaultHeaders = defaultHeaders;
+        this.httpClientFactory = httpClientFactory;
+    }
+
+    private static <T> T join(final CompletableFuture<T> future, final T defaultValue) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean sendMessageToEndPoint(final HttpMessage message) {
+        val future = sendMessageToEndPointAsync(message);
+        return message.isAsynchronous() || join(future, Boolean.FALSE);
+    }
+
+    @Override
+    public HttpMessage sendMessageToEndPoint(final URL url) {
+        return join(sendMessageToEndPointAsync(url), null);
+    }
+
+    @Override
+    public boolean isValidEndPoint(final String url) {
+        try {
+            return isValidEndPoint(new URL(url));
+        } catch (final MalformedURLException e) {
+            LoggingUtils.error(LOGGER, e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isValidEndPoint(final URL url) {
+        return join(isValidEndPointAsync(url), Boolean.FALSE);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendMessageToEndPointAsync(final HttpMessage message) {
+        try {
+            val request = newRequestBuilder(message.getUrl())
+                .header("Content-Type", message.getContentType())
+                .POST(HttpRequest.BodyPublishers.ofString(message.getMessage()))
+                .build();
+            LOGGER.trace("Created HTTP post message payload [{}]", request);
+            return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> response.statusCode() == HttpURLConnection.HTTP_OK)
+                .exceptionally(e -> {
+                    LOGGER.debug("Unable to send message", e);
+                    return Boolean.FALSE;
+                });
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to send message", e);
+            return CompletableFuture.completedFuture(Boolean.FALSE);
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpMessage> sendMessageToEndPointAsync(final URL url) {
+        try {
+            val request = newRequestBuilder(url).GET().build();
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    val responseCode = response.statusCode();
+                    if (acceptableCodes.contains(responseCode)) {
+                        LOGGER.debug("Response code received from server matched [{}].", responseCode);
+                        val msg = new HttpMessage(url, response.body());
+                        response.headers().firstValue("Content-Type").ifPresent(msg::setContentType);
+                        msg.setResponseCode(responseCode);
+                        return msg;
+                    }
+                    LOGGER.warn("Response code [{}] from [{}] did not match any of the acceptable response codes.", responseCode, url);
+                    return (HttpMessage) null;
+                })
+                .exceptionally(e -> {
+                    LoggingUtils.error(LOGGER, e);
+                    return null;
+                });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isValidEndPointAsync(final URL url) {
+        try {
+            val request = newRequestBuilder(url).GET().build();
+            return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> {
+                    val responseCode = response.statusCode();
+                    val valid = acceptableCodes.contains(responseCode);
+                    LOGGER.debug("Response code [{}] from [{}] is [{}]", responseCode, url, valid ? "accepted" : "not accepted");
+                    return valid;
+                })
+                .exceptionally(e -> {
+                    LoggingUtils.error(LOGGER, e);
+                    return Boolean.FALSE;
+                });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return CompletableFuture.completedFuture(Boolean.FALSE);
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpMessage> executeAsync(final HttpUtils.HttpExecutionRequest execution) {
+        if (StringUtils.isNotBlank(execution.getProxyUrl())) {
+            return CompletableFuture.supplyAsync(() -> HttpUtils.executeAndRead(execution));
+        }
+        try {
+            val url = HttpUtils.buildHttpUri(execution.getUrl().trim(), execution.getParameters()).toURL();
+            val builder = newRequestBuilder(url);
+            execution.getHeaders().forEach((name, value) -> builder.setHeader(name, value.toString()));
+            if (execution.isBasicAuthentication()) {
+                builder.setHeader(HttpHeaders.AUTHORIZATION, "Basic " + EncodingUtils.encodeBase64(
+                    execution.getBasicAuthUsername() + ':' + execution.getBasicAuthPassword()));
+            }
+            if (execution.isBearerAuthentication()) {
+                builder.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + execution.getBearerToken());
+            }
+            if (execution.getMethod() == HttpMethod.POST) {
+                builder.POST(StringUtils.isBlank(execution.getEntity())
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(execution.getEntity()));
+            } else if (execution.getMethod() == HttpMethod.DELETE) {
+                builder.DELETE();
+            } else {
+                builder.GET();
+            }
+            val request = builder.build();
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    val msg = new HttpMessage(url, response.body());
+                    response.headers().firstValue(HttpHeaders.CONTENT_TYPE).ifPresent(msg::setContentType);
+                    msg.setResponseCode(response.statusCode());
+                    return msg;
+                })
+                .exceptionally(e -> {
+                    LoggingUtils.error(LOGGER, e);
+                    return null;
+                });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Gets the Apache HTTP client of a blocking client that is created on demand
+     * from the same factory, for callers that need to work with the Apache HTTP client directly.
+     *
+     * @return the wrapped http client
+     */
+    @Override
+    public org.apache.http.client.HttpClient getWrappedHttpClient() {
+        return getBlockingHttpClient().getWrappedHttpClient();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (blockingHttpClient != null) {
+            blockingHttpClient.destroy();
+            blockingHttpClient = null;
+        }
+    }
+
+    @SneakyThrows
+    private synchronized SimpleHttpClient getBlockingHttpClient() {
+        if (blockingHttpClient == null) {
+            blockingHttpClient = (SimpleHttpClient) httpClientFactory.getObject();
+        }
+        return blockingHttpClient;
+    }
+
+    private HttpRequest.Builder newRequestBuilder(final URL url) throws Exception {
+        val builder = HttpRequest.newBuilder(url.toURI()).timeout(readTimeout);
+        defaultHeaders.forEach(builder::header);
+        return builder;
+    }
+}
@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -25,6 +26,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.RejectedExecutionException;
 
 /**
@@ -66,18 +68,54 @@ public class SimpleHttpClient implements HttpClient, Serializable, DisposableBea
      */
     private final SimpleHttpClientFactoryBean httpClientFactory;
 
+    private static HttpPost buildHttpPostRequest(final HttpMessage message) throws Exception {
+        val request = new HttpPost(message.getUrl().toURI());
+        request.addHeader("Content-Type", message.getContentType());
+
+        val entity = new StringEntity(message.getMessage(), ContentType.create(message.getContentType()));
+        request.setEntity(entity);
+        LOGGER.trace("Created HTTP post message payload [{}]", request);
+        return request;
+    }
+
     @Override
-    public boolean sendMessageToEndPoint(final HttpMessage message) {
+    public CompletableFuture<Boolean> sendMessageToEndPointAsync(final HttpMessage message) {
+        val future = new CompletableFuture<Boolean>();
         try {
-            val request = new HttpPost(message.getUrl().toURI());
-            request.addHeader("Content-Type", message.getContentType());
+            val handler = (ResponseHandler<Boolean>) response -> response.getStatusLine().getStatusCode() == HttpStatus.SC_OK;
+            this.requestExecutorService.execute(buildHttpPostRequest(message), HttpClientContext.create(), handler,
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(final Boolean result) {
+                        future.complete(result);
+                    }
+
+                    @Override
+                    public void failed(final Exception e) {
+                        LOGGER.debug("Unable to send message", e);
+                        future.complete(Boolean.FALSE);
+                    }
 
-            val entity = new StringEntity(message.getMessage(), ContentType.create(message.getContentType()));
-            request.setEntity(entity);
+                    @Override
+                    public void cancelled() {
+                        future.complete(Boolean.FALSE);
+                    }
+                });
+        } catch (final RejectedExecutionException e) {
+            LoggingUtils.warn(LOGGER, e);
+            future.complete(Boolean.FALSE);
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to send message", e);
+            future.complete(Boolean.FALSE);
+        }
+        return future;
+    }
 
+    @Override
+    public boolean sendMessageToEndPoint(final HttpMessage message) {
+        try {
             val handler = (ResponseHandler<Boolean>) response -> response.getStatusLine().getStatusCode() == HttpStatus.SC_OK;
-            LOGGER.trace("Created HTTP post message payload [{}]", request);
-            val task = this.requestExecutorService.execute(request, HttpClientContext.create(), handler);
+            val task = this.requestExecutorService.execute(buildHttpPostRequest(message), HttpClientContext.create(), handler);
             return message.isAsynchronous() || task.get();
         } catch (final RejectedExecutionException e) {
             LoggingUtils.warn(LOGGER, e);
@@ -39,8 +39,12 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -214,6 +218,39 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
         return new SimpleHttpClient(codes, httpClient, requestExecutorService, this);
     }
 
+    /**
+     * Build a non-blocking HTTP client based on the current properties.
+     * Settings that are specific to the Apache HTTP client, such as connection
+     * pool sizes, retry and backoff strategies, do not apply to this client.
+     * The non-blocking client always verifies hostnames the same way as {@link DefaultHostnameVerifier};
+     * if a different hostname verifier is configured, a client backed by the Apache HTTP client
+     * is returned instead so that the verifier is honored.
+     *
+     * @return the non-blocking HTTP client
+     */
+    @SneakyThrows
+    public HttpClient getNonBlockingObject() {
+        if (this.hostnameVerifier != null && !(this.hostnameVerifier instanceof DefaultHostnameVerifier)) {
+            LOGGER.debug("Hostname verifier [{}] is not supported by the non-blocking HTTP client; using the Apache HTTP client",
+                this.hostnameVerifier.getClass().getSimpleName());
+            return getObject();
+        }
+        val builder = java.net.http.HttpClient.newBuilder()
+            .version(java.net.http.HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(this.connectionTimeout))
+            .followRedirects(this.redirectsEnabled
+                ? java.net.http.HttpClient.Redirect.NORMAL
+                : java.net.http.HttpClient.Redirect.NEVER)
+            .sslContext(this.sslContext == null ? SSLContext.getDefault() : this.sslContext);
+        if (this.proxy != null) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(this.proxy.getHostName(), this.proxy.getPort())));
+        }
+        val headers = new LinkedHashMap<String, String>();
+        this.defaultHeaders.forEach(header -> headers.put(header.getName(), header.getValue()));
+        val codes = this.acceptableCodes.stream().sorted().collect(Collectors.toList());
+        return new NonBlockingHttpClient(builder.build(), codes, Duration.ofMillis(this.readTimeout), headers, this);
+    }
+
     @Override
     public Class<?> getObjectType() {
         return SimpleHttpClient.class;
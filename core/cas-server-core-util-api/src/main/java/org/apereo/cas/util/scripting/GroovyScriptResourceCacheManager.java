@@ -71,34 +71,40 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
         return cache.asMap().isEmpty();
     }
 
+    /**
+     * Resolve scriptable resource.
+     * External scripts are cached under the given keys. Inline scripts are cached under
+     * the content hash of the script body, so identical scripts share one compiled class
+     * regardless of the keys they are resolved under. Compilation happens at most once per key.
+     *
+     * @param scriptResource the script resource
+     * @param keys           the keys
+     * @return the executable compiled groovy script
+     */
     @Override
     public ExecutableCompiledGroovyScript resolveScriptableResource(
         final String scriptResource,
         final String... keys) {
 
-        val cacheKey = ScriptResourceCacheManager.computeKey(keys);
+        val externalScript = ScriptingUtils.isExternalGroovyScript(scriptResource);
+        val cacheKey = externalScript
+            ? ScriptResourceCacheManager.computeKey(keys)
+            : ScriptResourceCacheManager.computeKey(scriptResource);
         LOGGER.trace("Constructed cache key [{}] for keys [{}] mapped as groovy script", cacheKey, keys);
-        var script = (ExecutableCompiledGroovyScript) null;
-        if (containsKey(cacheKey)) {
-            script = get(cacheKey);
-            LOGGER.trace("Located cached groovy script [{}] for key [{}]", script, cacheKey);
-        } else {
+        return this.cache.get(cacheKey, key -> {
             try {
-                if (ScriptingUtils.isExternalGroovyScript(scriptResource)) {
+                LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, key);
+                if (externalScript) {
                     val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(scriptResource);
                     val resource = ResourceUtils.getResourceFrom(scriptPath);
-                    script = new WatchableGroovyScriptResource(resource);
-                } else {
-                    script = new GroovyShellScript(scriptResource);
+                    return new WatchableGroovyScriptResource(resource);
                 }
-                LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, cacheKey);
-                put(cacheKey, script);
-                LOGGER.trace("Cached groovy script [{}] for key [{}]", script, cacheKey);
+                return new GroovyShellScript(scriptResource);
             } catch (final Exception e) {
                 LoggingUtils.error(LOGGER, e);
             }
-        }
-        return script;
+            return null;
+        });
     }
 
     @Override
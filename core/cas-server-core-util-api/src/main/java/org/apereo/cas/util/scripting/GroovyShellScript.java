@@ -1,28 +1,38 @@
 package org.apereo.cas.util.scripting;
 
+import groovy.lang.Binding;
 import groovy.lang.Script;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * This is {@link GroovyShellScript}.
+ * The script body is compiled once into a script class; each execution
+ * creates a fresh script instance with its own binding, so the same object
+ * can be safely shared and executed concurrently without locking.
+ * Variables passed via {@link #setBinding(Map)} are scoped to the calling thread
+ * and are consumed by the next execution on that thread.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
 @Getter
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
-    private final transient Script groovyScript;
+    private final transient ThreadLocal<Map<String, Object>> bindingVariables = new ThreadLocal<>();
+
+    private final transient Class<? extends Script> groovyScriptClass;
+
     private final String script;
 
     @SneakyThrows
     public GroovyShellScript(final String script) {
         this.script = script;
-        this.groovyScript = ScriptingUtils.parseGroovyShellScript(script);
+        this.groovyScriptClass = ScriptingUtils.parseGroovyShellScriptClass(script);
     }
 
     /**
@@ -59,10 +69,16 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
      */
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyShellScript(this.groovyScript, clazz);
+        try {
+            if (this.groovyScriptClass != null) {
+                val variables = bindingVariables.get();
+                val groovyScript = ScriptingUtils.newGroovyShellScript(this.groovyScriptClass, new Binding());
+                return ScriptingUtils.executeGroovyShellScript(groovyScript, variables, clazz);
+            }
+            return null;
+        } finally {
+            bindingVariables.remove();
         }
-        return null;
     }
 
     @Override
@@ -73,11 +89,18 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
     @Override
     public void setBinding(final Map<String, Object> variables) {
         if (variables != null && !variables.isEmpty()) {
-            val binding = this.groovyScript.getBinding();
-            variables.forEach(binding::setVariable);
+            val current = bindingVariables.get();
+            val binding = current == null ? new HashMap<String, Object>(variables.size()) : current;
+            binding.putAll(variables);
+            bindingVariables.set(binding);
         }
     }
-    
+
+    @Override
+    public void close() {
+        bindingVariables.remove();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
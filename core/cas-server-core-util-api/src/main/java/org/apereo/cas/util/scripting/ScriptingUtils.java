@@ -4,6 +4,7 @@ import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 
+import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import groovy.lang.GroovyShell;
@@ -16,6 +17,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 
@@ -295,6 +297,30 @@ public class ScriptingUtils {
         return null;
     }
 
+    /**
+     * Parse groovy shell script and return the compiled script class.
+     * The class can be cached and instantiated cheaply per execution
+     * via {@link #newGroovyShellScript(Class, Binding)}.
+     *
+     * @param script the script
+     * @return the script class, or null
+     */
+    public static Class<? extends Script> parseGroovyShellScriptClass(final String script) {
+        val parsedScript = parseGroovyShellScript(script);
+        return parsedScript != null ? parsedScript.getClass() : null;
+    }
+
+    /**
+     * Create a new groovy shell script instance from a compiled script class.
+     *
+     * @param scriptClass the script class
+     * @param binding     the binding
+     * @return the script
+     */
+    public static Script newGroovyShellScript(final Class<? extends Script> scriptClass, final Binding binding) {
+        return InvokerHelper.createScript(scriptClass, binding);
+    }
+
     /**
      * Parse groovy script groovy object.
      *
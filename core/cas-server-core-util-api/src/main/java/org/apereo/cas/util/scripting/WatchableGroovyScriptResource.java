@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.core.io.Resource;
 
@@ -25,7 +26,7 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
 
     private transient FileWatcherService watcherService;
 
-    private transient GroovyObject groovyScript;
+    private transient volatile GroovyObject groovyScript;
 
     @SneakyThrows
     public WatchableGroovyScriptResource(final Resource script, final boolean enableWatcher) {
@@ -81,8 +82,9 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
      */
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyScript(this.groovyScript, args, clazz, failOnError);
+        val script = this.groovyScript;
+        if (script != null) {
+            return ScriptingUtils.executeGroovyScript(script, args, clazz, failOnError);
         }
         return null;
     }
@@ -103,8 +105,9 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
      * @return the t
      */
     public <T> T execute(final String methodName, final Class<T> clazz, final boolean failOnError, final Object... args) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyScript(this.groovyScript, methodName, args, clazz, failOnError);
+        val script = this.groovyScript;
+        if (script != null) {
+            return ScriptingUtils.executeGroovyScript(script, methodName, args, clazz, failOnError);
         }
         return null;
     }
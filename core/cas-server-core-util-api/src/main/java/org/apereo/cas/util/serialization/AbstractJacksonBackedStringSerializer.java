@@ -20,7 +20,6 @@ import org.hjson.JsonValue;
 import org.hjson.Stringify;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
@@ -73,29 +72,28 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         return !(this.objectMapper.getFactory() instanceof YAMLFactory);
     }
 
+    private boolean isHjsonFormat() {
+        return isJsonFormat() && isHjsonEnabled();
+    }
+
     @Override
-    @SneakyThrows
     public T from(final String json) {
-        val jsonString = isJsonFormat() ? JsonValue.readHjson(json).toString() : json;
-        return readObjectFromString(jsonString);
+        return readObjectFromContent(json);
     }
 
     @Override
     @SneakyThrows
     public T from(final File json) {
-        val string = isJsonFormat()
-            ? JsonValue.readHjson(FileUtils.readFileToString(json, StandardCharsets.UTF_8)).toString()
-            : FileUtils.readFileToString(json, StandardCharsets.UTF_8);
-        return readObjectFromString(string);
+        return readObjectFromContent(FileUtils.readFileToString(json, StandardCharsets.UTF_8));
     }
 
     @Override
     @SneakyThrows
     public T from(final Reader json) {
         val string = isJsonFormat()
-            ? JsonValue.readHjson(json).toString()
+            ? IOUtils.toString(json)
             : String.join("\n", IOUtils.readLines(json));
-        return readObjectFromString(string);
+        return readObjectFromContent(string);
     }
 
     @Override
@@ -106,21 +104,10 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     @Override
     @SneakyThrows
     public T from(final InputStream json) {
-        val jsonString = readJsonFrom(json);
-        return readObjectFromString(jsonString);
-    }
-
-    /**
-     * Read json from stream.
-     *
-     * @param json the json
-     * @return the string
-     * @throws IOException the io exception
-     */
-    protected String readJsonFrom(final InputStream json) throws IOException {
-        return isJsonFormat()
-            ? JsonValue.readHjson(IOUtils.toString(json, StandardCharsets.UTF_8)).toString()
+        val string = isJsonFormat()
+            ? IOUtils.toString(json, StandardCharsets.UTF_8)
             : String.join("\n", IOUtils.readLines(json, StandardCharsets.UTF_8));
+        return readObjectFromContent(string);
     }
 
     @Override
@@ -128,7 +115,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     public void to(final OutputStream out, final T object) {
         try (val writer = new StringWriter()) {
             this.objectMapper.writer(this.prettyPrinter).writeValue(writer, object);
-            val hjsonString = isJsonFormat()
+            val hjsonString = isHjsonFormat()
                 ? JsonValue.readHjson(writer.toString()).toString(Stringify.HJSON)
                 : writer.toString();
             IOUtils.write(hjsonString, out, StandardCharsets.UTF_8);
@@ -141,7 +128,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         try (val writer = new StringWriter()) {
             this.objectMapper.writer(this.prettyPrinter).writeValue(writer, object);
 
-            if (isJsonFormat()) {
+            if (isHjsonFormat()) {
                 val opt = this.prettyPrinter instanceof MinimalPrettyPrinter ? Stringify.PLAIN : Stringify.FORMATTED;
                 JsonValue.readHjson(writer.toString()).writeTo(out, opt);
             } else {
@@ -156,7 +143,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         try (val writer = new StringWriter()) {
             this.objectMapper.writer(this.prettyPrinter).writeValue(writer, object);
 
-            if (isJsonFormat()) {
+            if (isHjsonFormat()) {
                 try (val fileWriter = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8)) {
                     val opt = this.prettyPrinter instanceof MinimalPrettyPrinter ? Stringify.PLAIN : Stringify.FORMATTED;
                     JsonValue.readHjson(writer.toString()).writeTo(fileWriter, opt);
@@ -205,6 +192,17 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         return true;
     }
 
+    /**
+     * Whether JSON content may be read as, and is written in, Hjson.
+     * Serializers that only ever handle machine-generated JSON can turn this off
+     * to read and write content with Jackson alone.
+     *
+     * @return true/false
+     */
+    protected boolean isHjsonEnabled() {
+        return true;
+    }
+
     /**
      * Gets json factory.
      *
@@ -214,6 +212,28 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         return null;
     }
 
+    /**
+     * Read object from content.
+     * JSON content is first parsed as strict JSON, and only converted from Hjson
+     * and parsed again when that fails, which avoids parsing and re-serializing
+     * content that is already valid JSON.
+     *
+     * @param content the content
+     * @return the type
+     */
+    protected T readObjectFromContent(final String content) {
+        if (isHjsonFormat()) {
+            try {
+                LOGGER.trace("Attempting to consume [{}]", content);
+                return this.objectMapper.readValue(content, getTypeToSerialize());
+            } catch (final Exception e) {
+                LOGGER.trace("Unable to parse content as strict JSON; attempting to parse as Hjson: [{}]", e.getMessage());
+                return readObjectFromString(JsonValue.readHjson(content).toString());
+            }
+        }
+        return readObjectFromString(content);
+    }
+
     /**
      * Read object from json.
      *
@@ -1,13 +1,18 @@
 package org.apereo.cas.util;
 
+import com.sun.net.httpserver.HttpServer;
 import lombok.val;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -48,6 +53,38 @@ public class HttpUtilsTests {
         assertNull(HttpUtils.execute(exec));
     }
 
+    @Test
+    public void verifyConnectionsAreReused() throws Exception {
+        val connections = ConcurrentHashMap.newKeySet();
+        val server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            connections.add(exchange.getRemoteAddress());
+            val body = "OK".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(HttpStatus.OK.value(), body.length);
+            try (val out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            val url = "http://localhost:" + server.getAddress().getPort();
+            for (var i = 0; i < 10; i++) {
+                val exec = HttpUtils.HttpExecutionRequest.builder()
+                    .method(i % 2 == 0 ? HttpMethod.GET : HttpMethod.POST)
+                    .entity("entity")
+                    .url(url)
+                    .build();
+                val response = HttpUtils.execute(exec);
+                assertNotNull(response);
+                assertEquals(HttpStatus.OK.value(), response.getStatusLine().getStatusCode());
+                HttpUtils.close(response);
+            }
+            assertEquals(1, connections.size());
+        } finally {
+            server.stop(0);
+        }
+    }
+
     @Test
     public void verifyClose() {
         assertDoesNotThrow(new Executable() {
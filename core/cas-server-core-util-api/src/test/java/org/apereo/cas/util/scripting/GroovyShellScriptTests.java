@@ -6,6 +6,12 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -28,4 +34,25 @@ public class GroovyShellScriptTests {
         });
         assertNotNull(shell.toString());
     }
+
+    @Test
+    public void verifyConcurrentExecutionWithBinding() throws Exception {
+        val shell = new GroovyShellScript("return name + '-' + logger.getClass().getSimpleName().length()");
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val tasks = IntStream.range(0, 200)
+                .mapToObj(i -> (Callable<Boolean>) () -> {
+                    val name = "user" + i;
+                    shell.setBinding(Map.of("name", name));
+                    val result = shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class);
+                    return result != null && result.startsWith(name + '-');
+                })
+                .collect(Collectors.toList());
+            for (val future : executor.invokeAll(tasks)) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
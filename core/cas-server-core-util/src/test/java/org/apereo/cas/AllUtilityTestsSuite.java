@@ -25,6 +25,7 @@ import org.apereo.cas.util.gen.DefaultRandomStringGeneratorTests;
 import org.apereo.cas.util.gen.HexRandomStringGeneratorTests;
 import org.apereo.cas.util.gen.RandomStringGeneratorTests;
 import org.apereo.cas.util.http.HttpMessageTests;
+import org.apereo.cas.util.http.NonBlockingHttpClientTests;
 import org.apereo.cas.util.http.SimpleHttpClientTests;
 
 import org.junit.platform.runner.JUnitPlatform;
@@ -45,6 +46,7 @@ import org.junit.runner.RunWith;
     RsaKeyPairCipherExecutorTests.class,
     HttpMessageTests.class,
     SimpleHttpClientTests.class,
+    NonBlockingHttpClientTests.class,
     CasEmbeddedValueResolverTests.class,
     RandomStringGeneratorTests.class,
     ChainingPrincipalNameTransformerTests.class,
@@ -0,0 +1,139 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.MockWebServer;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link NonBlockingHttpClientTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Web")
+public class NonBlockingHttpClientTests {
+
+    private static NonBlockingHttpClient getHttpClient() {
+        return (NonBlockingHttpClient) new SimpleHttpClientFactoryBean().getNonBlockingObject();
+    }
+
+    private static ByteArrayResource getResource(final String data) {
+        return new ByteArrayResource(data.getBytes(StandardCharsets.UTF_8), "Output");
+    }
+
+    @Test
+    public void verifyValidEndpoint() throws Exception {
+        try (val webServer = new MockWebServer(8171, getResource(StringUtils.EMPTY), HttpStatus.OK)) {
+            webServer.start();
+            assertTrue(getHttpClient().isValidEndPoint("http://localhost:8171"));
+        }
+    }
+
+    @Test
+    public void verifyValidRejected() throws Exception {
+        try (val webServer = new MockWebServer(8172, getResource(StringUtils.EMPTY), HttpStatus.INTERNAL_SERVER_ERROR)) {
+            webServer.start();
+            assertFalse(getHttpClient().isValidEndPoint(new URL("http://localhost:8172")));
+            assertNull(getHttpClient().sendMessageToEndPoint(new URL("http://localhost:8172")));
+        }
+    }
+
+    @Test
+    public void verifyMessageReceived() throws Exception {
+        try (val webServer = new MockWebServer(8173, getResource("{\"name\":\"value\"}"), HttpStatus.OK)) {
+            webServer.start();
+            val result = getHttpClient().sendMessageToEndPointAsync(new URL("http://localhost:8173")).get();
+            assertNotNull(result);
+            assertEquals(HttpStatus.OK.value(), result.getResponseCode());
+            assertTrue(result.getMessage().contains("name"));
+        }
+    }
+
+    @Test
+    public void verifyMessageSent() throws Exception {
+        try (val webServer = new MockWebServer(8174, getResource(StringUtils.EMPTY), HttpStatus.OK)) {
+            webServer.start();
+            val msg = new HttpMessage(new URL("http://localhost:8174"), "{'name' : 'value'}", false);
+            assertTrue(getHttpClient().sendMessageToEndPoint(msg));
+        }
+    }
+
+    @Test
+    public void verifyRequestsOverlap() throws Exception {
+        try (val webServer1 = new MockWebServer(8175, getResource(StringUtils.EMPTY), HttpStatus.OK);
+             val webServer2 = new MockWebServer(8176, getResource(StringUtils.EMPTY), HttpStatus.OK)) {
+            webServer1.start();
+            webServer2.start();
+            val client = getHttpClient();
+            val first = client.isValidEndPointAsync(new URL("http://localhost:8175"));
+            val second = client.isValidEndPointAsync(new URL("http://localhost:8176"));
+            CompletableFuture.allOf(first, second).join();
+            assertTrue(first.get());
+            assertTrue(second.get());
+        }
+    }
+
+    @Test
+    public void verifyEndpointNotReachable() throws Exception {
+        val client = getHttpClient();
+        assertFalse(client.isValidEndPoint("http://localhost:1234"));
+        assertFalse(client.isValidEndPoint("xyz"));
+        assertNull(client.sendMessageToEndPoint(new URL("http://localhost:1234")));
+        assertFalse(client.sendMessageToEndPointAsync(
+            new HttpMessage(new URL("http://localhost:1234"), "message", true)).get());
+        assertNull(client.executeAsync(HttpUtils.HttpExecutionRequest.builder()
+            .method(HttpMethod.GET).url("http://localhost:1234").build()).get());
+        assertNotNull(client.getHttpClientFactory());
+    }
+
+    @Test
+    public void verifyWrappedHttpClient() {
+        val client = getHttpClient();
+        val wrapped = client.getWrappedHttpClient();
+        assertNotNull(wrapped);
+        assertSame(wrapped, client.getWrappedHttpClient());
+        client.destroy();
+    }
+
+    @Test
+    public void verifyExecuteRequest() throws Exception {
+        try (val webServer = new MockWebServer(8177, getResource("{\"name\":\"value\"}"), HttpStatus.INTERNAL_SERVER_ERROR)) {
+            webServer.start();
+            val exec = HttpUtils.HttpExecutionRequest.builder()
+                .method(HttpMethod.POST)
+                .url("http://localhost:8177")
+                .basicAuthUsername("casuser")
+                .basicAuthPassword("Mellon")
+                .parameters(CollectionUtils.wrap("principal", "casuser"))
+                .entity("{}")
+                .build();
+            val result = getHttpClient().executeAsync(exec).get();
+            assertNotNull(result);
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), result.getResponseCode());
+            assertTrue(result.getMessage().contains("name"));
+        }
+    }
+
+    @Test
+    public void verifyHostnameVerifierIsHonored() {
+        val factory = new SimpleHttpClientFactoryBean();
+        assertTrue(factory.getNonBlockingObject() instanceof NonBlockingHttpClient);
+        factory.setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+        assertTrue(factory.getNonBlockingObject() instanceof SimpleHttpClient);
+    }
+}
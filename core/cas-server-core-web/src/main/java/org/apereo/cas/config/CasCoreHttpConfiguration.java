@@ -90,6 +90,12 @@ public class CasCoreHttpConfiguration {
         return getHttpClient(true);
     }
 
+    @ConditionalOnMissingBean(name = HttpClient.BEAN_NAME_NON_BLOCKING_HTTP_CLIENT)
+    @Bean(name = HttpClient.BEAN_NAME_NON_BLOCKING_HTTP_CLIENT, destroyMethod = "destroy")
+    public HttpClient nonBlockingHttpClient() {
+        return buildHttpClientFactoryBean().getNonBlockingObject();
+    }
+
     @ConditionalOnMissingBean(name = "hostnameVerifier")
     @Bean
     public HostnameVerifier hostnameVerifier() {
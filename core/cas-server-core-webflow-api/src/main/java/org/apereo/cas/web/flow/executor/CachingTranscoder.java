@@ -0,0 +1,103 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.RandomUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.util.CodecUtil;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Keeps bulky encoded flow execution state in a server-side cache.
+ * States produced by the delegate {@link Transcoder} that are smaller than the threshold are passed
+ * to the client as before; larger states are cached under a random identifier, and the client only
+ * receives a handle that carries the identifier and its signature.
+ * Handles are signed with a key that is generated when this component is created, and so
+ * are only valid for as long as the component, and the cache, is.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CachingTranscoder implements Transcoder {
+    private static final byte TYPE_STATE = 1;
+
+    private static final byte TYPE_HANDLE = 2;
+
+    private static final int IDENTIFIER_LENGTH = 16;
+
+    private static final int SIGNATURE_LENGTH = 16;
+
+    private static final String SIGNING_ALGORITHM = "HmacSHA256";
+
+    private static final int SIGNING_KEY_LENGTH = 32;
+
+    private final Transcoder delegate;
+
+    private final Cache<String, byte[]> cache;
+
+    private final int threshold;
+
+    private final SecureRandom random = RandomUtils.getNativeInstance();
+
+    private final SecretKeySpec signingKey = new SecretKeySpec(nextBytes(SIGNING_KEY_LENGTH), SIGNING_ALGORITHM);
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        val encoded = delegate.encode(o);
+        if (encoded == null || encoded.length < threshold) {
+            return ArrayUtils.insert(0, encoded == null ? ArrayUtils.EMPTY_BYTE_ARRAY : encoded, TYPE_STATE);
+        }
+        val identifier = nextBytes(IDENTIFIER_LENGTH);
+        cache.put(CodecUtil.hex(identifier), encoded);
+        LOGGER.trace("Cached encoded flow state of [{}] bytes under [{}]", encoded.length, CodecUtil.hex(identifier));
+        return ArrayUtils.addAll(ArrayUtils.insert(0, identifier, TYPE_HANDLE), sign(identifier));
+    }
+
+    @Override
+    public Object decode(final byte[] encoded) throws IOException {
+        if (encoded == null || encoded.length == 0) {
+            throw new IOException("No flow state is provided");
+        }
+        if (encoded[0] == TYPE_STATE) {
+            return delegate.decode(Arrays.copyOfRange(encoded, 1, encoded.length));
+        }
+        if (encoded[0] != TYPE_HANDLE || encoded.length != 1 + IDENTIFIER_LENGTH + SIGNATURE_LENGTH) {
+            throw new IOException("Flow state handle is malformed");
+        }
+        val identifier = Arrays.copyOfRange(encoded, 1, 1 + IDENTIFIER_LENGTH);
+        val signature = Arrays.copyOfRange(encoded, 1 + IDENTIFIER_LENGTH, encoded.length);
+        if (!MessageDigest.isEqual(signature, sign(identifier))) {
+            throw new IOException("Flow state handle signature is invalid");
+        }
+        val state = cache.getIfPresent(CodecUtil.hex(identifier));
+        if (state == null) {
+            throw new IOException("Flow state could not be found for handle " + CodecUtil.hex(identifier));
+        }
+        return delegate.decode(state);
+    }
+
+    @SneakyThrows
+    private byte[] sign(final byte[] identifier) {
+        val mac = Mac.getInstance(SIGNING_ALGORITHM);
+        mac.init(signingKey);
+        return Arrays.copyOf(mac.doFinal(identifier), SIGNATURE_LENGTH);
+    }
+
+    private byte[] nextBytes(final int length) {
+        val bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
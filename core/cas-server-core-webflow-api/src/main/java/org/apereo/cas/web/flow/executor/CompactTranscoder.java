@@ -0,0 +1,233 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.util.ClassUtils;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes flow execution state into a compact, encrypted byte stream.
+ * The serialized form differs from that of {@link EncryptedTranscoder} in that:
+ * <ul>
+ * <li>Descriptors of well-known classes are replaced with their index in {@link #CLASS_DICTIONARY}.</li>
+ * <li>Empty attribute maps, such as unused flow, flash and conversation scopes, are written as a placeholder.</li>
+ * <li>The stream is deflated at a configurable level, without zlib framing, using a preset
+ * dictionary of strings that commonly appear in CAS flow state.</li>
+ * </ul>
+ * Both dictionaries are part of the encoded format; entries may only be appended to the class
+ * dictionary, and any other change to either requires bumping {@link #FORMAT_VERSION}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class CompactTranscoder extends EncryptedTranscoder {
+    /**
+     * Classes whose descriptors are replaced with their index in this list.
+     */
+    static final List<String> CLASS_DICTIONARY = List.of(
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.engine.impl.FlowExecutionStatus",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.apereo.cas.web.flow.executor.CompactTranscoder$EmptyAttributeMap",
+        "org.springframework.binding.message.Message",
+        "org.springframework.binding.message.Severity",
+        "java.lang.Enum",
+        "java.lang.Number",
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Double",
+        "java.util.ArrayList",
+        "java.util.LinkedList",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.TreeMap",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.util.UUID",
+        "java.time.Ser",
+        "java.util.Collections$UnmodifiableMap",
+        "java.util.Collections$UnmodifiableList",
+        "java.util.Collections$UnmodifiableRandomAccessList",
+        "java.util.Collections$UnmodifiableCollection",
+        "java.util.Collections$EmptyList",
+        "java.util.Collections$EmptyMap",
+        "org.apereo.cas.authentication.credential.AbstractCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl"
+    );
+
+    /**
+     * Version of the encoded format, written as the first byte of the compressed stream.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final byte[] PRESET_DICTIONARY = String.join("",
+        "java.lang.String", "java.lang.Object", "attributes", "messagesMemento", "severity", "source", "text",
+        "username", "password", "rememberMe", "source", "originalUrl", "artifactId", "principal", "format",
+        "flowExecutionUrl", "ticketGrantingTicketId", "warnCookieValue", "authenticationResultBuilder",
+        "credential", "service", "viewScope", "embeddedMode", "viewLoginForm", "realSubmit", "casLoginView",
+        "initializeLoginForm", "login", "logout").getBytes(StandardCharsets.UTF_8);
+
+    private static final Map<String, Integer> CLASS_IDS = new HashMap<>(CLASS_DICTIONARY.size());
+
+    private static final int DESCRIPTOR_IN_DICTIONARY = 1;
+
+    private static final int DESCRIPTOR_IN_STREAM = 2;
+
+    static {
+        for (var i = 0; i < CLASS_DICTIONARY.size(); i++) {
+            CLASS_IDS.put(CLASS_DICTIONARY.get(i), i);
+        }
+    }
+
+    private final int compressionLevel;
+
+    public CompactTranscoder(final CipherBean cipherBean, final int compressionLevel) {
+        super(cipherBean, true);
+        this.compressionLevel = compressionLevel;
+    }
+
+    public CompactTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, Deflater.BEST_SPEED);
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val outBuffer = new ByteArrayOutputStream();
+        val deflater = new Deflater(compressionLevel, true);
+        try {
+            deflater.setDictionary(PRESET_DICTIONARY);
+            outBuffer.write(FORMAT_VERSION);
+            try (val out = new CompactObjectOutputStream(new DeflaterOutputStream(outBuffer, deflater))) {
+                writeObjectToOutputStream(o, out);
+            } catch (final NotSerializableException e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        } finally {
+            deflater.end();
+        }
+        return encrypt(outBuffer);
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        val data = decrypt(encoded);
+        val inflater = new Inflater(true);
+        inflater.setDictionary(PRESET_DICTIONARY);
+        try (val inBuffer = new ByteArrayInputStream(data)) {
+            val version = inBuffer.read();
+            if (version != FORMAT_VERSION) {
+                throw new StreamCorruptedException("Unsupported flow state format version " + version);
+            }
+            try (val in = new CompactObjectInputStream(new InflaterInputStream(inBuffer, inflater))) {
+                return in.readObject();
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Placeholder for an empty attribute map. Each map gets its own placeholder,
+     * so that distinct maps are not shared once decoded.
+     */
+    private static final class EmptyAttributeMap implements Serializable {
+        private static final long serialVersionUID = 1815305290458931478L;
+    }
+
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            val id = CLASS_IDS.get(desc.getName());
+            if (id != null) {
+                writeByte(DESCRIPTOR_IN_DICTIONARY);
+                writeShort(id);
+            } else {
+                writeByte(DESCRIPTOR_IN_STREAM);
+                super.writeClassDescriptor(desc);
+            }
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) {
+            if (obj != null && obj.getClass() == LocalAttributeMap.class && ((LocalAttributeMap<?>) obj).isEmpty()) {
+                return new EmptyAttributeMap();
+            }
+            return obj;
+        }
+    }
+
+    private static class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val type = readByte();
+            if (type == DESCRIPTOR_IN_STREAM) {
+                return super.readClassDescriptor();
+            }
+            if (type != DESCRIPTOR_IN_DICTIONARY) {
+                throw new StreamCorruptedException("Unknown class descriptor type " + type);
+            }
+            val id = readShort();
+            if (id < 0 || id >= CLASS_DICTIONARY.size()) {
+                throw new StreamCorruptedException("Unknown class identifier " + id);
+            }
+            val clazz = ClassUtils.forName(CLASS_DICTIONARY.get(id), getClass().getClassLoader());
+            return ObjectStreamClass.lookupAny(clazz);
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) {
+            if (obj instanceof EmptyAttributeMap) {
+                return new LocalAttributeMap<>();
+            }
+            return obj;
+        }
+    }
+}
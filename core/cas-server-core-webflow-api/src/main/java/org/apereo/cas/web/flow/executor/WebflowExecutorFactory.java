@@ -4,6 +4,7 @@ import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -76,6 +77,17 @@ public class WebflowExecutorFactory {
     @SneakyThrows
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        val client = webflowProperties.getSession().getClient();
+        val transcoder = client.isCompact()
+            ? new CompactTranscoder(cipherBean, client.getCompressionLevel())
+            : new EncryptedTranscoder(cipherBean);
+        if (client.getCacheThreshold() > 0) {
+            val cache = Caffeine.newBuilder()
+                .expireAfterWrite(Beans.newDuration(client.getCacheExpiration()))
+                .maximumSize(client.getCacheMaximumSize())
+                .<String, byte[]>build();
+            return new CachingTranscoder(transcoder, cache, client.getCacheThreshold());
+        }
+        return transcoder;
     }
 }
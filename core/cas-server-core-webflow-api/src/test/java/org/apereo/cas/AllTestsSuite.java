@@ -5,7 +5,9 @@ import org.apereo.cas.web.flow.actions.StaticEventExecutionActionTests;
 import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilderTests;
 import org.apereo.cas.web.flow.decorator.GroovyLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.decorator.RestfulLoginWebflowDecoratorTests;
+import org.apereo.cas.web.flow.executor.CachingTranscoderTests;
 import org.apereo.cas.web.flow.executor.ClientFlowExecutionRepositoryTests;
+import org.apereo.cas.web.flow.executor.CompactTranscoderTests;
 import org.apereo.cas.web.flow.executor.EncryptedTranscoderTests;
 import org.apereo.cas.web.flow.services.DefaultRegisteredServiceUserInterfaceInfoTests;
 
@@ -27,7 +29,9 @@ import org.junit.runner.RunWith;
     DynamicFlowModelBuilderTests.class,
     ConsumerExecutionActionTests.class,
     StaticEventExecutionActionTests.class,
-    EncryptedTranscoderTests.class
+    EncryptedTranscoderTests.class,
+    CompactTranscoderTests.class,
+    CachingTranscoderTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
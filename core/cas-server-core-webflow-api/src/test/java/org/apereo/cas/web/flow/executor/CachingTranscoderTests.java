@@ -0,0 +1,71 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for {@link CachingTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Webflow")
+public class CachingTranscoderTests {
+
+    private static final Transcoder DELEGATE = new Transcoder() {
+        @Override
+        public byte[] encode(final Object o) {
+            return o.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object decode(final byte[] encoded) {
+            return new String(encoded, StandardCharsets.UTF_8);
+        }
+    };
+
+    @Test
+    public void verifySmallStateIsKeptOnClient() throws Exception {
+        val cache = Caffeine.newBuilder().<String, byte[]>build();
+        val transcoder = new CachingTranscoder(DELEGATE, cache, 64);
+        val encoded = transcoder.encode("small");
+        assertEquals("small", transcoder.decode(encoded));
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    public void verifyLargeStateIsCached() throws Exception {
+        val cache = Caffeine.newBuilder().<String, byte[]>build();
+        val transcoder = new CachingTranscoder(DELEGATE, cache, 64);
+        val state = "large".repeat(100);
+        val encoded = transcoder.encode(state);
+        assertTrue(encoded.length < 64);
+        assertEquals(1, cache.estimatedSize());
+        assertEquals(state, transcoder.decode(encoded));
+    }
+
+    @Test
+    public void verifyHandleIsVerified() throws Exception {
+        val cache = Caffeine.newBuilder().<String, byte[]>build();
+        val transcoder = new CachingTranscoder(DELEGATE, cache, 64);
+        val encoded = transcoder.encode("large".repeat(100));
+
+        val tampered = ArrayUtils.clone(encoded);
+        tampered[1] ^= 1;
+        assertThrows(IOException.class, () -> transcoder.decode(tampered));
+        assertThrows(IOException.class, () -> new CachingTranscoder(DELEGATE, cache, 64).decode(encoded));
+        assertThrows(IOException.class, () -> transcoder.decode(ArrayUtils.subarray(encoded, 0, 10)));
+        assertThrows(IOException.class, () -> transcoder.decode(ArrayUtils.EMPTY_BYTE_ARRAY));
+
+        cache.invalidateAll();
+        assertThrows(IOException.class, () -> transcoder.decode(encoded));
+    }
+}
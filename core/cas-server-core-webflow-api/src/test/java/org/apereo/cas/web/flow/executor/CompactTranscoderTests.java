@@ -0,0 +1,126 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.ClassPathResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for {@link CompactTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Webflow")
+public class CompactTranscoderTests {
+
+    private static final CipherBean CIPHER_BEAN = getCipherBean();
+
+    private static CipherBean getCipherBean() {
+        val keystoreFactory = new KeyStoreFactoryBean();
+        keystoreFactory.setType("JCEKS");
+        keystoreFactory.setPassword("changeit");
+        keystoreFactory.setResource(new ClassPathResource("test-keystore.jceks"));
+
+        val cipher = new AEADBlockCipherBean();
+        cipher.setKeyAlias("aes128");
+        cipher.setKeyPassword("changeit");
+        cipher.setKeyStore(keystoreFactory.newInstance());
+        cipher.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        cipher.setNonce(new RBGNonce());
+        return cipher;
+    }
+
+    private static LocalAttributeMap<Object> getFlowState() {
+        val flowScope = new LocalAttributeMap<Object>();
+        flowScope.put("service", "https://app.example.org/login?param=" + UUID.randomUUID());
+        flowScope.put("credential", new SampleCredential("casuser", List.of("password")));
+        flowScope.put("flowScope", new LocalAttributeMap<>());
+        flowScope.put("flashScope", new LocalAttributeMap<>());
+        val messages = new ArrayList<Object>();
+        for (var i = 0; i < 5; i++) {
+            val message = new LinkedHashMap<String, Object>();
+            message.put("source", "username");
+            message.put("text", "authenticationFailure.AccountNotFoundException");
+            message.put("severity", i);
+            messages.add(message);
+        }
+        flowScope.put("messagesMemento", messages);
+        return flowScope;
+    }
+
+    @Test
+    public void verifyEncodeDecode() throws Exception {
+        val transcoder = new CompactTranscoder(CIPHER_BEAN);
+        val state = getFlowState();
+        val decoded = (LocalAttributeMap<?>) transcoder.decode(transcoder.encode(state));
+        assertEquals(state, decoded);
+        assertEquals(LocalAttributeMap.class, decoded.get("flowScope").getClass());
+        assertNotSame(decoded.get("flowScope"), decoded.get("flashScope"));
+        assertEquals(SampleCredential.class, decoded.get("credential").getClass());
+    }
+
+    @Test
+    public void verifyEncodedStateIsSmaller() throws Exception {
+        val state = getFlowState();
+        val compact = new CompactTranscoder(CIPHER_BEAN).encode(state);
+        val encrypted = new EncryptedTranscoder(CIPHER_BEAN).encode(state);
+        assertTrue(compact.length < encrypted.length,
+            () -> "Compact state of " + compact.length + " bytes is not smaller than " + encrypted.length + " bytes");
+    }
+
+    @Test
+    public void verifyNullAndNotSerializable() throws Exception {
+        val transcoder = new CompactTranscoder(CIPHER_BEAN);
+        assertArrayEquals(ArrayUtils.EMPTY_BYTE_ARRAY, transcoder.encode(null));
+        assertNotNull(transcoder.encode(new Object()));
+    }
+
+    @Test
+    public void verifyStateFromOtherFormatIsRejected() throws Exception {
+        val encoded = new EncryptedTranscoder(CIPHER_BEAN).encode(getFlowState());
+        assertThrows(IOException.class, () -> new CompactTranscoder(CIPHER_BEAN).decode(encoded));
+        assertThrows(IOException.class, () -> new CompactTranscoder(CIPHER_BEAN).decode(ArrayUtils.EMPTY_BYTE_ARRAY));
+    }
+
+    private static class SampleCredential implements Serializable {
+        private static final long serialVersionUID = -3395433271802637425L;
+
+        private final String id;
+
+        private final List<String> values;
+
+        SampleCredential(final String id, final List<String> values) {
+            this.id = id;
+            this.values = new ArrayList<>(values);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof SampleCredential
+                && ((SampleCredential) o).id.equals(id)
+                && ((SampleCredential) o).values.equals(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
+}
@@ -4,8 +4,10 @@ import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.consent.AttributeConsentReportEndpoint;
 import org.apereo.cas.consent.AttributeReleaseConsentCipherExecutor;
+import org.apereo.cas.consent.CachingConsentRepository;
 import org.apereo.cas.consent.ConsentActivationStrategy;
 import org.apereo.cas.consent.ConsentDecisionBuilder;
 import org.apereo.cas.consent.ConsentEngine;
@@ -60,6 +62,12 @@ public class CasConsentCoreConfiguration {
     @Bean
     @RefreshScope
     public ConsentEngine consentEngine() {
+        val cache = casProperties.getConsent().getCache();
+        if (cache.isEnabled()) {
+            val repository = new CachingConsentRepository(consentRepository(),
+                Beans.newDuration(cache.getDuration()), cache.getCacheSize(), cache.getMaximumDecisionsPerPrincipal());
+            return new DefaultConsentEngine(repository, consentDecisionBuilder());
+        }
         return new DefaultConsentEngine(consentRepository(), consentDecisionBuilder());
     }
 
@@ -128,6 +136,6 @@ public class CasConsentCoreConfiguration {
     @Bean
     @ConditionalOnAvailableEndpoint
     public AttributeConsentReportEndpoint attributeConsentReportEndpoint() {
-        return new AttributeConsentReportEndpoint(casProperties, consentRepository(), consentEngine());
+        return new AttributeConsentReportEndpoint(casProperties, consentEngine().getConsentRepository(), consentEngine());
     }
 }
@@ -57,12 +57,8 @@ public abstract class BaseConsentRepository implements ConsentRepository {
 
     @Override
     public ConsentDecision storeConsentDecision(final ConsentDecision decision) {
-        val consent = getConsentDecisions()
-            .stream()
-            .anyMatch(d -> d.getId() == decision.getId());
-        if (consent) {
-            getConsentDecisions().remove(decision);
-        } else {
+        val consent = getConsentDecisions().removeIf(d -> d.getId() == decision.getId());
+        if (!consent) {
             decision.setId(RandomUtils.getNativeInstance().nextInt());
         }
         getConsentDecisions().add(decision);
@@ -0,0 +1,109 @@
+package org.apereo.cas.consent;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.RegisteredService;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link CachingConsentRepository} that keeps consent decisions
+ * in memory per principal, in front of the actual consent repository.
+ * Cached decisions for a principal are invalidated locally when a decision
+ * for that principal is stored or removed, and are otherwise expired after
+ * a fixed duration so that changes made by other nodes are eventually observed.
+ * The number of services whose decisions are cached for a single principal is bounded;
+ * once reached, decisions for other services are passed through to the repository.
+ * Cached decisions are shared, and must be copied by callers before they are modified.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@Getter
+public class CachingConsentRepository implements ConsentRepository {
+    private static final long serialVersionUID = -5473637383516426734L;
+
+    private final ConsentRepository consentRepository;
+
+    private final transient Cache<String, Map<String, Optional<ConsentDecision>>> consentDecisionCache;
+
+    private final long maximumDecisionsPerPrincipal;
+
+    public CachingConsentRepository(final ConsentRepository consentRepository,
+                                    final Duration duration,
+                                    final long cacheSize,
+                                    final long maximumDecisionsPerPrincipal) {
+        this.consentRepository = consentRepository;
+        this.maximumDecisionsPerPrincipal = maximumDecisionsPerPrincipal;
+        this.consentDecisionCache = Caffeine.newBuilder()
+            .expireAfterWrite(duration)
+            .maximumSize(cacheSize)
+            .build();
+    }
+
+    @Override
+    public ConsentDecision findConsentDecision(final Service service,
+                                               final RegisteredService registeredService,
+                                               final Authentication authentication) {
+        val principal = authentication.getPrincipal().getId();
+        val decisions = consentDecisionCache.get(principal, k -> new ConcurrentHashMap<>());
+        val cached = decisions.get(service.getId());
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        LOGGER.trace("Consent decision for [{}] and service [{}] is not cached; querying the repository", principal, service.getId());
+        val decision = Optional.ofNullable(consentRepository.findConsentDecision(service, registeredService, authentication));
+        if (decisions.size() < maximumDecisionsPerPrincipal) {
+            decisions.putIfAbsent(service.getId(), decision);
+        }
+        return decision.orElse(null);
+    }
+
+    @Override
+    public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
+        return consentRepository.findConsentDecisions(principal);
+    }
+
+    @Override
+    public Collection<? extends ConsentDecision> findConsentDecisions() {
+        return consentRepository.findConsentDecisions();
+    }
+
+    @Override
+    public ConsentDecision storeConsentDecision(final ConsentDecision decision) {
+        try {
+            return consentRepository.storeConsentDecision(decision);
+        } finally {
+            consentDecisionCache.invalidate(decision.getPrincipal());
+        }
+    }
+
+    @Override
+    public boolean deleteConsentDecision(final long id, final String principal) {
+        try {
+            return consentRepository.deleteConsentDecision(id, principal);
+        } finally {
+            consentDecisionCache.invalidate(principal);
+        }
+    }
+
+    @Override
+    public boolean deleteConsentDecisions(final String principal) {
+        try {
+            return consentRepository.deleteConsentDecisions(principal);
+        } finally {
+            consentDecisionCache.invalidate(principal);
+        }
+    }
+}
@@ -10,6 +10,9 @@ import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -39,8 +42,17 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
 
     private static final long serialVersionUID = 8220243983483982326L;
 
+    private static final long DIGEST_CACHE_SIZE = 10_000L;
+
     private final transient CipherExecutor<Serializable, String> consentCipherExecutor;
 
+    /**
+     * Digests of consented attributes, keyed by the encoded attributes of the decision,
+     * so that decisions are not deciphered and hashed again on every consent check.
+     */
+    private final transient Cache<String, ConsentAttributesDigest> consentAttributesDigests =
+        Caffeine.newBuilder().maximumSize(DIGEST_CACHE_SIZE).build();
+
     @Override
     public ConsentDecision update(final ConsentDecision consent, final Map<String, List<Object>> attributes) {
         val encodedNames = buildAndEncodeConsentAttributes(attributes);
@@ -63,25 +75,16 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
     @Override
     public boolean doesAttributeReleaseRequireConsent(final ConsentDecision decision,
                                                       final Map<String, List<Object>> attributes) {
-        val consentAttributes = getConsentableAttributesFrom(decision);
-
-        if (decision.getOptions() == ConsentReminderOptions.ATTRIBUTE_NAME) {
-            val consentAttributesHash = sha512ConsentAttributeNames(consentAttributes);
-            val currentAttributesHash = sha512ConsentAttributeNames(attributes);
-            return !StringUtils.equals(consentAttributesHash, currentAttributesHash);
+        val options = decision.getOptions();
+        if (options != ConsentReminderOptions.ATTRIBUTE_NAME && options != ConsentReminderOptions.ATTRIBUTE_VALUE) {
+            return true;
         }
-
-        if (decision.getOptions() == ConsentReminderOptions.ATTRIBUTE_VALUE) {
-            val consentAttributesHash = sha512ConsentAttributeNames(consentAttributes);
-            val currentAttributesHash = sha512ConsentAttributeNames(attributes);
-
-            val consentAttributeValuesHash = sha512ConsentAttributeValues(consentAttributes);
-            val currentAttributeValuesHash = sha512ConsentAttributeValues(attributes);
-
-            return !StringUtils.equals(consentAttributesHash, currentAttributesHash)
-                || !StringUtils.equals(consentAttributeValuesHash, currentAttributeValuesHash);
+        val consentDigest = getConsentAttributesDigest(decision);
+        if (!StringUtils.equals(consentDigest.getNames(), sha512ConsentAttributeNames(attributes))) {
+            return true;
         }
-        return true;
+        return options == ConsentReminderOptions.ATTRIBUTE_VALUE
+            && !StringUtils.equals(consentDigest.getValues(), sha512ConsentAttributeValues(attributes));
     }
 
     @Override
@@ -112,6 +115,21 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
         return DigestUtils.sha512(allValues);
     }
 
+    /**
+     * Gets the digest of attributes recorded by the consent decision.
+     *
+     * @param decision the decision
+     * @return the consent attributes digest
+     */
+    protected ConsentAttributesDigest getConsentAttributesDigest(final ConsentDecision decision) {
+        val encodedAttributes = decision.getAttributes();
+        if (StringUtils.isBlank(encodedAttributes)) {
+            return ConsentAttributesDigest.from(getConsentableAttributesFrom(decision));
+        }
+        return consentAttributesDigests.get(encodedAttributes,
+            k -> ConsentAttributesDigest.from(getConsentableAttributesFrom(decision)));
+    }
+
     /**
      * Build consent attribute names string.
      *
@@ -128,4 +146,16 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
             throw new IllegalArgumentException("Could not serialize attributes for consent decision");
         }
     }
+
+    @Getter
+    @RequiredArgsConstructor
+    protected static class ConsentAttributesDigest {
+        private final String names;
+
+        private final String values;
+
+        static ConsentAttributesDigest from(final Map<String, List<Object>> attributes) {
+            return new ConsentAttributesDigest(sha512ConsentAttributeNames(attributes), sha512ConsentAttributeValues(attributes));
+        }
+    }
 }
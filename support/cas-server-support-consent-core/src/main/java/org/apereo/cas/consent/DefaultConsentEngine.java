@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 
 import java.time.LocalDateTime;
@@ -55,7 +56,7 @@ public class DefaultConsentEngine implements ConsentEngine {
         val decisionFound = findConsentDecision(service, registeredService, authentication);
         val supplier = FunctionUtils.doIfNull(decisionFound,
             () -> consentDecisionBuilder.build(service, registeredService, principalId, attributes),
-            () -> consentDecisionBuilder.update(decisionFound, attributes));
+            () -> consentDecisionBuilder.update(SerializationUtils.clone(decisionFound), attributes));
 
         val decision = supplier.get();
         decision.setOptions(options);
@@ -2,6 +2,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.consent.AttributeConsentReportEndpointTests;
+import org.apereo.cas.consent.CachingConsentRepositoryTests;
 import org.apereo.cas.consent.DefaultConsentActivationStrategyDisabledTests;
 import org.apereo.cas.consent.DefaultConsentActivationStrategyTests;
 import org.apereo.cas.consent.DefaultConsentDecisionBuilderTests;
@@ -30,7 +31,8 @@ import org.junit.runner.RunWith;
     DefaultConsentDecisionBuilderTests.class,
     InMemoryConsentRepositoryTests.class,
     JsonConsentRepositoryTests.class,
-    AttributeConsentReportEndpointTests.class
+    AttributeConsentReportEndpointTests.class,
+    CachingConsentRepositoryTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
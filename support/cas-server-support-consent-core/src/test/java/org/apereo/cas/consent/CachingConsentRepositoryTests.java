@@ -0,0 +1,113 @@
+package org.apereo.cas.consent;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingConsentRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Simple")
+public class CachingConsentRepositoryTests {
+    private static final DefaultConsentDecisionBuilder BUILDER =
+        new DefaultConsentDecisionBuilder(CipherExecutor.noOpOfSerializableToString());
+
+    private ConsentRepository delegate;
+
+    private CachingConsentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        delegate = spy(new InMemoryConsentRepository());
+        repository = new CachingConsentRepository(delegate, Duration.ofMinutes(1), 100, 1);
+    }
+
+    @Test
+    public void verifyDecisionsAreCached() {
+        val service = RegisteredServiceTestUtils.getService();
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService(service.getId());
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        verify(delegate, times(1)).findConsentDecision(any(), any(), any());
+
+        val decision = BUILDER.build(service, registeredService, "casuser",
+            CollectionUtils.wrap("attribute", List.of("value")));
+        repository.storeConsentDecision(decision);
+        assertNotNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertNotNull(repository.findConsentDecision(service, registeredService, authentication));
+        verify(delegate, times(2)).findConsentDecision(any(), any(), any());
+    }
+
+    @Test
+    public void verifyDecisionsAreInvalidatedOnDelete() {
+        val service = RegisteredServiceTestUtils.getService();
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService(service.getId());
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val attributes = CollectionUtils.<String, List<Object>>wrap("attribute", List.of("value"));
+
+        val decision = repository.storeConsentDecision(BUILDER.build(service, registeredService, "casuser", attributes));
+        assertNotNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertTrue(repository.deleteConsentDecision(decision.getId(), "casuser"));
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+
+        repository.storeConsentDecision(BUILDER.build(service, registeredService, "casuser", attributes));
+        assertNotNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertTrue(repository.deleteConsentDecisions("casuser"));
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertTrue(repository.findConsentDecisions("casuser").isEmpty());
+        assertTrue(repository.findConsentDecisions().isEmpty());
+    }
+
+    @Test
+    public void verifyDecisionsPerPrincipalAreBounded() {
+        val service = RegisteredServiceTestUtils.getService("service1");
+        val otherService = RegisteredServiceTestUtils.getService("service2");
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService(service.getId());
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertNull(repository.findConsentDecision(otherService, registeredService, authentication));
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertNull(repository.findConsentDecision(otherService, registeredService, authentication));
+        verify(delegate, times(1)).findConsentDecision(eq(service), any(), any());
+        verify(delegate, times(2)).findConsentDecision(eq(otherService), any(), any());
+    }
+
+    @Test
+    public void verifyCachedDecisionIsNotModifiedWhenStoreFails() {
+        val service = RegisteredServiceTestUtils.getService();
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService(service.getId());
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val engine = new DefaultConsentEngine(repository, BUILDER);
+
+        val decision = repository.storeConsentDecision(BUILDER.build(service, registeredService, "casuser",
+            CollectionUtils.wrap("attribute", List.of("value"))));
+        val reminder = decision.getReminder();
+        assertSame(decision, repository.findConsentDecision(service, registeredService, authentication));
+
+        doThrow(new IllegalStateException("Store failed")).when(delegate).storeConsentDecision(any());
+        assertThrows(IllegalStateException.class, () -> engine.storeConsentDecision(service, registeredService,
+            authentication, reminder + 1, ChronoUnit.MONTHS, ConsentReminderOptions.ALWAYS));
+        assertEquals(reminder, decision.getReminder());
+        assertEquals(ChronoUnit.DAYS, decision.getReminderTimeUnit());
+    }
+}
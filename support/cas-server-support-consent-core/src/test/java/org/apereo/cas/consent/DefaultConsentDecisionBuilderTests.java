@@ -73,6 +73,23 @@ public class DefaultConsentDecisionBuilderTests {
             CollectionUtils.wrap("attr1", List.of("value2"))));
     }
 
+    @Test
+    public void verifyConsentedAttributesDigestIsMemoized() {
+        val builder = spy(new DefaultConsentDecisionBuilder(CipherExecutor.noOpOfSerializableToString()));
+        val consentDecision = builder.build(RegisteredServiceTestUtils.getService(),
+            RegisteredServiceTestUtils.getRegisteredService("test"),
+            "casuser", CollectionUtils.wrap("attr1", List.of("value1")));
+        consentDecision.setOptions(ConsentReminderOptions.ATTRIBUTE_VALUE);
+        assertFalse(builder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr1", List.of("value1"))));
+        assertTrue(builder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr1", List.of("value2"))));
+        assertTrue(builder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr2", List.of("value1"))));
+        verify(builder, times(1)).getConsentableAttributesFrom(any());
+
+        builder.update(consentDecision, CollectionUtils.wrap("attr2", List.of("value1")));
+        assertFalse(builder.doesAttributeReleaseRequireConsent(consentDecision, CollectionUtils.wrap("attr2", List.of("value1"))));
+        verify(builder, times(2)).getConsentableAttributesFrom(any());
+    }
+
     @Test
     public void verifyAttributesAreRetrieved() {
         val consentDecision = getConsentDecision();
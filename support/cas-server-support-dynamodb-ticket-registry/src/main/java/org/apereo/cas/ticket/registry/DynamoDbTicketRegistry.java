@@ -8,8 +8,14 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DynamoDbTicketRegistry}.
@@ -54,6 +60,19 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    public Collection<? extends Ticket> getTickets(final Collection<String> ticketIds, final Predicate<Ticket> predicate) {
+        val encodedTicketIds = encodeTicketIds(ticketIds);
+        if (encodedTicketIds.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        LOGGER.debug("Retrieving tickets [{}]", encodedTicketIds.keySet());
+        return decodeTickets(this.dbTableService.get(encodedTicketIds).stream())
+            .filter(Objects::nonNull)
+            .filter(predicate)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long deleteAll() {
         return this.dbTableService.deleteAll();
@@ -64,6 +83,24 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return decodeTickets(this.dbTableService.getAll());
     }
 
+    @Override
+    public Stream<? extends Ticket> getTicketsStream() {
+        return decodeTickets(this.dbTableService.stream());
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        try {
+            return this.dbTableService.countSessionsFor(principalId);
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to count sessions for [{}] using the principal index: [{}]", principalId, e.getMessage());
+            return super.countSessionsFor(principalId);
+        }
+    }
+
     @Override
     public Ticket updateTicket(final Ticket ticket) {
         addTicket(ticket);
@@ -75,4 +112,21 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         val ticketId = encodeTicketId(ticketIdToDelete);
         return this.dbTableService.delete(ticketIdToDelete, ticketId);
     }
+
+    @Override
+    public int deleteSingleTickets(final Collection<String> ticketIds) {
+        val encodedTicketIds = encodeTicketIds(ticketIds);
+        if (encodedTicketIds.isEmpty()) {
+            return 0;
+        }
+        return this.dbTableService.delete(encodedTicketIds);
+    }
+
+    private Map<String, String> encodeTicketIds(final Collection<String> ticketIds) {
+        val encodedTicketIds = new LinkedHashMap<String, String>();
+        ticketIds.stream()
+            .filter(StringUtils::isNotBlank)
+            .forEach(ticketId -> encodedTicketIds.put(ticketId, encodeTicketId(ticketId)));
+        return encodedTicketIds;
+    }
 }
@@ -1,42 +1,68 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.support.dynamodb.AbstractDynamoDbProperties;
 import org.apereo.cas.configuration.model.support.dynamodb.DynamoDbTicketRegistryProperties;
 import org.apereo.cas.dynamodb.DynamoDbTableUtils;
+import org.apereo.cas.ticket.EncodedTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.LoggingUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveSpecification;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTimeToLiveRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DynamoDbTicketRegistryFacilitator}.
@@ -48,6 +74,17 @@ import java.util.stream.Collectors;
 @Getter
 @RequiredArgsConstructor
 public class DynamoDbTicketRegistryFacilitator {
+    /**
+     * Name of the global secondary index on the principal of ticket-granting tickets.
+     */
+    public static final String PRINCIPAL_INDEX_NAME = "principalIndex";
+
+    private static final int BATCH_WRITE_MAX_ITEMS = 25;
+
+    private static final int BATCH_GET_MAX_ITEMS = 100;
+
+    private static final int BATCH_WRITE_MAX_ATTEMPTS = 10;
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
@@ -75,39 +112,104 @@ public class DynamoDbTicketRegistryFacilitator {
     }
 
     /**
-     * Delete all.
+     * Delete tickets in batches.
+     *
+     * @param ticketIds the ticket ids, mapped to their encoded ticket ids
+     * @return the number of deleted tickets
+     */
+    public int delete(final Map<String, String> ticketIds) {
+        return groupKeysByTable(ticketIds)
+            .entrySet()
+            .stream()
+            .mapToInt(entry -> ListUtils.partition(entry.getValue(), BATCH_WRITE_MAX_ITEMS)
+                .stream()
+                .mapToInt(keys -> deleteItems(entry.getKey(), keys))
+                .sum())
+            .sum();
+    }
+
+    /**
+     * Delete all tickets, removing items in batches
+     * while table segments are scanned in parallel.
      *
-     * @return the int
+     * @return the number of deleted tickets
      */
     public int deleteAll() {
-        val count = new AtomicInteger();
-        val metadata = this.ticketCatalog.findAll();
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Submitting scan request [{}] to table [{}]", scan, r.getProperties().getStorageName());
-            count.addAndGet(this.amazonDynamoDBClient.scan(scan).count());
-        });
-        createTicketTables(true);
-        return count.get();
+        return this.ticketCatalog.findAll()
+            .stream()
+            .map(r -> r.getProperties().getStorageName())
+            .mapToInt(this::deleteAll)
+            .sum();
     }
 
     /**
-     * Gets all.
+     * Gets all tickets, scanning table segments in parallel.
      *
      * @return the all
      */
     public Collection<Ticket> getAll() {
-        val metadata = this.ticketCatalog.findAll();
-        val tickets = new ArrayList<Ticket>(metadata.size());
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Scanning table with request [{}]", scan);
-            val result = this.amazonDynamoDBClient.scan(scan);
-            LOGGER.debug("Scanned table with result [{}]", scan);
-            tickets.addAll(result.items().stream()
-                .map(DynamoDbTicketRegistryFacilitator::deserializeTicket).collect(Collectors.toList()));
-        });
-        return tickets;
+        val totalSegments = getTotalScanSegments();
+        return this.ticketCatalog.findAll()
+            .stream()
+            .map(r -> r.getProperties().getStorageName())
+            .flatMap(tableName -> IntStream.range(0, totalSegments)
+                .parallel()
+                .boxed()
+                .flatMap(segment -> scan(tableName, segment, totalSegments, false))
+                .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())
+                .stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Stream all tickets. Tables are scanned segment by segment,
+     * and pages are fetched as the stream is consumed.
+     *
+     * @return the stream
+     */
+    public Stream<Ticket> stream() {
+        val totalSegments = getTotalScanSegments();
+        return this.ticketCatalog.findAll()
+            .stream()
+            .map(r -> r.getProperties().getStorageName())
+            .flatMap(tableName -> IntStream.range(0, totalSegments)
+                .boxed()
+                .flatMap(segment -> scan(tableName, segment, totalSegments, false)))
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Count ticket-granting tickets that belong to the principal,
+     * using the principal index of each ticket-granting ticket table.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
+    public long countSessionsFor(final String principalId) {
+        val principal = AttributeValue.builder().s(StringUtils.lowerCase(principalId, Locale.ENGLISH)).build();
+        return this.ticketCatalog.findAll()
+            .stream()
+            .filter(DynamoDbTicketRegistryFacilitator::isTicketGrantingTicketDefinition)
+            .map(r -> r.getProperties().getStorageName())
+            .mapToLong(tableName -> {
+                val request = QueryRequest.builder()
+                    .tableName(tableName)
+                    .indexName(PRINCIPAL_INDEX_NAME)
+                    .keyConditionExpression("#principal = :principal")
+                    .expressionAttributeNames(Map.of("#principal", ColumnNames.PRINCIPAL.getColumnName()))
+                    .expressionAttributeValues(Map.of(":principal", principal))
+                    .select(Select.COUNT)
+                    .build();
+                LOGGER.debug("Submitting query request [{}] to count sessions", request);
+                return amazonDynamoDBClient.queryPaginator(request)
+                    .stream()
+                    .mapToLong(QueryResponse::count)
+                    .sum();
+            })
+            .sum();
     }
 
     /**
@@ -140,6 +242,30 @@ public class DynamoDbTicketRegistryFacilitator {
         return null;
     }
 
+    /**
+     * Get tickets in batches.
+     *
+     * @param ticketIds the ticket ids, mapped to their encoded ticket ids
+     * @return the tickets that were found and have not expired
+     */
+    public Collection<Ticket> get(final Map<String, String> ticketIds) {
+        return groupKeysByTable(ticketIds)
+            .entrySet()
+            .stream()
+            .flatMap(entry -> ListUtils.partition(entry.getValue(), BATCH_GET_MAX_ITEMS)
+                .stream()
+                .flatMap(keys -> getItems(entry.getKey(), keys).stream()))
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(ticket -> {
+                if (ticket == null || ticket.isExpired()) {
+                    LOGGER.debug("The expiration policy for ticket [{}] has expired the ticket", ticket);
+                    return false;
+                }
+                return true;
+            })
+            .collect(Collectors.toList());
+    }
+
     /**
      * Put ticket.
      *
@@ -154,7 +280,6 @@ public class DynamoDbTicketRegistryFacilitator {
         LOGGER.debug("Submitting put request [{}] for ticket id [{}]", putItemRequest, encodedTicket.getId());
         val putItemResult = amazonDynamoDBClient.putItem(putItemRequest);
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
-        getAll();
     }
 
     /**
@@ -170,13 +295,25 @@ public class DynamoDbTicketRegistryFacilitator {
             .build();
 
         metadata.forEach(Unchecked.consumer(r -> {
-            val request = CreateTableRequest.builder()
-                .attributeDefinitions(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build())
+            val attributes = new ArrayList<AttributeDefinition>();
+            attributes.add(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build());
+            val builder = CreateTableRequest.builder()
                 .keySchema(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build())
                 .provisionedThroughput(throughput)
                 .billingMode(BillingMode.fromValue(dynamoDbProperties.getBillingMode().name()))
-                .tableName(r.getProperties().getStorageName())
-                .build();
+                .tableName(r.getProperties().getStorageName());
+            if (isTicketGrantingTicketDefinition(r)) {
+                attributes.add(AttributeDefinition.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).attributeType(ScalarAttributeType.S).build());
+                val index = GlobalSecondaryIndex.builder()
+                    .indexName(PRINCIPAL_INDEX_NAME)
+                    .keySchema(KeySchemaElement.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).keyType(KeyType.HASH).build())
+                    .projection(Projection.builder().projectionType(ProjectionType.KEYS_ONLY).build());
+                if (dynamoDbProperties.getBillingMode() == AbstractDynamoDbProperties.BillingMode.PROVISIONED) {
+                    index.provisionedThroughput(throughput);
+                }
+                builder.globalSecondaryIndexes(index.build());
+            }
+            val request = builder.attributeDefinitions(attributes).build();
             if (deleteTables) {
                 val delete = DeleteTableRequest.builder().tableName(r.getProperties().getStorageName()).build();
                 LOGGER.debug("Sending delete request [{}] to remove table if necessary", delete);
@@ -190,6 +327,9 @@ public class DynamoDbTicketRegistryFacilitator {
             LOGGER.debug("Sending request [{}] to obtain table description...", describeTableRequest);
             val tableDescription = amazonDynamoDBClient.describeTable(describeTableRequest).table();
             LOGGER.debug("Located newly created table with description: [{}]", tableDescription);
+            if (dynamoDbProperties.isTimeToLiveEnabled()) {
+                enableTimeToLive(request.tableName());
+            }
         }));
     }
 
@@ -216,10 +356,159 @@ public class DynamoDbTicketRegistryFacilitator {
             AttributeValue.builder().n(Long.toString(ticket.getExpirationPolicy().getTimeToIdle())).build());
         values.put(ColumnNames.ENCODED.getColumnName(),
             AttributeValue.builder().b(SdkBytes.fromByteBuffer(ByteBuffer.wrap(SerializationUtils.serialize(encTicket)))).build());
+        if (dynamoDbProperties.isTimeToLiveEnabled()) {
+            val expirationTime = CoreTicketUtils.getExpirationTime(ticket);
+            if (expirationTime != null) {
+                values.put(ColumnNames.EXPIRES_AT.getColumnName(),
+                    AttributeValue.builder().n(Long.toString(expirationTime.toEpochSecond())).build());
+            }
+        }
+        if (ticket instanceof TicketGrantingTicket && !(encTicket instanceof EncodedTicket)) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                values.put(ColumnNames.PRINCIPAL.getColumnName(), AttributeValue.builder()
+                    .s(StringUtils.lowerCase(authentication.getPrincipal().getId(), Locale.ENGLISH)).build());
+            }
+        }
         LOGGER.debug("Created attribute values [{}] based on provided ticket [{}]", values, encTicket.getId());
         return values;
     }
 
+    private static boolean isTicketGrantingTicketDefinition(final TicketDefinition definition) {
+        return TicketGrantingTicket.class.isAssignableFrom(definition.getImplementationClass());
+    }
+
+    private int getTotalScanSegments() {
+        return Math.max(1, dynamoDbProperties.getScanSegments());
+    }
+
+    private Stream<Map<String, AttributeValue>> scan(final String tableName, final int segment,
+                                                     final int totalSegments, final boolean keysOnly) {
+        val builder = ScanRequest.builder().tableName(tableName);
+        if (totalSegments > 1) {
+            builder.segment(segment).totalSegments(totalSegments);
+        }
+        if (keysOnly) {
+            builder.projectionExpression("#id").expressionAttributeNames(Map.of("#id", ColumnNames.ID.getColumnName()));
+        }
+        val request = builder.build();
+        LOGGER.debug("Scanning table with request [{}]", request);
+        return amazonDynamoDBClient.scanPaginator(request).items().stream();
+    }
+
+    private int deleteAll(final String tableName) {
+        val totalSegments = getTotalScanSegments();
+        return IntStream.range(0, totalSegments)
+            .parallel()
+            .map(segment -> {
+                var count = 0;
+                val keys = new ArrayList<Map<String, AttributeValue>>(BATCH_WRITE_MAX_ITEMS);
+                val iterator = scan(tableName, segment, totalSegments, true).iterator();
+                while (iterator.hasNext()) {
+                    keys.add(iterator.next());
+                    if (keys.size() == BATCH_WRITE_MAX_ITEMS) {
+                        count += deleteItems(tableName, keys);
+                        keys.clear();
+                    }
+                }
+                return count + deleteItems(tableName, keys);
+            })
+            .sum();
+    }
+
+    private Map<String, List<Map<String, AttributeValue>>> groupKeysByTable(final Map<String, String> ticketIds) {
+        val keys = new HashMap<String, List<Map<String, AttributeValue>>>();
+        ticketIds.forEach((ticketId, encodedTicketId) -> {
+            val metadata = this.ticketCatalog.find(ticketId);
+            if (metadata != null) {
+                keys.computeIfAbsent(metadata.getProperties().getStorageName(), k -> new ArrayList<>())
+                    .add(Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build()));
+            } else {
+                LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", ticketId);
+            }
+        });
+        return keys;
+    }
+
+    private List<Map<String, AttributeValue>> getItems(final String tableName, final List<Map<String, AttributeValue>> keys) {
+        val items = new ArrayList<Map<String, AttributeValue>>(keys.size());
+        var pending = Map.of(tableName, KeysAndAttributes.builder().keys(keys).build());
+        var attempt = 0;
+        while (!pending.isEmpty() && attempt < BATCH_WRITE_MAX_ATTEMPTS) {
+            if (attempt > 0) {
+                try {
+                    Thread.sleep(Math.min(1000L, 50L << attempt));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            val request = BatchGetItemRequest.builder().requestItems(pending).build();
+            LOGGER.trace("Submitting batch get request for [{}] items from table [{}]", keys.size(), tableName);
+            val response = amazonDynamoDBClient.batchGetItem(request);
+            items.addAll(response.responses().getOrDefault(tableName, List.of()));
+            pending = response.unprocessedKeys();
+            attempt++;
+        }
+        if (!pending.isEmpty()) {
+            LOGGER.warn("[{}] items could not be fetched from table [{}]", keys.size() - items.size(), tableName);
+        }
+        return items;
+    }
+
+    private int deleteItems(final String tableName, final List<Map<String, AttributeValue>> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        val requests = keys.stream()
+            .map(key -> WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build())
+            .collect(Collectors.toList());
+        var pending = Map.of(tableName, requests);
+        var attempt = 0;
+        while (!pending.isEmpty() && attempt < BATCH_WRITE_MAX_ATTEMPTS) {
+            if (attempt > 0) {
+                try {
+                    Thread.sleep(Math.min(1000L, 50L << attempt));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            val request = BatchWriteItemRequest.builder().requestItems(pending).build();
+            LOGGER.trace("Submitting batch delete request for [{}] items from table [{}]", requests.size(), tableName);
+            pending = amazonDynamoDBClient.batchWriteItem(request).unprocessedItems();
+            attempt++;
+        }
+        val unprocessed = pending.values().stream().mapToInt(List::size).sum();
+        if (unprocessed > 0) {
+            LOGGER.warn("[{}] items could not be deleted from table [{}]", unprocessed, tableName);
+        }
+        return keys.size() - unprocessed;
+    }
+
+    private void enableTimeToLive(final String tableName) {
+        try {
+            val description = amazonDynamoDBClient.describeTimeToLive(DescribeTimeToLiveRequest.builder()
+                .tableName(tableName).build()).timeToLiveDescription();
+            if (description != null && (description.timeToLiveStatus() == TimeToLiveStatus.ENABLED
+                || description.timeToLiveStatus() == TimeToLiveStatus.ENABLING)) {
+                LOGGER.debug("Time-to-live is already enabled for table [{}]", tableName);
+                return;
+            }
+            val request = UpdateTimeToLiveRequest.builder()
+                .tableName(tableName)
+                .timeToLiveSpecification(TimeToLiveSpecification.builder()
+                    .attributeName(ColumnNames.EXPIRES_AT.getColumnName())
+                    .enabled(Boolean.TRUE)
+                    .build())
+                .build();
+            LOGGER.debug("Sending request [{}] to enable time-to-live", request);
+            amazonDynamoDBClient.updateTimeToLive(request);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to enable time-to-live for table [{}]: [{}]", tableName, e.getMessage());
+        }
+    }
+
     private static Ticket deserializeTicket(final Map<String, AttributeValue> returnItem) {
         val bb = returnItem.get(ColumnNames.ENCODED.getColumnName()).b();
         LOGGER.debug("Located binary encoding of ticket item [{}]. Transforming item into ticket object", returnItem);
@@ -264,7 +553,15 @@ public class DynamoDbTicketRegistryFacilitator {
         /**
          * encoded column.
          */
-        ENCODED("encoded");
+        ENCODED("encoded"),
+        /**
+         * expiresAt column, in epoch seconds, used for time-to-live.
+         */
+        EXPIRES_AT("expiresAt"),
+        /**
+         * principal column for ticket-granting tickets.
+         */
+        PRINCIPAL("principal");
 
         private final String columnName;
 
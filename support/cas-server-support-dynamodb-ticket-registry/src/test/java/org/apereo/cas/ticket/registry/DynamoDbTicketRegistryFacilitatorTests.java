@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,6 +58,20 @@ public class DynamoDbTicketRegistryFacilitatorTests {
             assertTrue(dynamoDbTicketRegistryFacilitator.deleteAll() > 0);
 
         }
+
+        @Test
+        public void verifyBulkTicketOperations() {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            IntStream.range(0, 60).forEach(i -> {
+                val ticket = new MockTicketGrantingTicket("casuser");
+                dynamoDbTicketRegistryFacilitator.put(ticket, ticket);
+            });
+            assertEquals(60, dynamoDbTicketRegistryFacilitator.getAll().size());
+            assertEquals(60, dynamoDbTicketRegistryFacilitator.stream().count());
+            assertEquals(60, dynamoDbTicketRegistryFacilitator.countSessionsFor("CASUSER"));
+            assertEquals(60, dynamoDbTicketRegistryFacilitator.deleteAll());
+            assertTrue(dynamoDbTicketRegistryFacilitator.getAll().isEmpty());
+        }
     }
 
     @Nested
@@ -2,11 +2,10 @@ package org.apereo.cas.support.geo.config;
 
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.geo.maxmind.MaxmindDatabaseGeoLocationService;
 import org.apereo.cas.util.ResourceUtils;
 
-import com.maxmind.db.CHMCache;
-import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -31,11 +30,9 @@ public class CasGeoLocationMaxmindConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
-    private static DatabaseReader readDatabase(final Resource maxmindDatabase) throws IOException {
+    private static DatabaseReader readDatabase(final Resource maxmindDatabase, final int nodeCacheSize) throws IOException {
         if (ResourceUtils.doesResourceExist(maxmindDatabase)) {
-            return new DatabaseReader.Builder(maxmindDatabase.getFile())
-                .fileMode(Reader.FileMode.MEMORY)
-                .withCache(new CHMCache()).build();
+            return MaxmindDatabaseGeoLocationService.newDatabaseReader(maxmindDatabase.getFile(), nodeCacheSize);
         }
         return null;
     }
@@ -45,10 +42,20 @@ public class CasGeoLocationMaxmindConfiguration {
     @SneakyThrows
     public GeoLocationService geoLocationService() {
         val properties = casProperties.getMaxmind();
-        val cityDatabase = readDatabase(properties.getCityDatabase());
-        val countryDatabase = readDatabase(properties.getCountryDatabase());
-        val svc = new MaxmindDatabaseGeoLocationService(cityDatabase, countryDatabase);
+        val nodeCacheSize = properties.getNodeCacheSize();
+        val cityDatabase = readDatabase(properties.getCityDatabase(), nodeCacheSize);
+        val countryDatabase = readDatabase(properties.getCountryDatabase(), nodeCacheSize);
+        val svc = new MaxmindDatabaseGeoLocationService(cityDatabase, countryDatabase,
+            properties.getCacheSize(), Beans.newDuration(properties.getCacheExpiration()));
         svc.setIpStackAccessKey(properties.getIpStackApiAccessKey());
+        if (properties.isWatcherEnabled()) {
+            if (cityDatabase != null && ResourceUtils.isFile(properties.getCityDatabase())) {
+                svc.watchCityDatabase(properties.getCityDatabase().getFile(), nodeCacheSize);
+            }
+            if (countryDatabase != null && ResourceUtils.isFile(properties.getCountryDatabase())) {
+                svc.watchCountryDatabase(properties.getCountryDatabase().getFile(), nodeCacheSize);
+            }
+        }
         return svc;
     }
 }
@@ -3,40 +3,171 @@ package org.apereo.cas.support.geo.maxmind;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
 import org.apereo.cas.support.geo.AbstractGeoLocationService;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.io.PathWatcherService;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.AddressNotFoundException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * This is {@link MaxmindDatabaseGeoLocationService} that reads geo data
  * from a maxmind database and constructs a geo location based on the ip address.
- * Default caching of the databases is enabled by default.
+ * Geo locations are cached by ip address, and database files may be watched
+ * so that updated databases are swapped in without a restart.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
-public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationService {
-    private final DatabaseReader cityDatabaseReader;
+public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationService implements DisposableBean, AutoCloseable {
+    private static final long DEFAULT_CACHE_SIZE = 10_000L;
 
-    private final DatabaseReader countryDatabaseReader;
+    private static final Duration DEFAULT_CACHE_EXPIRATION = Duration.ofHours(1);
+
+    private final AtomicReference<DatabaseReader> cityDatabaseReader;
+
+    private final AtomicReference<DatabaseReader> countryDatabaseReader;
+
+    private final Cache<InetAddress, Optional<GeoLocationResponse>> geoLocationCache;
+
+    private final List<PathWatcherService> watcherServices = new ArrayList<>();
+
+    public MaxmindDatabaseGeoLocationService(final DatabaseReader cityDatabaseReader,
+                                             final DatabaseReader countryDatabaseReader) {
+        this(cityDatabaseReader, countryDatabaseReader, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_EXPIRATION);
+    }
+
+    public MaxmindDatabaseGeoLocationService(final DatabaseReader cityDatabaseReader,
+                                             final DatabaseReader countryDatabaseReader,
+                                             final long cacheSize,
+                                             final Duration cacheExpiration) {
+        this.cityDatabaseReader = new AtomicReference<>(cityDatabaseReader);
+        this.countryDatabaseReader = new AtomicReference<>(countryDatabaseReader);
+        this.geoLocationCache = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(cacheExpiration)
+            .build();
+    }
+
+    /**
+     * Build a database reader that maps the database file into memory.
+     *
+     * @param file          the database file
+     * @param nodeCacheSize the maximum number of decoded records to cache
+     * @return the database reader
+     * @throws IOException the io exception
+     */
+    public static DatabaseReader newDatabaseReader(final File file, final int nodeCacheSize) throws IOException {
+        return new DatabaseReader.Builder(file)
+            .fileMode(Reader.FileMode.MEMORY_MAPPED)
+            .withCache(new CHMCache(nodeCacheSize))
+            .build();
+    }
+
+    /**
+     * Watch the city database file, and swap in a new reader when the file is modified or replaced.
+     *
+     * @param file          the database file
+     * @param nodeCacheSize the maximum number of decoded records to cache
+     */
+    public void watchCityDatabase(final File file, final int nodeCacheSize) {
+        watchDatabase(file, nodeCacheSize, cityDatabaseReader);
+    }
+
+    /**
+     * Watch the country database file, and swap in a new reader when the file is modified or replaced.
+     *
+     * @param file          the database file
+     * @param nodeCacheSize the maximum number of decoded records to cache
+     */
+    public void watchCountryDatabase(final File file, final int nodeCacheSize) {
+        watchDatabase(file, nodeCacheSize, countryDatabaseReader);
+    }
 
     @Override
     public GeoLocationResponse locate(final InetAddress address) {
+        val location = geoLocationCache.get(address, this::locateInDatabases);
+        return location == null ? null : location.orElse(null);
+    }
+
+    @Override
+    public GeoLocationResponse locate(final String address) {
+        try {
+            return locate(InetAddress.getByName(address));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    @Override
+    public GeoLocationResponse locate(final Double latitude, final Double longitude) {
+        LOGGER.warn("Geo-locating an address by latitude/longitude [{}]/[{}] is not supported", latitude, longitude);
+        return null;
+    }
+
+    @Override
+    public void close() {
+        watcherServices.forEach(PathWatcherService::close);
+        IOUtils.closeQuietly(cityDatabaseReader.get());
+        IOUtils.closeQuietly(countryDatabaseReader.get());
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    /**
+     * Create a database reader for the given database file.
+     *
+     * @param file          the database file
+     * @param nodeCacheSize the maximum number of decoded records to cache
+     * @return the database reader
+     * @throws IOException the io exception
+     */
+    protected DatabaseReader createDatabaseReader(final File file, final int nodeCacheSize) throws IOException {
+        return newDatabaseReader(file, nodeCacheSize);
+    }
+
+    /**
+     * Locate the address in the configured databases.
+     * Addresses that are not found in the databases are remembered as such, while
+     * other failures produce no result so that the lookup is retried on the next request.
+     *
+     * @param address the address
+     * @return the geo location, empty if the address is not found, or null if the lookup failed
+     */
+    private Optional<GeoLocationResponse> locateInDatabases(final InetAddress address) {
+        val cityReader = this.cityDatabaseReader.get();
+        val countryReader = this.countryDatabaseReader.get();
         try {
-            if (cityDatabaseReader == null && countryDatabaseReader == null) {
+            if (cityReader == null && countryReader == null) {
                 throw new IllegalArgumentException("No geolocation services have been defined for Maxmind");
             }
 
             val location = new GeoLocationResponse();
-            if (this.cityDatabaseReader != null) {
-                val response = this.cityDatabaseReader.city(address);
+            var country = (String) null;
+            if (cityReader != null) {
+                val response = cityReader.city(address);
                 location.addAddress(response.getCity().getName());
                 val loc = response.getLocation();
                 if (loc != null) {
@@ -47,34 +178,46 @@ public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationServic
                         location.setLongitude(loc.getLongitude());
                     }
                 }
+                if (response.getCountry() != null) {
+                    country = response.getCountry().getName();
+                }
             }
-            if (this.countryDatabaseReader != null) {
-                val response = this.countryDatabaseReader.country(address);
-                location.addAddress(response.getCountry().getName());
+            if (countryReader != null) {
+                if (StringUtils.isBlank(country)) {
+                    val response = countryReader.country(address);
+                    country = response.getCountry().getName();
+                }
+                location.addAddress(country);
             }
             LOGGER.debug("Geo location for [{}] is calculated as [{}]", address, location);
-            return location;
+            return Optional.of(location);
         } catch (final AddressNotFoundException e) {
             LOGGER.info(e.getMessage(), e);
+            return Optional.empty();
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
         return null;
     }
 
-    @Override
-    public GeoLocationResponse locate(final String address) {
-        try {
-            return locate(InetAddress.getByName(address));
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
-        }
-        return null;
-    }
-
-    @Override
-    public GeoLocationResponse locate(final Double latitude, final Double longitude) {
-        LOGGER.warn("Geo-locating an address by latitude/longitude [{}]/[{}] is not supported", latitude, longitude);
-        return null;
+    private void watchDatabase(final File file, final int nodeCacheSize,
+                               final AtomicReference<DatabaseReader> databaseReader) {
+        val reload = (Consumer<File>) changed -> {
+            if (changed.getPath().equals(file.getPath())) {
+                try {
+                    LOGGER.info("Reloading geolocation database from [{}]", file);
+                    val previousReader = databaseReader.getAndSet(createDatabaseReader(file, nodeCacheSize));
+                    geoLocationCache.invalidateAll();
+                    IOUtils.closeQuietly(previousReader);
+                } catch (final Exception e) {
+                    LOGGER.warn("Unable to reload geolocation database from [{}]; the current database remains in use", file);
+                    LoggingUtils.error(LOGGER, e);
+                }
+            }
+        };
+        val watcher = new PathWatcherService(file.getParentFile().toPath(), reload, reload, changed -> {
+        });
+        watcher.start(getClass().getSimpleName());
+        watcherServices.add(watcher);
     }
 }
@@ -13,11 +13,19 @@ import com.maxmind.geoip2.record.Postal;
 import com.maxmind.geoip2.record.RepresentedCountry;
 import com.maxmind.geoip2.record.Traits;
 import lombok.val;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -52,6 +60,28 @@ public class MaxmindDatabaseGeoLocationServiceTests {
         assertNull(response);
     }
 
+    @Test
+    public void verifyUnknownAddressIsCached() throws Exception {
+        val cityReader = mock(DatabaseReader.class);
+        when(cityReader.city(any())).thenThrow(new AddressNotFoundException("Unknown"));
+        val service = new MaxmindDatabaseGeoLocationService(cityReader, null);
+        assertNull(service.locate("127.0.0.1"));
+        assertNull(service.locate("127.0.0.1"));
+        verify(cityReader, times(1)).city(any(InetAddress.class));
+    }
+
+    @Test
+    public void verifyFailedLookupIsNotCached() throws Exception {
+        val cityReader = mock(DatabaseReader.class);
+        when(cityReader.city(any()))
+            .thenThrow(new IOException("Failed"))
+            .thenReturn(newCityResponse("Paris", "France"));
+        val service = new MaxmindDatabaseGeoLocationService(cityReader, null);
+        assertNull(service.locate("127.0.0.1"));
+        assertEquals(Set.of("Paris"), service.locate("127.0.0.1").getAddresses());
+        verify(cityReader, times(2)).city(any(InetAddress.class));
+    }
+
     @Test
     public void verifyNoReader() {
         val service = new MaxmindDatabaseGeoLocationService(null, null);
@@ -86,4 +116,57 @@ public class MaxmindDatabaseGeoLocationServiceTests {
         val response2 = service.locate(100D, 100D);
         assertNull(response2);
     }
+
+    @Test
+    public void verifyLocationsAreCached() throws Exception {
+        val city = mock(DatabaseReader.class);
+        when(city.city(any(InetAddress.class))).thenReturn(newCityResponse("Paris", "France"));
+        val country = mock(DatabaseReader.class);
+
+        val service = new MaxmindDatabaseGeoLocationService(city, country);
+        for (var i = 0; i < 10; i++) {
+            val response = service.locate("127.0.0.1");
+            assertNotNull(response);
+            assertEquals(Set.of("Paris", "France"), response.getAddresses());
+        }
+        verify(city, times(1)).city(any(InetAddress.class));
+        verify(country, never()).country(any(InetAddress.class));
+        service.close();
+    }
+
+    @Test
+    public void verifyDatabaseReloaded() throws Exception {
+        val file = File.createTempFile("GeoLite2-City", ".mmdb");
+        FileUtils.write(file, "initial", StandardCharsets.UTF_8);
+
+        val initial = mock(DatabaseReader.class);
+        when(initial.city(any(InetAddress.class))).thenReturn(newCityResponse("Paris", "France"));
+        val reloaded = mock(DatabaseReader.class);
+        when(reloaded.city(any(InetAddress.class))).thenReturn(newCityResponse("London", "United Kingdom"));
+
+        val service = new MaxmindDatabaseGeoLocationService(initial, null) {
+            @Override
+            protected DatabaseReader createDatabaseReader(final File file, final int nodeCacheSize) {
+                return reloaded;
+            }
+        };
+        service.watchCityDatabase(file, 100);
+        assertEquals(Set.of("Paris"), service.locate("127.0.0.1").getAddresses());
+
+        Files.writeString(file.toPath(), "updated");
+        for (var i = 0; i < 100 && !service.locate("127.0.0.1").getAddresses().contains("London"); i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(Set.of("London"), service.locate("127.0.0.1").getAddresses());
+        verify(initial).close();
+        service.destroy();
+        assertTrue(file.delete());
+    }
+
+    private static CityResponse newCityResponse(final String city, final String country) {
+        return new CityResponse(new City(List.of("en"), 1, 1, Map.of("en", city)), new Continent(),
+            new Country(List.of("en"), 1, 1, "FR", Map.of("en", country)),
+            new Location(), new MaxMind(), new Postal(), new Country(), new RepresentedCountry(),
+            new ArrayList<>(), new Traits());
+    }
 }
@@ -16,7 +16,12 @@ import org.springframework.beans.factory.DisposableBean;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -99,6 +104,32 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return map != null && map.remove(encTicketId) != null;
     }
 
+    @Override
+    public int deleteSingleTickets(final Collection<String> ticketIds) {
+        val removals = groupTicketIdsByMap(ticketIds)
+            .entrySet()
+            .stream()
+            .flatMap(entry -> entry.getValue().stream().map(ticketId -> entry.getKey().removeAsync(ticketId).toCompletableFuture()))
+            .collect(Collectors.toList());
+        return (int) removals
+            .stream()
+            .map(CompletableFuture::join)
+            .filter(Objects::nonNull)
+            .count();
+    }
+
+    @Override
+    public Collection<? extends Ticket> getTickets(final Collection<String> ticketIds, final Predicate<Ticket> predicate) {
+        return groupTicketIdsByMap(ticketIds)
+            .entrySet()
+            .stream()
+            .flatMap(entry -> entry.getKey().getAll(entry.getValue()).values().stream())
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull)
+            .filter(predicate)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long deleteAll() {
         return this.ticketCatalog.findAll()
@@ -151,6 +182,30 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
+    /**
+     * Group encoded ticket ids by the map that stores them, so each map can be accessed once.
+     *
+     * @param ticketIds the ticket ids
+     * @return the encoded ticket ids, keyed by map
+     */
+    private Map<IMap<String, Ticket>, Set<String>> groupTicketIdsByMap(final Collection<String> ticketIds) {
+        val ticketMaps = new HashMap<IMap<String, Ticket>, Set<String>>();
+        ticketIds.stream()
+            .filter(StringUtils::isNotBlank)
+            .forEach(ticketId -> {
+                val metadata = this.ticketCatalog.find(ticketId);
+                if (metadata == null) {
+                    LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", ticketId);
+                    return;
+                }
+                val map = getTicketMapInstanceByMetadata(metadata);
+                if (map != null) {
+                    ticketMaps.computeIfAbsent(map, k -> new HashSet<>()).add(encodeTicketId(ticketId));
+                }
+            });
+        return ticketMaps;
+    }
+
     private IMap<String, Ticket> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
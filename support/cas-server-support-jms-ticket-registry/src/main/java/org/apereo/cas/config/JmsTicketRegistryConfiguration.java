@@ -1,7 +1,9 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.ticket.registry.JmsTicketRegistry;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryBatchingPublisher;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryDefaultPublisher;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryPublisher;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryReceiver;
@@ -92,12 +94,25 @@ public class JmsTicketRegistryConfiguration {
         return converter;
     }
 
+    @ConditionalOnMissingBean(name = "messageQueueTicketRegistryPublisher")
     @Bean
-    @RefreshScope
-    public TicketRegistry ticketRegistry() {
+    public JmsTicketRegistryPublisher messageQueueTicketRegistryPublisher() {
         val template = this.jmsTemplate.getObject();
         template.setMessageConverter(jacksonJmsMessageConverter());
-        return getJmsTicketRegistryWithPublisher(new JmsTicketRegistryDefaultPublisher(template));
+        val publisher = new JmsTicketRegistryDefaultPublisher(template);
+        val jms = casProperties.getTicket().getRegistry().getJms();
+        if (jms.getBatchSize() > 1) {
+            LOGGER.debug("Ticket registry changes are published in batches of up to [{}] commands", jms.getBatchSize());
+            return new JmsTicketRegistryBatchingPublisher(publisher, messageQueueTicketRegistryIdentifier(),
+                jms.getBatchSize(), Beans.newDuration(jms.getBatchLinger()));
+        }
+        return publisher;
+    }
+
+    @Bean
+    @RefreshScope
+    public TicketRegistry ticketRegistry() {
+        return getJmsTicketRegistryWithPublisher(messageQueueTicketRegistryPublisher());
     }
 
     @ConditionalOnMissingBean(name = "messageQueueTicketRegistryFactory")
@@ -0,0 +1,161 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link JmsTicketRegistryBatchingPublisher}. Commands are held for a short
+ * linger window and sent together as a {@link BatchMessageQueueCommand}.
+ * While waiting, commands for the same ticket are coalesced so that only
+ * the latest state of the ticket is sent: an update following an add is sent as an add
+ * with the updated ticket, and a removal supersedes any pending change.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class JmsTicketRegistryBatchingPublisher implements JmsTicketRegistryPublisher, DisposableBean {
+    private static final String DELETE_ALL_KEY = DeleteTicketsMessageQueueCommand.class.getName();
+
+    private final Object lock = new Object();
+
+    private final Object sendLock = new Object();
+
+    private final Map<Object, BaseMessageQueueCommand> pending = new LinkedHashMap<>();
+
+    private final JmsTicketRegistryPublisher delegate;
+
+    private final PublisherIdentifier id;
+
+    private final int batchSize;
+
+    private final long lingerInMillis;
+
+    private final ScheduledExecutorService scheduler;
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    public JmsTicketRegistryBatchingPublisher(final JmsTicketRegistryPublisher delegate, final PublisherIdentifier id,
+                                              final int batchSize, final Duration linger) {
+        this.delegate = delegate;
+        this.id = id;
+        this.batchSize = batchSize;
+        this.lingerInMillis = Math.max(0, linger.toMillis());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            val thread = new Thread(r, "JmsTicketRegistryPublisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static String getTicketId(final BaseMessageQueueCommand command) {
+        if (command instanceof AddTicketMessageQueueCommand) {
+            return ((AddTicketMessageQueueCommand) command).getTicket().getId();
+        }
+        if (command instanceof UpdateTicketMessageQueueCommand) {
+            return ((UpdateTicketMessageQueueCommand) command).getTicket().getId();
+        }
+        if (command instanceof DeleteTicketMessageQueueCommand) {
+            return ((DeleteTicketMessageQueueCommand) command).getTicketId();
+        }
+        return null;
+    }
+
+    @Override
+    public void publishMessageToQueue(final BaseMessageQueueCommand cmd) {
+        synchronized (lock) {
+            enqueue(cmd);
+            if (pending.size() >= batchSize) {
+                cancelScheduledFlush();
+                scheduler.execute(this::flush);
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, lingerInMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Send all pending commands, in batches.
+     */
+    public void flush() {
+        synchronized (sendLock) {
+            while (true) {
+                val commands = new ArrayList<BaseMessageQueueCommand>(batchSize);
+                synchronized (lock) {
+                    cancelScheduledFlush();
+                    val iterator = pending.values().iterator();
+                    while (iterator.hasNext() && commands.size() < batchSize) {
+                        commands.add(iterator.next());
+                        iterator.remove();
+                    }
+                }
+                if (commands.isEmpty()) {
+                    return;
+                }
+                val command = commands.size() == 1 ? commands.get(0) : new BatchMessageQueueCommand(id, commands);
+                try {
+                    LOGGER.trace("Publishing [{}] queue commands for id [{}]", commands.size(), id);
+                    delegate.publishMessageToQueue(command);
+                } catch (final Exception e) {
+                    LOGGER.error("Unable to publish [{}] queue commands for id [{}]", commands.size(), id);
+                    LoggingUtils.error(LOGGER, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        scheduler.shutdownNow();
+    }
+
+    private void enqueue(final BaseMessageQueueCommand command) {
+        if (command instanceof DeleteTicketsMessageQueueCommand) {
+            pending.clear();
+            pending.put(DELETE_ALL_KEY, command);
+            return;
+        }
+        val ticketId = getTicketId(command);
+        if (ticketId == null) {
+            pending.put(new Object(), command);
+            return;
+        }
+        val previous = pending.get(ticketId);
+        if (command instanceof UpdateTicketMessageQueueCommand && previous instanceof AddTicketMessageQueueCommand) {
+            val ticket = ((UpdateTicketMessageQueueCommand) command).getTicket();
+            pending.put(ticketId, new AddTicketMessageQueueCommand(command.getId(), ticket));
+        } else if (command instanceof DeleteTicketMessageQueueCommand || previous instanceof DeleteTicketMessageQueueCommand) {
+            pending.remove(ticketId);
+            pending.put(ticketId, command);
+        } else {
+            pending.put(ticketId, command);
+        }
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link BatchMessageQueueCommand}, which carries several
+ * commands in a single message. Commands are executed in the order
+ * they were published, and since each command is idempotent,
+ * a redelivered batch can be safely executed again.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class BatchMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = -2630415735632291735L;
+
+    @JsonProperty
+    private List<BaseMessageQueueCommand> commands;
+
+    @JsonCreator
+    public BatchMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id,
+                                    @JsonProperty("commands") final List<BaseMessageQueueCommand> commands) {
+        super(id);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public void execute(final TicketRegistry registry) {
+        LOGGER.debug("Executing [{}] queue commands on ticket registry id [{}]", commands.size(), getId().getId());
+        commands.forEach(command -> command.execute(registry));
+    }
+}
@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.ticket.registry.JmsTicketRegistryBatchingPublisherTests;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryTests;
 import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommandTests;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommandTests;
@@ -21,7 +22,8 @@ import org.junit.runner.RunWith;
     DeleteTicketsMessageQueueCommandTests.class,
     DeleteTicketMessageQueueCommandTests.class,
     UpdateTicketMessageQueueCommandTests.class,
-    JmsTicketRegistryTests.class
+    JmsTicketRegistryTests.class,
+    JmsTicketRegistryBatchingPublisherTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
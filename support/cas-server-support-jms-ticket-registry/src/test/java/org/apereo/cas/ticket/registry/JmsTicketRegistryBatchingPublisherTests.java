@@ -0,0 +1,105 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JmsTicketRegistryBatchingPublisherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("JMS")
+public class JmsTicketRegistryBatchingPublisherTests {
+    private final List<BaseMessageQueueCommand> messages = new CopyOnWriteArrayList<>();
+
+    private final PublisherIdentifier id = new PublisherIdentifier();
+
+    private static TicketGrantingTicketImpl getTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    @Test
+    public void verifyUpdatesCoalesced() throws Exception {
+        val publisher = new JmsTicketRegistryBatchingPublisher(messages::add, id, 100, Duration.ofMinutes(1));
+        val tgt = getTicket("TGT-1");
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, tgt));
+        publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, tgt));
+        publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, getTicket("TGT-2")));
+        publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, getTicket("TGT-2")));
+        publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "TGT-3"));
+        assertTrue(messages.isEmpty());
+        publisher.destroy();
+
+        assertEquals(1, messages.size());
+        val batch = (BatchMessageQueueCommand) messages.get(0);
+        assertEquals(3, batch.getCommands().size());
+        assertTrue(batch.getCommands().get(0) instanceof AddTicketMessageQueueCommand);
+        assertTrue(batch.getCommands().get(1) instanceof UpdateTicketMessageQueueCommand);
+        assertTrue(batch.getCommands().get(2) instanceof DeleteTicketMessageQueueCommand);
+    }
+
+    @Test
+    public void verifyDeletesSupersede() throws Exception {
+        val publisher = new JmsTicketRegistryBatchingPublisher(messages::add, id, 100, Duration.ofMinutes(1));
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, getTicket("TGT-1")));
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, getTicket("TGT-2")));
+        publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "TGT-1"));
+        publisher.flush();
+        val batch = (BatchMessageQueueCommand) messages.get(0);
+        assertEquals(2, batch.getCommands().size());
+        assertTrue(batch.getCommands().get(1) instanceof DeleteTicketMessageQueueCommand);
+
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, getTicket("TGT-3")));
+        publisher.publishMessageToQueue(new DeleteTicketsMessageQueueCommand(id));
+        publisher.flush();
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(1) instanceof DeleteTicketsMessageQueueCommand);
+        publisher.destroy();
+    }
+
+    @Test
+    public void verifyBatchesSentWhenFullOrLingerElapsed() throws Exception {
+        val publisher = new JmsTicketRegistryBatchingPublisher(messages::add, id, 2, Duration.ofMillis(10));
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, getTicket("TGT-1")));
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, getTicket("TGT-2")));
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, getTicket("TGT-3")));
+        for (var i = 0; i < 100 && messages.size() < 2; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(0) instanceof BatchMessageQueueCommand);
+        assertTrue(messages.get(1) instanceof AddTicketMessageQueueCommand);
+        publisher.destroy();
+    }
+
+    @Test
+    public void verifyBatchExecution() {
+        val registry = new DefaultTicketRegistry();
+        val batch = new BatchMessageQueueCommand(id, List.of(
+            new AddTicketMessageQueueCommand(id, getTicket("TGT-1")),
+            new AddTicketMessageQueueCommand(id, getTicket("TGT-2")),
+            new DeleteTicketMessageQueueCommand(id, "TGT-1")));
+        batch.execute(registry);
+        assertNull(registry.getTicket("TGT-1"));
+        assertNotNull(registry.getTicket("TGT-2"));
+    }
+}
@@ -6,16 +6,20 @@ import org.apereo.cas.configuration.model.support.jpa.JpaConfigurationContext;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.jpa.JpaBeanFactory;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.AbstractTicket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.JpaTicketRegistry;
-import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.support.JpaLockingStrategy;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.InetAddressUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.reflections.Reflections;
@@ -36,7 +40,9 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
@@ -52,7 +58,8 @@ import java.util.stream.Collectors;
 @Configuration("jpaTicketRegistryConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @EnableTransactionManagement(proxyTargetClass = true)
-@AutoConfigureBefore(CasCoreTicketsConfiguration.class)
+@AutoConfigureBefore({CasCoreTicketsConfiguration.class, CasCoreTicketsSchedulingConfiguration.class})
+@Slf4j
 public class JpaTicketRegistryConfiguration {
 
     @Autowired
@@ -109,13 +116,32 @@ public class JpaTicketRegistryConfiguration {
     @Autowired
     @Bean
     @RefreshScope
-    public TicketRegistry ticketRegistry(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
+    public JpaTicketRegistry ticketRegistry(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog,
+                                            @Qualifier("ticketTransactionManager") final PlatformTransactionManager ticketTransactionManager) {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         val bean = new JpaTicketRegistry(jpa.getTicketLockType(), ticketCatalog);
         bean.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(jpa.getCrypto(), "jpa"));
+        val transactionTemplate = new TransactionTemplate(ticketTransactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        bean.setTransactionTemplate(transactionTemplate);
         return bean;
     }
 
+    @Autowired
+    @Bean
+    @RefreshScope
+    public TicketRegistryCleaner ticketRegistryCleaner(@Qualifier("lockingStrategy") final LockingStrategy lockingStrategy,
+                                                       @Qualifier(LogoutManager.DEFAULT_BEAN_NAME) final LogoutManager logoutManager,
+                                                       @Qualifier("ticketRegistry") final JpaTicketRegistry ticketRegistry) {
+        val registry = casProperties.getTicket().getRegistry();
+        if (registry.getCleaner().getSchedule().isEnabled()) {
+            LOGGER.debug("Ticket registry cleaner for JPA is enabled.");
+            return new JpaTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry, registry.getJpa().getCleanerBatchSize());
+        }
+        LOGGER.debug("Ticket registry cleaner for JPA is not enabled. Expired tickets are not forcefully collected and cleaned by CAS.");
+        return NoOpTicketRegistryCleaner.getInstance();
+    }
+
     @Bean
     public LockingStrategy lockingStrategy() {
         val registry = casProperties.getTicket().getRegistry();
@@ -1,28 +1,48 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.AbstractTicket;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.LoggingUtils;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hibernate.LockOptions;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
 import javax.persistence.NoResultException;
+import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,6 +50,13 @@ import java.util.stream.Stream;
 /**
  * JPA implementation of a CAS {@link TicketRegistry}. This implementation of
  * ticket registry is suitable for HA environments.
+ * <p>
+ * Tickets are stored along with their expiration time and, for ticket-granting tickets,
+ * the owning principal so that cleanup and session counts can be answered from indexed columns.
+ * Session counts fall back to examining tickets individually while ticket-granting tickets
+ * stored before the principal was recorded remain in the registry.
+ * All queries are registered once as named queries with the persistence unit so their
+ * parsing and translation is not repeated for every call.
  *
  * @author Scott Battaglia
  * @author Marvin S. Addison
@@ -42,6 +69,15 @@ import java.util.stream.Stream;
 public class JpaTicketRegistry extends AbstractTicketRegistry {
     private static final int STREAM_BATCH_SIZE = 100;
 
+    private static final int QUERY_BATCH_SIZE = 500;
+
+    private static final String TICKET_GRANTING_TICKET_ATTRIBUTE = "ticketGrantingTicket";
+
+    private static final Set<LockModeType> OPTIMISTIC_LOCK_TYPES = EnumSet.of(LockModeType.READ,
+        LockModeType.WRITE, LockModeType.OPTIMISTIC, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
+    private final Set<String> namedQueries = ConcurrentHashMap.newKeySet();
+
     private final LockModeType lockType;
 
     private final TicketCatalog ticketCatalog;
@@ -49,9 +85,29 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     @PersistenceContext(unitName = "ticketEntityManagerFactory")
     private transient EntityManager entityManager;
 
+    private transient List<String> cascadeTicketEntityNames;
+
+    @Setter
+    private transient TransactionOperations transactionTemplate = TransactionOperations.withoutTransaction();
+
+    private static String getPrincipalId(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                return StringUtils.lowerCase(authentication.getPrincipal().getId(), Locale.ENGLISH);
+            }
+        }
+        return null;
+    }
+
+    private static long countToLong(final Object result) {
+        return ((Number) result).longValue();
+    }
+
     @Override
     public void addTicket(final Ticket ticket) {
         val encodeTicket = encodeTicket(ticket);
+        updateTicketIndex(ticket, encodeTicket);
         this.entityManager.persist(encodeTicket);
         LOGGER.debug("Added ticket [{}] to registry.", encodeTicket);
     }
@@ -65,10 +121,9 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             }
 
             val tkt = ticketCatalog.find(ticketId);
-            val sql = String.format("SELECT t FROM %s t WHERE t.id = :id", getTicketEntityName(tkt));
-            val query = entityManager.createQuery(sql, getTicketImplementationClass(tkt));
+            val query = createQuery(TicketQuery.SELECT_BY_ID, getTicketEntityName(tkt), getTicketImplementationClass(tkt));
             query.setParameter("id", encTicketId);
-            query.setLockMode(this.lockType);
+            query.setLockMode(getReadLockType());
             val ticket = query.getSingleResult();
             val result = decodeTicket(ticket);
             if (predicate.test(result)) {
@@ -84,12 +139,37 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    public Collection<? extends Ticket> getTickets(final Collection<String> ticketIds, final Predicate<Ticket> predicate) {
+        try {
+            return groupEncodedTicketIds(ticketIds, this::getTicketImplementationClass)
+                .entrySet()
+                .stream()
+                .<Ticket>flatMap(entry -> ListUtils.partition(entry.getValue(), QUERY_BATCH_SIZE)
+                    .stream()
+                    .flatMap(ids -> {
+                        val query = createQuery(TicketQuery.SELECT_BY_IDS, entry.getKey().getSimpleName(), entry.getKey());
+                        query.setParameter("ids", ids);
+                        query.setLockMode(getReadLockType());
+                        return query.getResultList().stream();
+                    }))
+                .map(this::decodeTicket)
+                .filter(Objects::nonNull)
+                .filter(predicate)
+                .collect(Collectors.toList());
+        } catch (final Exception e) {
+            LOGGER.error("Error getting tickets [{}] from registry.", ticketIds);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return new ArrayList<>(0);
+    }
+
     @Override
     public long deleteAll() {
         return this.ticketCatalog.findAll()
             .stream()
             .map(this::getTicketEntityName)
-            .map(entityName -> entityManager.createQuery(String.format("DELETE FROM %s", entityName)))
+            .map(entityName -> createQuery(TicketQuery.DELETE_ALL, entityName))
             .mapToLong(Query::executeUpdate)
             .sum();
     }
@@ -97,9 +177,8 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     @Override
     public Collection<? extends Ticket> getTickets() {
         if (isCipherExecutorEnabled()) {
-            val sql = String.format("SELECT t FROM %s t", DefaultEncodedTicket.class.getSimpleName());
-            val query = (org.hibernate.query.Query<Ticket>) entityManager.createQuery(sql, Ticket.class);
-            query.setLockMode(this.lockType);
+            val query = createQuery(TicketQuery.SELECT_ALL, DefaultEncodedTicket.class.getSimpleName(), Ticket.class);
+            query.setLockMode(getReadLockType());
             return query
                 .getResultStream()
                 .map(this::decodeTicket)
@@ -109,9 +188,8 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return this.ticketCatalog.findAll()
             .stream()
             .map(t -> {
-                val sql = String.format("SELECT t FROM %s t", getTicketEntityName(t));
-                val query = entityManager.createQuery(sql, getTicketImplementationClass(t));
-                query.setLockMode(this.lockType);
+                val query = createQuery(TicketQuery.SELECT_ALL, getTicketEntityName(t), getTicketImplementationClass(t));
+                query.setLockMode(getReadLockType());
                 return query;
             })
             .map(TypedQuery::getResultList)
@@ -124,6 +202,10 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     public Ticket updateTicket(final Ticket ticket) {
         LOGGER.trace("Updating ticket [{}]", ticket);
         val encodeTicket = this.encodeTicket(ticket);
+        updateTicketIndex(ticket, encodeTicket);
+        if (isOptimisticLocking() && encodeTicket instanceof AbstractTicket) {
+            incrementTicketVersion((AbstractTicket) encodeTicket);
+        }
         this.entityManager.merge(encodeTicket);
         LOGGER.debug("Updated ticket [{}].", encodeTicket);
         return encodeTicket;
@@ -140,26 +222,61 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     @Override
     public Stream<? extends Ticket> getTicketsStream() {
         if (isCipherExecutorEnabled()) {
-            val sql = String.format("SELECT t FROM %s t", DefaultEncodedTicket.class.getSimpleName());
-            val query = (org.hibernate.query.Query<Ticket>) entityManager.createQuery(sql, Ticket.class);
-            query.setFetchSize(STREAM_BATCH_SIZE);
-            query.setLockOptions(LockOptions.NONE);
-            return query
-                .stream()
-                .map(this::decodeTicket);
+            return streamTickets(TicketQuery.SELECT_ALL, DefaultEncodedTicket.class.getSimpleName(), Ticket.class, query -> {
+            });
         }
 
         return this.ticketCatalog.findAll()
             .stream()
-            .map(t -> {
-                val sql = String.format("SELECT t FROM %s t", getTicketEntityName(t));
-                val query = (org.hibernate.query.Query<Ticket>) entityManager.createQuery(sql, getTicketImplementationClass(t));
-                query.setFetchSize(STREAM_BATCH_SIZE);
-                query.setLockOptions(LockOptions.NONE);
-                return query;
-            })
-            .flatMap(org.hibernate.query.Query::stream)
-            .map(this::decodeTicket);
+            .flatMap(t -> streamTickets(TicketQuery.SELECT_ALL, getTicketEntityName(t), getTicketImplementationClass(t), query -> {
+            }));
+    }
+
+    /**
+     * Gets a stream of tickets that may have expired, loaded in batches and without locking any rows.
+     * Candidates are tickets whose recorded expiration time has passed, along with tickets
+     * for which no expiration time is recorded. Callers are expected to verify that each ticket has
+     * indeed expired.
+     *
+     * @return the tickets
+     */
+    public Stream<? extends Ticket> getExpiredTicketsStream() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        if (isCipherExecutorEnabled()) {
+            return streamTickets(TicketQuery.SELECT_EXPIRATION_CANDIDATES, DefaultEncodedTicket.class.getSimpleName(),
+                Ticket.class, query -> query.setParameter("time", now));
+        }
+        return getRootTicketImplementationClasses(defn -> true)
+            .stream()
+            .flatMap(type -> streamTickets(TicketQuery.SELECT_EXPIRATION_CANDIDATES, type.getSimpleName(),
+                type, query -> query.setParameter("time", now)));
+    }
+
+    /**
+     * Delete tickets whose recorded expiration time has passed, in batches and without loading them.
+     * Ticket-granting tickets are left alone, since their removal must go through the logout process.
+     * Each batch runs in its own transaction, so that batches removed before a failure remain removed.
+     *
+     * @param batchSize the number of tickets to delete in each batch
+     * @return the number of deleted tickets
+     */
+    public long deleteExpiredTickets(final int batchSize) {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        if (isCipherExecutorEnabled()) {
+            val prefixes = this.ticketCatalog.findAll()
+                .stream()
+                .filter(JpaTicketRegistry::isTicketGrantingTicketDefinition)
+                .map(TicketDefinition::getPrefix)
+                .collect(Collectors.toList());
+            return deleteExpiredTickets(TicketQuery.SELECT_EXPIRED_ENCODED_TICKET_IDS,
+                DefaultEncodedTicket.class.getSimpleName(), batchSize,
+                query -> query.setParameter("time", now).setParameter("prefixes", prefixes));
+        }
+        return getRootTicketImplementationClasses(defn -> !isTicketGrantingTicketDefinition(defn))
+            .stream()
+            .mapToLong(type -> deleteExpiredTickets(TicketQuery.SELECT_EXPIRED_TICKET_IDS,
+                type.getSimpleName(), batchSize, query -> query.setParameter("time", now)))
+            .sum();
     }
 
     @Override
@@ -170,8 +287,23 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
                 .count();
         }
         val md = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
-        val sql = String.format("SELECT COUNT(t) FROM %s t", getTicketEntityName(md));
-        val query = this.entityManager.createQuery(sql);
+        val query = createQuery(TicketQuery.COUNT_ALL, getTicketEntityName(md));
+        return countToLong(query.getSingleResult());
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        val md = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
+        val entityName = getTicketEntityName(md);
+        if (countToLong(createQuery(TicketQuery.COUNT_WITHOUT_PRINCIPAL, entityName).getSingleResult()) > 0) {
+            LOGGER.debug("Ticket-granting tickets without a recorded principal are found; sessions are counted individually");
+            return super.countSessionsFor(principalId);
+        }
+        val query = createQuery(TicketQuery.COUNT_BY_PRINCIPAL, entityName);
+        query.setParameter("principalId", StringUtils.lowerCase(principalId, Locale.ENGLISH));
         return countToLong(query.getSingleResult());
     }
 
@@ -183,8 +315,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
                 .count();
         }
         val md = this.ticketCatalog.find(ServiceTicket.PREFIX);
-        val sql = String.format("SELECT COUNT(t) FROM %s t", getTicketEntityName(md));
-        val query = this.entityManager.createQuery(sql);
+        val query = createQuery(TicketQuery.COUNT_ALL, getTicketEntityName(md));
         return countToLong(query.getSingleResult());
     }
 
@@ -200,6 +331,54 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return super.deleteTicket(ticketId);
     }
 
+    /**
+     * Delete tickets by their identifiers.
+     * Simple call to the super method to force a transaction to be started in case of a direct call.
+     *
+     * @param ticketIds the ticket identifiers
+     * @return the number of tickets deleted including children.
+     */
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) {
+        return super.deleteTickets(ticketIds);
+    }
+
+    /**
+     * Delete tickets by their identifiers, using a single statement for each entity.
+     * Ticket-granting tickets whose removal cascades to other entities are removed last and
+     * individually, once tickets that may be linked to them are removed.
+     *
+     * @param ticketIds the ticket identifiers
+     * @return the number of deleted tickets
+     */
+    @Override
+    public int deleteSingleTickets(final Collection<String> ticketIds) {
+        val cascadeRemovals = new ArrayList<String>();
+        val ticketsToDelete = new ArrayList<String>();
+        ticketIds.forEach(ticketId -> {
+            val md = this.ticketCatalog.find(ticketId);
+            if (md != null && md.getProperties().isCascadeRemovals() && !isCipherExecutorEnabled()) {
+                cascadeRemovals.add(ticketId);
+            } else {
+                ticketsToDelete.add(ticketId);
+            }
+        });
+        var totalCount = groupEncodedTicketIds(ticketsToDelete, this::getTicketEntityName)
+            .entrySet()
+            .stream()
+            .mapToInt(entry -> ListUtils.partition(entry.getValue(), QUERY_BATCH_SIZE)
+                .stream()
+                .mapToInt(ids -> {
+                    val query = createQuery(TicketQuery.DELETE_BY_IDS, entry.getKey());
+                    query.setParameter("ids", ids);
+                    return query.executeUpdate();
+                })
+                .sum())
+            .sum();
+        totalCount += (int) cascadeRemovals.stream().filter(this::deleteSingleTicket).count();
+        return totalCount;
+    }
+
     @Override
     public boolean deleteSingleTicket(final String ticketIdToDelete) {
         val encTicketId = encodeTicketId(ticketIdToDelete);
@@ -210,17 +389,15 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         if (md.getProperties().isCascadeRemovals() && !isCipherExecutorEnabled()) {
             totalCount = deleteTicketGrantingTickets(encTicketId);
         } else {
-            val ticketEntityName = getTicketEntityName(md);
-            val sql = String.format("DELETE FROM %s o WHERE o.id = :id", ticketEntityName);
-            val query = entityManager.createQuery(sql);
+            val query = createQuery(TicketQuery.DELETE_BY_ID, getTicketEntityName(md));
             query.setParameter("id", encTicketId);
             totalCount = query.executeUpdate();
         }
         return totalCount != 0;
     }
 
-    private static long countToLong(final Object result) {
-        return ((Number) result).longValue();
+    private static boolean isTicketGrantingTicketDefinition(final TicketDefinition definition) {
+        return TicketGrantingTicket.class.isAssignableFrom(definition.getImplementationClass());
     }
 
     /**
@@ -230,14 +407,12 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
      * @return the total count
      */
     private int deleteTicketGrantingTickets(final String ticketId) {
-        var totalCount = this.ticketCatalog.findAll()
+        var totalCount = getCascadeTicketEntityNames()
             .stream()
-            .filter(defn -> !defn.getProperties().isExcludeFromCascade())
-            .mapToInt(defn -> {
+            .mapToInt(entityName -> {
                 try {
-                    val sql = String.format("DELETE FROM %s s WHERE s.ticketGrantingTicket.id = :id", getTicketEntityName(defn));
-                    LOGGER.trace("Creating delete query [{}] for ticket id [{}]", sql, ticketId);
-                    val query = entityManager.createQuery(sql);
+                    LOGGER.trace("Deleting [{}] entities linked to ticket id [{}]", entityName, ticketId);
+                    val query = createQuery(TicketQuery.DELETE_BY_TICKET_GRANTING_TICKET, entityName);
                     query.setParameter("id", ticketId);
                     return query.executeUpdate();
                 } catch (final Exception e) {
@@ -248,14 +423,168 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             .sum();
 
         val tgt = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
-        val sql = String.format("DELETE FROM %s t WHERE t.id = :id", getTicketEntityName(tgt));
-        val query = entityManager.createQuery(sql);
+        val query = createQuery(TicketQuery.DELETE_BY_ID, getTicketEntityName(tgt));
         query.setParameter("id", ticketId);
-        LOGGER.trace("Creating delete query [{}] for ticket id [{}]", sql, ticketId);
+        LOGGER.trace("Deleting ticket-granting ticket [{}]", ticketId);
         totalCount += query.executeUpdate();
         return totalCount;
     }
 
+    /**
+     * Entities that carry a reference to a ticket-granting ticket, and must be removed along with it.
+     * Only the top-most entity of each mapped hierarchy is kept since removals in JPQL are polymorphic.
+     *
+     * @return the entity names
+     */
+    private List<String> getCascadeTicketEntityNames() {
+        if (this.cascadeTicketEntityNames == null) {
+            val metamodel = entityManager.getMetamodel();
+            this.cascadeTicketEntityNames = getRootTicketImplementationClasses(defn -> !defn.getProperties().isExcludeFromCascade())
+                .stream()
+                .filter(type -> {
+                    try {
+                        return metamodel.entity(type).getAttribute(TICKET_GRANTING_TICKET_ATTRIBUTE) != null;
+                    } catch (final IllegalArgumentException e) {
+                        LOGGER.trace("Entity [{}] does not reference a ticket-granting ticket", type.getSimpleName());
+                        return false;
+                    }
+                })
+                .map(Class::getSimpleName)
+                .collect(Collectors.toList());
+            LOGGER.debug("Ticket-granting ticket removals will cascade to [{}]", this.cascadeTicketEntityNames);
+        }
+        return this.cascadeTicketEntityNames;
+    }
+
+    private <K> Map<K, List<String>> groupEncodedTicketIds(final Collection<String> ticketIds,
+                                                          final Function<TicketDefinition, K> groupBy) {
+        val groups = new LinkedHashMap<K, List<String>>();
+        ticketIds.stream()
+            .filter(StringUtils::isNotBlank)
+            .distinct()
+            .forEach(ticketId -> {
+                val md = this.ticketCatalog.find(ticketId);
+                if (md == null) {
+                    LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", ticketId);
+                } else {
+                    groups.computeIfAbsent(groupBy.apply(md), k -> new ArrayList<>()).add(encodeTicketId(ticketId));
+                }
+            });
+        return groups;
+    }
+
+    private List<Class<? extends Ticket>> getRootTicketImplementationClasses(final Predicate<TicketDefinition> filter) {
+        val types = this.ticketCatalog.findAll()
+            .stream()
+            .filter(filter)
+            .map(TicketDefinition::getImplementationClass)
+            .distinct()
+            .collect(Collectors.<Class<? extends Ticket>>toList());
+        return types
+            .stream()
+            .filter(type -> types.stream().noneMatch(other -> !other.equals(type) && other.isAssignableFrom(type)))
+            .collect(Collectors.toList());
+    }
+
+    private long deleteExpiredTickets(final TicketQuery selectQuery, final String entityName,
+                                      final int batchSize, final Consumer<Query> parameters) {
+        var totalCount = 0L;
+        while (true) {
+            val count = Objects.requireNonNull(transactionTemplate.execute(status -> {
+                val select = createQuery(selectQuery, entityName, String.class);
+                parameters.accept(select);
+                select.setMaxResults(batchSize);
+                val ids = select.getResultList();
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                val delete = createQuery(TicketQuery.DELETE_BY_IDS, entityName);
+                delete.setParameter("ids", ids);
+                return delete.executeUpdate();
+            }));
+            LOGGER.trace("Deleted [{}] expired [{}] entities", count, entityName);
+            if (count == 0) {
+                break;
+            }
+            totalCount += count;
+        }
+        return totalCount;
+    }
+
+    private <T extends Ticket> Stream<Ticket> streamTickets(final TicketQuery ticketQuery, final String entityName,
+                                                            final Class<T> type, final Consumer<Query> parameters) {
+        val query = createQuery(ticketQuery, entityName, type).unwrap(org.hibernate.query.Query.class);
+        parameters.accept(query);
+        query.setFetchSize(STREAM_BATCH_SIZE);
+        query.setLockOptions(LockOptions.NONE);
+        return ((Stream<?>) query.stream())
+            .map(Ticket.class::cast)
+            .map(this::decodeTicket);
+    }
+
+    private void updateTicketIndex(final Ticket ticket, final Ticket entity) {
+        val expirationTime = CoreTicketUtils.getExpirationTime(ticket);
+        if (entity instanceof AbstractTicket) {
+            val state = (AbstractTicket) entity;
+            state.setExpirationTime(expirationTime);
+            state.setPrincipalId(getPrincipalId(ticket));
+        } else if (entity instanceof DefaultEncodedTicket) {
+            ((DefaultEncodedTicket) entity).setExpirationTime(expirationTime);
+        }
+    }
+
+    private void incrementTicketVersion(final AbstractTicket ticket) {
+        val entityName = ticket.getClass().getSimpleName();
+        val version = ObjectUtils.defaultIfNull(ticket.getVersion(), 0L);
+        val update = createQuery(TicketQuery.UPDATE_VERSION, entityName);
+        update.setParameter("id", ticket.getId());
+        update.setParameter("version", version);
+        update.setParameter("nextVersion", version + 1);
+        if (update.executeUpdate() == 0) {
+            val count = createQuery(TicketQuery.COUNT_BY_ID, entityName);
+            count.setParameter("id", ticket.getId());
+            if (countToLong(count.getSingleResult()) > 0) {
+                throw new OptimisticLockException("Ticket " + ticket.getId()
+                    + " was updated concurrently since version " + version + " was read");
+            }
+        }
+        ticket.setVersion(version + 1);
+    }
+
+    private boolean isOptimisticLocking() {
+        return OPTIMISTIC_LOCK_TYPES.contains(this.lockType);
+    }
+
+    /**
+     * With optimistic locking, reads take no locks and
+     * conflicting writes are detected by the ticket version instead.
+     *
+     * @return the lock mode for reads
+     */
+    private LockModeType getReadLockType() {
+        return isOptimisticLocking() ? LockModeType.NONE : this.lockType;
+    }
+
+    private Query createQuery(final TicketQuery ticketQuery, final String entityName) {
+        return entityManager.createNamedQuery(registerNamedQuery(ticketQuery, entityName, null));
+    }
+
+    private <T> TypedQuery<T> createQuery(final TicketQuery ticketQuery, final String entityName, final Class<T> resultClass) {
+        return entityManager.createNamedQuery(registerNamedQuery(ticketQuery, entityName, resultClass), resultClass);
+    }
+
+    private String registerNamedQuery(final TicketQuery ticketQuery, final String entityName, final Class<?> resultClass) {
+        val name = entityName + '.' + ticketQuery.name();
+        if (!namedQueries.contains(name)) {
+            val sql = String.format(ticketQuery.getQuery(), entityName);
+            LOGGER.trace("Registering named query [{}] as [{}]", name, sql);
+            val query = resultClass == null ? entityManager.createQuery(sql) : entityManager.createQuery(sql, resultClass);
+            entityManager.getEntityManagerFactory().addNamedQuery(name, query);
+            namedQueries.add(name);
+        }
+        return name;
+    }
+
     private Class<? extends Ticket> getTicketImplementationClass(final TicketDefinition tk) {
         if (isCipherExecutorEnabled()) {
             return DefaultEncodedTicket.class;
@@ -266,4 +595,26 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     private String getTicketEntityName(final TicketDefinition tk) {
         return getTicketImplementationClass(tk).getSimpleName();
     }
+
+    @RequiredArgsConstructor
+    @Getter
+    private enum TicketQuery {
+        SELECT_BY_ID("SELECT t FROM %s t WHERE t.id = :id"),
+        SELECT_BY_IDS("SELECT t FROM %s t WHERE t.id IN :ids"),
+        SELECT_ALL("SELECT t FROM %s t"),
+        SELECT_EXPIRATION_CANDIDATES("SELECT t FROM %s t WHERE t.expirationTime IS NULL OR t.expirationTime <= :time"),
+        SELECT_EXPIRED_TICKET_IDS("SELECT t.id FROM %s t WHERE t.expirationTime <= :time"),
+        SELECT_EXPIRED_ENCODED_TICKET_IDS("SELECT t.id FROM %s t WHERE t.expirationTime <= :time AND t.prefix NOT IN :prefixes"),
+        COUNT_ALL("SELECT COUNT(t) FROM %s t"),
+        COUNT_BY_ID("SELECT COUNT(t) FROM %s t WHERE t.id = :id"),
+        COUNT_BY_PRINCIPAL("SELECT COUNT(t) FROM %s t WHERE t.principalId = :principalId"),
+        COUNT_WITHOUT_PRINCIPAL("SELECT COUNT(t) FROM %s t WHERE t.principalId IS NULL"),
+        DELETE_ALL("DELETE FROM %s"),
+        DELETE_BY_ID("DELETE FROM %s t WHERE t.id = :id"),
+        DELETE_BY_IDS("DELETE FROM %s t WHERE t.id IN :ids"),
+        DELETE_BY_TICKET_GRANTING_TICKET("DELETE FROM %s t WHERE t.ticketGrantingTicket.id = :id"),
+        UPDATE_VERSION("UPDATE %s t SET t.version = :nextVersion WHERE t.id = :id AND COALESCE(t.version, 0) = :version");
+
+        private final String query;
+    }
 }
@@ -0,0 +1,50 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * This is {@link JpaTicketRegistryCleaner}. Expired tickets are first removed
+ * in batches using the recorded expiration time, without loading them into memory.
+ * Ticket-granting tickets and tickets with no recorded expiration time are then
+ * examined individually, so that expired sessions still go through the logout process.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Transactional(transactionManager = "ticketTransactionManager")
+@Slf4j
+public class JpaTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private static final long serialVersionUID = 2714376283911349226L;
+
+    private final transient JpaTicketRegistry ticketRegistry;
+
+    private final int batchSize;
+
+    public JpaTicketRegistryCleaner(final LockingStrategy lockingStrategy,
+                                    final LogoutManager logoutManager,
+                                    final JpaTicketRegistry ticketRegistry,
+                                    final int batchSize) {
+        super(lockingStrategy, logoutManager, ticketRegistry);
+        this.ticketRegistry = ticketRegistry;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val deleted = ticketRegistry.deleteExpiredTickets(batchSize);
+        LOGGER.debug("[{}] expired tickets removed based on their expiration time.", deleted);
+        try (val expiredTickets = ticketRegistry.getExpiredTicketsStream().filter(Ticket::isExpired)) {
+            val ticketsDeleted = expiredTickets
+                .mapToInt(this::cleanTicket)
+                .sum() + (int) deleted;
+            LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+            return ticketsDeleted;
+        }
+    }
+}
@@ -44,9 +44,11 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -85,7 +87,6 @@ import static org.junit.jupiter.api.Assertions.*;
     CasCoreWebConfiguration.class,
     CasWebApplicationServiceFactoryConfiguration.class
 })
-@Transactional(transactionManager = "ticketTransactionManager", isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRED)
 @ResourceLock("jpa-tickets")
 @Tag("JDBC")
 public class JpaTicketRegistryCleanerTests {
@@ -101,6 +102,13 @@ public class JpaTicketRegistryCleanerTests {
     @Qualifier("ticketRegistryCleaner")
     private TicketRegistryCleaner ticketRegistryCleaner;
 
+    @Autowired
+    @Qualifier("ticketTransactionManager")
+    private PlatformTransactionManager ticketTransactionManager;
+
+    @PersistenceContext(unitName = "ticketEntityManagerFactory")
+    private EntityManager entityManager;
+
     @BeforeEach
     public void cleanup() {
         ticketRegistry.deleteAll();
@@ -157,4 +165,41 @@ public class JpaTicketRegistryCleanerTests {
         assertEquals(2, ticketRegistryCleaner.clean());
         assertTrue(ticketRegistry.getTickets().isEmpty());
     }
+
+    @Test
+    public void verifyExpiredTicketsRemovedInBulk() {
+        val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        val tgt = tgtFactory.create(RegisteredServiceTestUtils.getAuthentication("casuser"),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        ticketRegistry.addTicket(tgt);
+
+        val stFactory = (ServiceTicketFactory) ticketFactory.get(ServiceTicket.class);
+        val st = stFactory.create(tgt, RegisteredServiceTestUtils.getService(), true, ServiceTicket.class);
+        ticketRegistry.addTicket(st);
+        ticketRegistry.updateTicket(tgt);
+
+        st.markTicketExpired();
+        ticketRegistry.updateTicket(st);
+
+        assertEquals(1, ((JpaTicketRegistry) ticketRegistry).deleteExpiredTickets(10));
+        assertEquals(0, ticketRegistry.serviceTicketCount());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(1, ticketRegistry.countSessionsFor("CASUSER"));
+        assertEquals(0, ticketRegistryCleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+    }
+
+    @Test
+    public void verifySessionCountWithoutRecordedPrincipal() {
+        val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        val tgt = tgtFactory.create(RegisteredServiceTestUtils.getAuthentication("casuser"),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        ticketRegistry.addTicket(tgt);
+        assertEquals(1, ticketRegistry.countSessionsFor("casuser"));
+
+        new TransactionTemplate(ticketTransactionManager).executeWithoutResult(status ->
+            entityManager.createQuery("UPDATE TicketGrantingTicketImpl t SET t.principalId = NULL").executeUpdate());
+        assertEquals(1, ticketRegistry.countSessionsFor("casuser"));
+        assertEquals(0, ticketRegistry.countSessionsFor("unknown"));
+    }
 }
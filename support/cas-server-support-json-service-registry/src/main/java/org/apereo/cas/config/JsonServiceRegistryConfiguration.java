@@ -67,6 +67,7 @@ public class JsonServiceRegistryConfiguration {
             registeredServiceReplicationStrategy.getObject(),
             resourceNamingStrategy.getObject(),
             serviceRegistryListeners.getObject());
+        json.setLoadParallelism(registry.getJson().getLoadParallelism());
         if (registry.getJson().isWatcherEnabled()) {
             json.enableDefaultWatcherService();
         }
@@ -0,0 +1,30 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.LdapConnectionPoolsEndpoint;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This is {@link CasLdapCoreConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Configuration("casLdapCoreConfiguration")
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+public class CasLdapCoreConfiguration {
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public LdapConnectionPoolsEndpoint ldapConnectionPoolsEndpoint() {
+        return new LdapConnectionPoolsEndpoint(casProperties);
+    }
+}
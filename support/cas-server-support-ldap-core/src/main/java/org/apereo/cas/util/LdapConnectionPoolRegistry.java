@@ -0,0 +1,237 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.LdapException;
+import org.ldaptive.PooledConnectionFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link LdapConnectionPoolRegistry}.
+ * Keeps track of LDAP connection pools so that components connecting to the same
+ * LDAP servers with the same connection settings share a single pool, rather than each
+ * opening, validating and pruning connections on its own. Pools are keyed by the normalized
+ * connection, bind, SSL and pool validation settings; pool sizing is not part of the key,
+ * and a shared pool is sized to the largest maximum pool size requested by its components,
+ * regardless of the order in which they are created. Each component receives
+ * its own handle to the shared pool, and the pool is closed when the last handle is closed.
+ * Statistics about shared pools and their consumers are exposed via {@link LdapConnectionPoolsEndpoint}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LdapConnectionPoolRegistry {
+    private static final LdapConnectionPoolRegistry INSTANCE = new LdapConnectionPoolRegistry();
+
+    private final Map<String, SharedConnectionPool> connectionPools = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the registry instance.
+     *
+     * @return the instance
+     */
+    public static LdapConnectionPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private static String normalizeLdapUrls(final String ldapUrl) {
+        return Arrays.stream(StringUtils.split(ldapUrl, ", "))
+            .map(url -> StringUtils.removeEnd(url.trim().toLowerCase(Locale.ENGLISH), "/"))
+            .collect(Collectors.joining(" "));
+    }
+
+    private static String buildPoolKey(final AbstractLdapProperties properties) {
+        val validator = properties.getValidator();
+        val values = Stream.of(normalizeLdapUrls(properties.getLdapUrl()),
+            StringUtils.trimToEmpty(properties.getBindDn()).toLowerCase(Locale.ENGLISH),
+            DigestUtils.sha256Hex(StringUtils.defaultString(properties.getBindCredential())),
+            properties.isUseStartTls(), properties.getConnectTimeout(), properties.getResponseTimeout(),
+            properties.getConnectionStrategy(), properties.getTrustCertificates(),
+            properties.getTrustStore(), properties.getTrustStoreType(),
+            DigestUtils.sha256Hex(StringUtils.defaultString(properties.getTrustStorePassword())),
+            properties.getKeystore(), properties.getKeystoreType(),
+            DigestUtils.sha256Hex(StringUtils.defaultString(properties.getKeystorePassword())),
+            properties.getHostnameVerifier(), properties.getTrustManager(),
+            properties.getSaslMechanism(), properties.getSaslRealm(), properties.getSaslAuthorizationId(),
+            properties.getSaslQualityOfProtection(), properties.getSaslSecurityStrength(), properties.getSaslMutualAuth(),
+            properties.getPoolPassivator(), properties.isValidateOnCheckout(), properties.isValidatePeriodically(),
+            properties.getValidatePeriod(), properties.getValidateTimeout(), properties.getIdleTime(),
+            properties.getPrunePeriod(), properties.getBlockWaitTime(), properties.isFailFast(),
+            validator.getType(), validator.getBaseDn(), validator.getSearchFilter(), validator.getScope(),
+            validator.getDn(), validator.getAttributeName(), validator.getAttributeValue());
+        return values.map(String::valueOf).collect(Collectors.joining("|"));
+    }
+
+    private static String resolveConsumerName() {
+        return StackWalker.getInstance()
+            .walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(name -> !name.equals(LdapConnectionPoolRegistry.class.getName())
+                    && !name.startsWith(LdapUtils.class.getName()))
+                .findFirst())
+            .map(name -> StringUtils.substringAfterLast(name, "."))
+            .map(name -> StringUtils.substringBefore(name, "$"))
+            .orElse("unknown");
+    }
+
+    /**
+     * Get a handle to a pooled connection factory that is shared
+     * with all other components using the same LDAP settings.
+     *
+     * @param properties  the properties
+     * @param poolFactory the function that creates and initializes the pool, if none exists yet
+     * @return the connection factory
+     */
+    public ConnectionFactory getConnectionFactory(final AbstractLdapProperties properties,
+                                                  final Function<AbstractLdapProperties, PooledConnectionFactory> poolFactory) {
+        val key = buildPoolKey(properties);
+        val consumer = resolveConsumerName();
+        while (true) {
+            val pool = connectionPools.computeIfAbsent(key, k -> {
+                LOGGER.debug("Creating shared LDAP connection pool for [{}] and bindDn [{}]", properties.getLdapUrl(), properties.getBindDn());
+                return new SharedConnectionPool(k, poolFactory.apply(properties));
+            });
+            if (pool.acquire(consumer, properties.getMaxPoolSize())) {
+                return new SharedConnectionFactory(pool, consumer);
+            }
+            connectionPools.remove(key, pool);
+        }
+    }
+
+    /**
+     * Collect statistics about the shared connection pools and their consumers.
+     *
+     * @return the list of statistics, one per pool
+     */
+    public List<Map<String, Object>> getStatistics() {
+        return connectionPools.values()
+            .stream()
+            .map(SharedConnectionPool::getStatistics)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Close all connection pools, regardless of outstanding references.
+     */
+    public void clear() {
+        connectionPools.values().forEach(SharedConnectionPool::close);
+        connectionPools.clear();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private class SharedConnectionPool {
+        private final String key;
+
+        private final PooledConnectionFactory connectionFactory;
+
+        private final Map<String, LongAdder> connectionsByConsumer = new ConcurrentHashMap<>();
+
+        private int references;
+
+        private boolean closed;
+
+        synchronized boolean acquire(final String consumer, final int maxPoolSize) {
+            if (closed) {
+                return false;
+            }
+            if (maxPoolSize > connectionFactory.getMaxPoolSize()) {
+                LOGGER.debug("Growing shared LDAP connection pool for [{}] from [{}] to [{}] connection(s) as requested by [{}]",
+                    connectionFactory.getConnectionConfig().getLdapUrl(), connectionFactory.getMaxPoolSize(), maxPoolSize, consumer);
+                connectionFactory.setMaxPoolSize(maxPoolSize);
+            }
+            references++;
+            connectionsByConsumer.computeIfAbsent(consumer, k -> new LongAdder());
+            return true;
+        }
+
+        synchronized void release() {
+            references--;
+            if (references <= 0 && !closed) {
+                LOGGER.debug("Closing shared LDAP connection pool for [{}]", connectionFactory.getConnectionConfig().getLdapUrl());
+                close();
+                connectionPools.remove(key, this);
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            connectionFactory.close();
+        }
+
+        void recordConnection(final String consumer) {
+            connectionsByConsumer.computeIfAbsent(consumer, k -> new LongAdder()).increment();
+        }
+
+        synchronized Map<String, Object> getStatistics() {
+            val statistics = new LinkedHashMap<String, Object>();
+            statistics.put("ldapUrl", connectionFactory.getConnectionConfig().getLdapUrl());
+            statistics.put("references", references);
+            statistics.put("maxPoolSize", connectionFactory.getMaxPoolSize());
+            statistics.put("activeCount", connectionFactory.activeCount());
+            statistics.put("availableCount", connectionFactory.availableCount());
+            statistics.put("connectionsByConsumer", connectionsByConsumer.entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum())));
+            return statistics;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class SharedConnectionFactory implements ConnectionFactory {
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private final SharedConnectionPool connectionPool;
+
+        private final String consumer;
+
+        @Override
+        public Connection getConnection() throws LdapException {
+            connectionPool.recordConnection(consumer);
+            return connectionPool.getConnectionFactory().getConnection();
+        }
+
+        @Override
+        public ConnectionConfig getConnectionConfig() {
+            return connectionPool.getConnectionFactory().getConnectionConfig();
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                connectionPool.release();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + '[' + consumer + ", " + Objects.toString(getConnectionConfig()) + ']';
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.web.BaseCasActuatorEndpoint;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link LdapConnectionPoolsEndpoint} that reports on LDAP connection pools
+ * shared via the {@link LdapConnectionPoolRegistry}, along with the number of
+ * connections requested by each component that uses the pool.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Endpoint(id = "ldapConnectionPools", enableByDefault = false)
+public class LdapConnectionPoolsEndpoint extends BaseCasActuatorEndpoint {
+
+    public LdapConnectionPoolsEndpoint(final CasConfigurationProperties casProperties) {
+        super(casProperties);
+    }
+
+    /**
+     * Collect statistics about the shared connection pools.
+     *
+     * @return the statistics, one entry per pool
+     */
+    @ReadOperation
+    public List<Map<String, Object>> getStatistics() {
+        return LdapConnectionPoolRegistry.getInstance().getStatistics();
+    }
+}
@@ -868,11 +868,30 @@ public class LdapUtils {
 
     /**
      * Returns a pooled connection factory or default connection factory based on {@link AbstractLdapProperties#isDisablePooling()}.
+     * Pooled connection factories are shared via the {@link LdapConnectionPoolRegistry}
+     * when {@link AbstractLdapProperties#isSharedPool()} is turned on.
      *
      * @param l ldap properties
      * @return the connection factory
      */
     public static ConnectionFactory newLdaptiveConnectionFactory(final AbstractLdapProperties l) {
+        if (l.isDisablePooling()) {
+            return newLdaptiveDefaultConnectionFactory(l);
+        }
+        return l.isSharedPool()
+            ? LdapConnectionPoolRegistry.getInstance().getConnectionFactory(l, LdapUtils::newLdaptivePooledConnectionFactory)
+            : newLdaptivePooledConnectionFactory(l);
+    }
+
+    /**
+     * Returns a pooled connection factory or default connection factory based on {@link AbstractLdapProperties#isDisablePooling()}
+     * that is never shared with other components. Connections handed out by factories that back bind or compare
+     * authentication handlers may be left bound as the authenticated user, and must not be reused by other components.
+     *
+     * @param l ldap properties
+     * @return the connection factory
+     */
+    private static ConnectionFactory newLdaptiveAuthenticationConnectionFactory(final AbstractLdapProperties l) {
         return l.isDisablePooling() ? newLdaptiveDefaultConnectionFactory(l) : newLdaptivePooledConnectionFactory(l);
     }
 
@@ -1010,8 +1029,8 @@ public class LdapUtils {
         val resolver = buildAggregateDnResolver(l, connectionFactoryForSearch);
 
         val auth = StringUtils.isBlank(l.getPrincipalAttributePassword())
-            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l)))
-            : new Authenticator(resolver, getCompareAuthenticationHandler(l, newLdaptiveConnectionFactory(l)));
+            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveAuthenticationConnectionFactory(l)))
+            : new Authenticator(resolver, getCompareAuthenticationHandler(l, newLdaptiveAuthenticationConnectionFactory(l)));
         
         if (l.isEnhanceWithEntryResolver()) {
             auth.setEntryResolver(newLdaptiveSearchEntryResolver(l, newLdaptiveConnectionFactory(l)));
@@ -1035,7 +1054,7 @@ public class LdapUtils {
 
     private static Authenticator getAuthenticatorViaDnFormat(final AbstractLdapAuthenticationProperties l) {
         val resolver = new FormatDnResolver(l.getDnFormat());
-        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l)));
+        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveAuthenticationConnectionFactory(l)));
 
         if (l.isEnhanceWithEntryResolver()) {
             authenticator.setEntryResolver(newLdaptiveSearchEntryResolver(l, newLdaptiveConnectionFactory(l)));
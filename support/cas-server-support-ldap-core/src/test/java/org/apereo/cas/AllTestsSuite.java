@@ -7,6 +7,7 @@ import org.apereo.cas.authentication.support.OptionalWarningLdapAccountStateHand
 import org.apereo.cas.authentication.support.RejectResultCodeLdapPasswordPolicyHandlingStrategyTests;
 import org.apereo.cas.authorization.LdapUserAttributesToRolesAuthorizationGeneratorTests;
 import org.apereo.cas.authorization.LdapUserGroupsToRolesAuthorizationGeneratorTests;
+import org.apereo.cas.util.LdapConnectionPoolRegistryTests;
 
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.platform.suite.api.SelectClasses;
@@ -25,7 +26,8 @@ import org.junit.runner.RunWith;
     DefaultLdapAccountStateHandlerTests.class,
     GroovyPasswordPolicyHandlingStrategyTests.class,
     OptionalWarningLdapAccountStateHandlerTests.class,
-    RejectResultCodeLdapPasswordPolicyHandlingStrategyTests.class
+    RejectResultCodeLdapPasswordPolicyHandlingStrategyTests.class,
+    LdapConnectionPoolRegistryTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
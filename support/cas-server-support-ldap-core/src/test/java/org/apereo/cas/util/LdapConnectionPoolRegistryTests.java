@@ -0,0 +1,147 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapAuthenticationProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link LdapConnectionPoolRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Ldap")
+public class LdapConnectionPoolRegistryTests {
+
+    private static Ldap getLdapProperties(final String bindDn) {
+        val ldap = new Ldap();
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn(bindDn);
+        ldap.setBindCredential("password");
+        ldap.setFailFast(false);
+        ldap.setMinPoolSize(0);
+        ldap.getValidator().setType("none");
+        ldap.setSharedPool(true);
+        return ldap;
+    }
+
+    @AfterEach
+    public void cleanup() {
+        LdapConnectionPoolRegistry.getInstance().clear();
+    }
+
+    @Test
+    public void verifyPoolIsShared() {
+        val factory1 = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("cn=Directory Manager"));
+        val properties = getLdapProperties("CN=Directory Manager");
+        properties.setLdapUrl("LDAP://localhost:10389/");
+        val factory2 = LdapUtils.newLdaptiveConnectionFactory(properties);
+        assertNotSame(factory1, factory2);
+        assertSame(factory1.getConnectionConfig(), factory2.getConnectionConfig());
+
+        val statistics = LdapConnectionPoolRegistry.getInstance().getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(2, statistics.get(0).get("references"));
+        assertTrue(((Map) statistics.get(0).get("connectionsByConsumer")).containsKey(getClass().getSimpleName()));
+    }
+
+    @Test
+    public void verifyPoolsAreSeparated() {
+        val factory1 = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("cn=Directory Manager"));
+        val factory2 = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("cn=admin"));
+        assertNotSame(factory1.getConnectionConfig(), factory2.getConnectionConfig());
+        assertEquals(2, LdapConnectionPoolRegistry.getInstance().getStatistics().size());
+
+        val properties = getLdapProperties("cn=Directory Manager");
+        properties.setSharedPool(false);
+        val factory3 = LdapUtils.newLdaptiveConnectionFactory(properties);
+        assertNotSame(factory1.getConnectionConfig(), factory3.getConnectionConfig());
+        assertEquals(2, LdapConnectionPoolRegistry.getInstance().getStatistics().size());
+        factory3.close();
+
+        val withTrustStore = getLdapProperties("cn=Directory Manager");
+        withTrustStore.setTrustStorePassword("changeit");
+        val factory4 = LdapUtils.newLdaptiveConnectionFactory(withTrustStore);
+        assertNotSame(factory1.getConnectionConfig(), factory4.getConnectionConfig());
+        val withKeystore = getLdapProperties("cn=Directory Manager");
+        withKeystore.setKeystorePassword("changeit");
+        val factory5 = LdapUtils.newLdaptiveConnectionFactory(withKeystore);
+        assertNotSame(factory1.getConnectionConfig(), factory5.getConnectionConfig());
+        assertNotSame(factory4.getConnectionConfig(), factory5.getConnectionConfig());
+        assertEquals(4, LdapConnectionPoolRegistry.getInstance().getStatistics().size());
+    }
+
+    @Test
+    public void verifyPoolIsNotSharedByDefault() {
+        val properties = getLdapProperties("cn=Directory Manager");
+        properties.setSharedPool(new Ldap().isSharedPool());
+        val factory = LdapUtils.newLdaptiveConnectionFactory(properties);
+        assertTrue(LdapConnectionPoolRegistry.getInstance().getStatistics().isEmpty());
+        factory.close();
+    }
+
+    @Test
+    public void verifyAuthenticationHandlerPoolsAreNotShared() {
+        val properties = getLdapProperties("cn=Directory Manager");
+        properties.setType(AbstractLdapAuthenticationProperties.AuthenticationTypes.DIRECT);
+        properties.setDnFormat("uid=%s,ou=people,dc=example,dc=org");
+        properties.setEnhanceWithEntryResolver(false);
+        LdapUtils.newLdaptiveAuthenticator(properties);
+        assertTrue(LdapConnectionPoolRegistry.getInstance().getStatistics().isEmpty());
+
+        properties.setType(AbstractLdapAuthenticationProperties.AuthenticationTypes.AUTHENTICATED);
+        properties.setBaseDn("ou=people,dc=example,dc=org");
+        properties.setSearchFilter("uid={user}");
+        LdapUtils.newLdaptiveAuthenticator(properties);
+        val statistics = LdapConnectionPoolRegistry.getInstance().getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(1, statistics.get(0).get("references"));
+    }
+
+    @Test
+    public void verifyPoolIsClosedWithLastReference() {
+        val factory1 = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("cn=Directory Manager"));
+        val factory2 = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("cn=Directory Manager"));
+        factory1.close();
+        factory1.close();
+        val statistics = LdapConnectionPoolRegistry.getInstance().getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(1, statistics.get(0).get("references"));
+        factory2.close();
+        assertTrue(LdapConnectionPoolRegistry.getInstance().getStatistics().isEmpty());
+
+        val factory3 = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("cn=Directory Manager"));
+        assertNotSame(factory1.getConnectionConfig(), factory3.getConnectionConfig());
+        assertEquals(1, LdapConnectionPoolRegistry.getInstance().getStatistics().size());
+    }
+
+    @Test
+    public void verifyPoolIsSizedToLargestRequest() {
+        val properties = getLdapProperties("cn=Directory Manager");
+        properties.setMaxPoolSize(5);
+        val factory1 = LdapUtils.newLdaptiveConnectionFactory(properties);
+        properties.setMaxPoolSize(20);
+        val factory2 = LdapUtils.newLdaptiveConnectionFactory(properties);
+        properties.setMaxPoolSize(10);
+        val factory3 = LdapUtils.newLdaptiveConnectionFactory(properties);
+        assertSame(factory1.getConnectionConfig(), factory3.getConnectionConfig());
+
+        val statistics = new LdapConnectionPoolsEndpoint(new CasConfigurationProperties()).getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(20, statistics.get(0).get("maxPoolSize"));
+        assertEquals(3, statistics.get(0).get("references"));
+        factory2.close();
+    }
+
+    private static class Ldap extends AbstractLdapAuthenticationProperties {
+        private static final long serialVersionUID = -1446241931658016340L;
+    }
+}
@@ -57,6 +57,7 @@ public class MongoDbTicketRegistryConfiguration {
         val mongoTemplate = mongoDbTicketRegistryTemplate();
         val registry = new MongoDbTicketRegistry(ticketCatalog, mongoTemplate, ticketSerializationManager.getObject());
         registry.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(mongo.getCrypto(), "mongo"));
+        registry.setCursorBatchSize(mongo.getCursorBatchSize());
         new MongoDbTicketRegistryFacilitator(ticketCatalog, mongoTemplate, mongo.isDropCollection())
             .createTicketCollections();
         return registry;
@@ -5,32 +5,28 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
-import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
 
 import com.mongodb.client.MongoCollection;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.TextCriteria;
-import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.StreamUtils;
 
-import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Locale;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,6 +40,7 @@ import java.util.stream.Stream;
 @Slf4j
 @RequiredArgsConstructor
 public class MongoDbTicketRegistry extends AbstractTicketRegistry {
+    private static final int DEFAULT_CURSOR_BATCH_SIZE = 100;
 
     private final TicketCatalog ticketCatalog;
 
@@ -51,6 +48,9 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     private final TicketSerializationManager ticketSerializationManager;
 
+    @Setter
+    private int cursorBatchSize = DEFAULT_CURSOR_BATCH_SIZE;
+
     @Override
     public void addTicket(final Ticket ticket) {
         try {
@@ -111,22 +111,15 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return this.ticketCatalog.findAll().stream()
             .map(this::getTicketCollectionInstanceByMetadata)
             .filter(StringUtils::isNotBlank)
-            .mapToLong(collectionName -> {
-                val countTickets = this.mongoTemplate.count(query, collectionName);
-                mongoTemplate.remove(query, collectionName);
-                return countTickets;
-            })
+            .mapToLong(collectionName -> mongoTemplate.remove(query, collectionName).getDeletedCount())
             .sum();
     }
 
     @Override
     public Collection<? extends Ticket> getTickets() {
-        return this.ticketCatalog.findAll().stream()
-            .map(this::getTicketCollectionInstanceByMetadata)
-            .map(map -> mongoTemplate.findAll(TicketHolder.class, map))
-            .flatMap(List::stream)
-            .map(ticket -> decodeTicket(deserializeTicketFromMongoDocument(ticket)))
-            .collect(Collectors.toSet());
+        try (val tickets = getTicketsStream()) {
+            return tickets.collect(Collectors.toSet());
+        }
     }
 
     @Override
@@ -142,7 +135,9 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             LOGGER.debug("Located ticket definition [{}] in the ticket catalog", metadata);
             val collectionName = getTicketCollectionInstanceByMetadata(metadata);
             val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(holder.getTicketId()));
-            val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson());
+            val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson())
+                .set(TicketHolder.FIELD_NAME_EXPIRE_AT, holder.getExpireAt())
+                .set(TicketHolder.FIELD_NAME_PRINCIPAL, holder.getPrincipal());
             val result = this.mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
             return result.getMatchedCount() > 0 ? ticket : null;
@@ -153,11 +148,17 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    /**
+     * Stream tickets through a server-side cursor per collection, fetching documents in batches.
+     * The stream should be closed once consumed to release the cursor.
+     *
+     * @return the stream
+     */
     @Override
     public Stream<Ticket> getTicketsStream() {
         return ticketCatalog.findAll().stream()
             .map(this::getTicketCollectionInstanceByMetadata)
-            .map(map -> mongoTemplate.stream(new Query(), TicketHolder.class, map))
+            .map(map -> mongoTemplate.stream(new Query().cursorBatchSize(cursorBatchSize), TicketHolder.class, map))
             .flatMap(StreamUtils::createStreamFromIterator)
             .map(ticket -> decodeTicket(deserializeTicketFromMongoDocument(ticket)));
     }
@@ -173,14 +174,20 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             return super.countSessionsFor(principalId);
         }
 
-        val ticketDefinitions = ticketCatalog.find(TicketGrantingTicket.class);
-        return ticketDefinitions.stream()
+        val collections = ticketCatalog.find(TicketGrantingTicket.class)
+            .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
+            .collect(Collectors.toList());
+        val unindexed = collections.stream().anyMatch(map -> mongoTemplate.exists(
+            new Query(Criteria.where(TicketHolder.FIELD_NAME_PRINCIPAL).exists(false)), map));
+        if (unindexed) {
+            LOGGER.debug("Ticket-granting tickets without a recorded principal are found; counting sessions by scanning tickets");
+            return super.countSessionsFor(principalId);
+        }
+        return collections.stream()
             .mapToLong(map -> {
-                val criteria = TextCriteria.forDefaultLanguage().matchingAny(principalId);
-                val query = TextQuery.queryText(criteria)
-                    .sortByScore()
-                    .with(PageRequest.of(0, 10));
+                val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_PRINCIPAL)
+                    .is(StringUtils.lowerCase(principalId, Locale.ENGLISH)));
                 return mongoTemplate.count(query, map);
             })
             .sum();
@@ -207,7 +214,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         val ticketDefinitions = ticketCatalog.find(ticketType);
         return ticketDefinitions.stream()
             .map(this::getTicketCollectionInstanceByMetadata)
-            .mapToLong(map -> mongoTemplate.count(new Query(), map))
+            .mapToLong(mongoTemplate::estimatedCount)
             .sum();
     }
 
@@ -217,7 +224,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         if (StringUtils.isNotBlank(json)) {
             LOGGER.trace("Serialized ticket into a JSON document as \n [{}]", JsonValue.readJSON(json).toString(Stringify.FORMATTED));
             val expireAt = getExpireAt(ticket);
-            return new TicketHolder(json, encTicket.getId(), encTicket.getClass().getName(), expireAt);
+            val principal = isCipherExecutorEnabled() ? null : getPrincipal(ticket);
+            return new TicketHolder(json, encTicket.getId(), encTicket.getClass().getName(), expireAt, principal);
         }
         throw new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON");
     }
@@ -252,20 +260,22 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     /**
-     * Calculate the time at which the ticket is eligible for automated deletion by MongoDb.
-     * Makes the assumption that the CAS server date and the Mongo server date are in sync.
+     * Calculate the time at which the ticket is eligible for automated deletion by MongoDb,
+     * which is the time after which the ticket is certain to have expired. Makes the assumption
+     * that the CAS server date and the Mongo server date are in sync.
      */
     private static Date getExpireAt(final Ticket ticket) {
-        val expirationPolicy = ticket.getExpirationPolicy();
-        val ttl = ticket instanceof TicketState
-            ? expirationPolicy.getTimeToLive((TicketState) ticket)
-            : expirationPolicy.getTimeToLive();
+        val expirationTime = CoreTicketUtils.getExpirationTime(ticket);
+        return expirationTime == null ? null : DateTimeUtils.dateOf(expirationTime);
+    }
 
-        if (ttl < 1) {
-            return null;
+    private static String getPrincipal(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                return StringUtils.lowerCase(authentication.getPrincipal().getId(), Locale.ENGLISH);
+            }
         }
-        val exp = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttl);
-        return DateTimeUtils.dateOf(Instant.ofEpochMilli(exp));
+        return null;
     }
 }
-
@@ -38,6 +38,11 @@ public class TicketHolder implements Serializable {
      */
     public static final String FIELD_NAME_EXPIRE_AT = "expireAt";
 
+    /**
+     * Field name to hold the principal of ticket-granting tickets.
+     */
+    public static final String FIELD_NAME_PRINCIPAL = "principal";
+
     /**
      * Field name to hold ticket id.
      */
@@ -55,4 +60,6 @@ public class TicketHolder implements Serializable {
     private final String type;
 
     private final Date expireAt;
+
+    private final String principal;
 }
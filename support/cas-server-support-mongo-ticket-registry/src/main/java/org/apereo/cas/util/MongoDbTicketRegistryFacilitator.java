@@ -9,10 +9,10 @@ import com.mongodb.client.MongoCollection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.bson.Document;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
-import org.springframework.data.mongodb.core.index.TextIndexDefinition;
 
 import java.time.Duration;
 import java.util.List;
@@ -44,7 +44,7 @@ public class MongoDbTicketRegistryFacilitator {
         LOGGER.info("Configured MongoDb Ticket Registry instance with available collections: [{}]", mongoTemplate.getCollectionNames());
     }
 
-    private MongoCollection createTicketCollection(final TicketDefinition ticket) {
+    private MongoCollection<Document> createTicketCollection(final TicketDefinition ticket) {
         val collectionName = ticket.getProperties().getStorageName();
         LOGGER.trace("Setting up MongoDb Ticket Registry instance [{}]", collectionName);
         MongoDbConnectionFactory.createCollection(mongoTemplate, collectionName, this.dropCollection);
@@ -53,12 +53,28 @@ public class MongoDbTicketRegistryFacilitator {
         val collection = mongoTemplate.getCollection(collectionName);
         val expireIndex = new Index().on(TicketHolder.FIELD_NAME_EXPIRE_AT, Sort.Direction.ASC)
             .expire(Duration.ofSeconds(ticket.getProperties().getStorageTimeout()));
-        val columnsIndex = new TextIndexDefinition.TextIndexDefinitionBuilder()
-            .onField(TicketHolder.FIELD_NAME_JSON)
-            .onField(TicketHolder.FIELD_NAME_TYPE)
-            .onField(TicketHolder.FIELD_NAME_ID)
-            .build();
-        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(expireIndex, columnsIndex));
+        val idIndex = new Index().on(TicketHolder.FIELD_NAME_ID, Sort.Direction.ASC);
+        val principalIndex = new Index().on(TicketHolder.FIELD_NAME_PRINCIPAL, Sort.Direction.ASC).sparse();
+        dropTextIndexes(collection);
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(expireIndex, idIndex, principalIndex));
         return collection;
     }
+
+    /**
+     * Text indexes over the ticket document were used to count sessions by principal,
+     * which now relies on the principal index. Since text indexes are costly to maintain
+     * on every write, they are removed if found.
+     *
+     * @param collection the collection
+     */
+    private static void dropTextIndexes(final MongoCollection<Document> collection) {
+        for (val index : collection.listIndexes()) {
+            val keys = index.get("key", Document.class);
+            if (keys != null && keys.containsValue("text")) {
+                val name = index.getString("name");
+                LOGGER.debug("Removing text index [{}] from [{}]", name, collection.getNamespace());
+                collection.dropIndex(name);
+            }
+        }
+    }
 }
@@ -29,6 +29,7 @@ import org.apereo.cas.ticket.DefaultTicketDefinition;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.junit.EnabledIfPortOpen;
@@ -44,6 +45,9 @@ import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.test.annotation.DirtiesContext;
 
@@ -145,4 +149,37 @@ public class MongoDbTicketRegistryTests extends BaseTicketRegistryTests {
         when(catalog.find(anyString())).thenThrow(new RuntimeException());
         assertNull(registry.getTicket(ticket.getId()));
     }
+
+    @RepeatedTest(1)
+    @Tag("DisableTicketRegistryTestWithEncryption")
+    public void verifyTicketsIndexedByPrincipalAndExpiration() {
+        val authn = CoreAuthenticationTestUtils.getAuthentication("CasUser");
+        val ticket = new TicketGrantingTicketImpl("TGT-1", authn, new HardTimeoutExpirationPolicy(60));
+        newTicketRegistry.addTicket(ticket);
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-2", authn, NeverExpiresExpirationPolicy.INSTANCE));
+        assertEquals(2, newTicketRegistry.countSessionsFor("casuser"));
+        assertEquals(0, newTicketRegistry.countSessionsFor("unknown"));
+        assertEquals(2, newTicketRegistry.sessionCount());
+
+        val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(ticket.getId()));
+        val holder = mongoDbTicketRegistryTemplate.findOne(query, TicketHolder.class, "ticketGrantingTicketsCollection");
+        assertNotNull(holder);
+        assertEquals("casuser", holder.getPrincipal());
+        assertNotNull(holder.getExpireAt());
+    }
+
+    @RepeatedTest(1)
+    @Tag("DisableTicketRegistryTestWithEncryption")
+    public void verifySessionsWithoutRecordedPrincipalAreCounted() {
+        val authn = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val ticket = new TicketGrantingTicketImpl("TGT-1", authn, NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(ticket);
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-2", authn, NeverExpiresExpirationPolicy.INSTANCE));
+
+        val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(ticket.getId()));
+        mongoDbTicketRegistryTemplate.updateFirst(query, new Update().unset(TicketHolder.FIELD_NAME_PRINCIPAL),
+            "ticketGrantingTicketsCollection");
+        assertEquals(2, newTicketRegistry.countSessionsFor("casuser"));
+        assertEquals(0, newTicketRegistry.countSessionsFor("unknown"));
+    }
 }
@@ -11,9 +11,9 @@ import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.ticket.code.OAuth20Code;
 import org.apereo.cas.ticket.registry.TicketRegistry;
-import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -28,8 +28,6 @@ import org.pac4j.core.credentials.authenticator.Authenticator;
 import org.pac4j.core.exception.CredentialsException;
 import org.pac4j.core.profile.CommonProfile;
 
-import java.io.Serializable;
-
 /**
  * Authenticator for client credentials authentication.
  *
@@ -47,7 +45,7 @@ public class OAuth20ClientIdClientSecretAuthenticator implements Authenticator {
     private final AuditableExecution registeredServiceAccessStrategyEnforcer;
 
     @Getter
-    private final CipherExecutor<Serializable, String> registeredServiceCipherExecutor;
+    private final OAuth20ClientSecretValidator clientSecretValidator;
 
     @Getter
     private final TicketRegistry ticketRegistry;
@@ -100,7 +98,7 @@ public class OAuth20ClientIdClientSecretAuthenticator implements Authenticator {
                                        final OAuthRegisteredService registeredService,
                                        final WebContext context,
                                        final SessionStore sessionStore) {
-        if (!OAuth20Utils.checkClientSecret(registeredService, credentials.getPassword(), registeredServiceCipherExecutor)) {
+        if (!clientSecretValidator.validate(registeredService, credentials.getPassword())) {
             throw new CredentialsException("Client Credentials provided is not valid for registered service: " + registeredService.getName());
         }
     }
@@ -7,11 +7,11 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.ticket.code.OAuth20Code;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.EncodingUtils;
-import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -21,8 +21,6 @@ import org.pac4j.core.context.session.SessionStore;
 import org.pac4j.core.credentials.UsernamePasswordCredentials;
 import org.pac4j.core.exception.CredentialsException;
 
-import java.io.Serializable;
-
 /**
  * This is {@link OAuth20ProofKeyCodeExchangeAuthenticator}.
  *
@@ -36,10 +34,10 @@ public class OAuth20ProofKeyCodeExchangeAuthenticator extends OAuth20ClientIdCli
                                                     final ServiceFactory webApplicationServiceFactory,
                                                     final AuditableExecution registeredServiceAccessStrategyEnforcer,
                                                     final TicketRegistry ticketRegistry,
-                                                    final CipherExecutor<Serializable, String> registeredServiceCipherExecutor,
+                                                    final OAuth20ClientSecretValidator clientSecretValidator,
                                                     final PrincipalResolver principalResolver) {
         super(servicesManager, webApplicationServiceFactory, registeredServiceAccessStrategyEnforcer,
-            registeredServiceCipherExecutor, ticketRegistry, principalResolver);
+            clientSecretValidator, ticketRegistry, principalResolver);
     }
 
     @Override
@@ -54,7 +52,7 @@ public class OAuth20ProofKeyCodeExchangeAuthenticator extends OAuth20ClientIdCli
                                        final SessionStore sessionStore) {
         val clientSecret = OAuth20Utils.getClientIdAndClientSecret(context, sessionStore).getRight();
 
-        if (!OAuth20Utils.checkClientSecret(registeredService, clientSecret, getRegisteredServiceCipherExecutor())) {
+        if (!getClientSecretValidator().validate(registeredService, clientSecret)) {
             throw new CredentialsException("Client Credentials provided is not valid for service: " + registeredService.getName());
         }
 
@@ -8,9 +8,9 @@ import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
-import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -20,8 +20,6 @@ import org.pac4j.core.context.session.SessionStore;
 import org.pac4j.core.credentials.UsernamePasswordCredentials;
 import org.pac4j.core.exception.CredentialsException;
 
-import java.io.Serializable;
-
 /**
  * This is {@link OAuth20RefreshTokenAuthenticator}.
  *
@@ -38,10 +36,10 @@ public class OAuth20RefreshTokenAuthenticator extends OAuth20ClientIdClientSecre
                                             final ServiceFactory webApplicationServiceFactory,
                                             final AuditableExecution registeredServiceAccessStrategyEnforcer,
                                             final TicketRegistry ticketRegistry,
-                                            final CipherExecutor<Serializable, String> registeredServiceCipherExecutor,
+                                            final OAuth20ClientSecretValidator clientSecretValidator,
                                             final PrincipalResolver principalResolver) {
         super(servicesManager, webApplicationServiceFactory, registeredServiceAccessStrategyEnforcer,
-            registeredServiceCipherExecutor, ticketRegistry, principalResolver);
+            clientSecretValidator, ticketRegistry, principalResolver);
     }
 
     /**
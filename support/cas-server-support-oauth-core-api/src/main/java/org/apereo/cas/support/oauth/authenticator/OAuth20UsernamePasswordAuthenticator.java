@@ -7,7 +7,7 @@ import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
-import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +21,6 @@ import org.pac4j.core.credentials.authenticator.Authenticator;
 import org.pac4j.core.exception.CredentialsException;
 import org.pac4j.core.profile.CommonProfile;
 
-import java.io.Serializable;
 import java.util.Map;
 
 /**
@@ -39,7 +38,7 @@ public class OAuth20UsernamePasswordAuthenticator implements Authenticator {
 
     private final ServiceFactory webApplicationServiceFactory;
 
-    private final CipherExecutor<Serializable, String> registeredServiceCipherExecutor;
+    private final OAuth20ClientSecretValidator clientSecretValidator;
 
     private final SessionStore sessionStore;
 
@@ -58,7 +57,7 @@ public class OAuth20UsernamePasswordAuthenticator implements Authenticator {
             RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(registeredService);
 
             val clientSecret = clientIdAndSecret.getRight();
-            if (!OAuth20Utils.checkClientSecret(registeredService, clientSecret, registeredServiceCipherExecutor)) {
+            if (!clientSecretValidator.validate(registeredService, clientSecret)) {
                 throw new CredentialsException("Client Credentials provided is not valid for registered service: " + registeredService.getName());
             }
 
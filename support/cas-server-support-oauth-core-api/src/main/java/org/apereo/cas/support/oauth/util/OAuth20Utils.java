@@ -11,6 +11,7 @@ import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.ticket.OAuth20Token;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import org.apereo.cas.web.flow.CasWebflowConstants;
@@ -31,12 +32,17 @@ import org.pac4j.core.credentials.UsernamePasswordCredentials;
 import org.pac4j.core.credentials.extractor.BasicAuthExtractor;
 import org.pac4j.core.profile.UserProfile;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.Serializable;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -46,6 +52,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -62,6 +69,16 @@ public class OAuth20Utils {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .singleArrayElementUnwrapped(true).build().toObjectMapper();
 
+    private static final String CLIENT_SECRET_ENCODER_BCRYPT = "bcrypt";
+
+    private static final String CLIENT_SECRET_ENCODER_PBKDF2 = "pbkdf2";
+
+    private static final Pattern PATTERN_HASHED_CLIENT_SECRET =
+        Pattern.compile("^\\{(" + CLIENT_SECRET_ENCODER_BCRYPT + '|' + CLIENT_SECRET_ENCODER_PBKDF2 + ")}.+");
+
+    private static final PasswordEncoder CLIENT_SECRET_ENCODER = new DelegatingPasswordEncoder(CLIENT_SECRET_ENCODER_BCRYPT,
+        Map.of(CLIENT_SECRET_ENCODER_BCRYPT, new BCryptPasswordEncoder(), CLIENT_SECRET_ENCODER_PBKDF2, new Pbkdf2PasswordEncoder()));
+
     /**
      * Write to the output this error.
      *
@@ -418,13 +435,43 @@ public class OAuth20Utils {
             return true;
         }
         definedSecret = cipherExecutor.decode(definedSecret, new Object[]{registeredService});
-        if (!StringUtils.equals(definedSecret, clientSecret)) {
+        if (!matchesClientSecret(definedSecret, clientSecret)) {
             LOGGER.error("Wrong client secret for service: [{}]", registeredService.getServiceId());
             return false;
         }
         return true;
     }
 
+    /**
+     * Is the defined client secret stored as a hash,
+     * prefixed with <code>{bcrypt}</code> or <code>{pbkdf2}</code>?
+     *
+     * @param definedSecret the decoded client secret defined for the service
+     * @return true/false
+     */
+    public static boolean isHashedClientSecret(final String definedSecret) {
+        return definedSecret != null && PATTERN_HASHED_CLIENT_SECRET.matcher(definedSecret).matches();
+    }
+
+    /**
+     * Match the client secret against the decoded secret defined for the service.
+     * Hashed secrets are verified by their password encoder, and
+     * all other secrets are compared in constant time.
+     *
+     * @param definedSecret the decoded client secret defined for the service
+     * @param clientSecret  the client secret
+     * @return true/false
+     */
+    public static boolean matchesClientSecret(final String definedSecret, final String clientSecret) {
+        if (definedSecret == null || clientSecret == null) {
+            return definedSecret == null && clientSecret == null;
+        }
+        if (isHashedClientSecret(definedSecret)) {
+            return CLIENT_SECRET_ENCODER.matches(clientSecret, definedSecret);
+        }
+        return MessageDigest.isEqual(DigestUtils.rawDigestSha256(definedSecret), DigestUtils.rawDigestSha256(clientSecret));
+    }
+
     /**
      * Check the response type against expected response types.
      *
@@ -0,0 +1,105 @@
+package org.apereo.cas.support.oauth.validator;
+
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+/**
+ * This is {@link DefaultOAuth20ClientSecretValidator}.
+ * Client secrets are decoded once, and only a digest of the decoded secret is remembered
+ * so that subsequent requests are verified by comparing digests in constant time.
+ * Secrets that are stored as hashes are verified by their password encoder, and
+ * a digest of the presented secret is remembered once verification succeeds.
+ * Remembered digests are keyed by the client id and the secret as it is defined
+ * for the registered service, so a changed or reloaded service definition is never matched
+ * against a stale digest.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class DefaultOAuth20ClientSecretValidator implements OAuth20ClientSecretValidator {
+    private static final long MAX_NUMBER_OF_SECRETS = 10_000L;
+
+    private static final Duration DEFAULT_CACHE_EXPIRATION = Duration.ofHours(1);
+
+    @Getter
+    private final CipherExecutor<Serializable, String> registeredServiceCipherExecutor;
+
+    private final Cache<String, VerifiedClientSecret> verifiedClientSecrets;
+
+    public DefaultOAuth20ClientSecretValidator(final CipherExecutor<Serializable, String> registeredServiceCipherExecutor) {
+        this(registeredServiceCipherExecutor, MAX_NUMBER_OF_SECRETS, DEFAULT_CACHE_EXPIRATION);
+    }
+
+    public DefaultOAuth20ClientSecretValidator(final CipherExecutor<Serializable, String> registeredServiceCipherExecutor,
+                                               final long cacheSize,
+                                               final Duration cacheExpiration) {
+        this.registeredServiceCipherExecutor = registeredServiceCipherExecutor;
+        this.verifiedClientSecrets = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterAccess(cacheExpiration)
+            .build();
+    }
+
+    @Override
+    public boolean validate(final OAuthRegisteredService registeredService, final String clientSecret) {
+        LOGGER.debug("Found: [{}] in secret check", registeredService);
+        val definedSecret = registeredService.getClientSecret();
+        if (StringUtils.isBlank(definedSecret)) {
+            LOGGER.debug("The client secret is not defined for the registered service [{}]", registeredService.getName());
+            return true;
+        }
+        val key = registeredService.getClientId() + '|' + definedSecret;
+        val clientSecretDigest = DigestUtils.rawDigestSha256(StringUtils.defaultString(clientSecret));
+        val verified = verifiedClientSecrets.getIfPresent(key);
+        if (verified != null && MessageDigest.isEqual(verified.getDigest(), clientSecretDigest)) {
+            return true;
+        }
+        if (verified == null || verified.isHashed()) {
+            val decodedSecret = registeredServiceCipherExecutor.decode(definedSecret, new Object[]{registeredService});
+            if (OAuth20Utils.isHashedClientSecret(decodedSecret)) {
+                if (OAuth20Utils.matchesClientSecret(decodedSecret, clientSecret)) {
+                    verifiedClientSecrets.put(key, new VerifiedClientSecret(clientSecretDigest, true));
+                    return true;
+                }
+            } else if (decodedSecret != null) {
+                val decodedSecretDigest = DigestUtils.rawDigestSha256(decodedSecret);
+                verifiedClientSecrets.put(key, new VerifiedClientSecret(decodedSecretDigest, false));
+                if (MessageDigest.isEqual(decodedSecretDigest, clientSecretDigest)) {
+                    return true;
+                }
+            }
+        }
+        LOGGER.error("Wrong client secret for service: [{}]", registeredService.getServiceId());
+        return false;
+    }
+
+    /**
+     * Forget all verified client secrets.
+     */
+    public void invalidate() {
+        verifiedClientSecrets.invalidateAll();
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class VerifiedClientSecret {
+        private final byte[] digest;
+
+        private final boolean hashed;
+    }
+}
@@ -0,0 +1,23 @@
+package org.apereo.cas.support.oauth.validator;
+
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+
+/**
+ * This is {@link OAuth20ClientSecretValidator} that verifies the client secret
+ * presented by a relying party against the secret defined for its registered service.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@FunctionalInterface
+public interface OAuth20ClientSecretValidator {
+
+    /**
+     * Validate the client secret.
+     *
+     * @param registeredService the registered service
+     * @param clientSecret      the client secret
+     * @return whether the secret is valid
+     */
+    boolean validate(OAuthRegisteredService registeredService, String clientSecret);
+}
@@ -11,6 +11,7 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.authenticator.OAuth20CasAuthenticationBuilder;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
+import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.support.oauth.validator.authorization.OAuth20AuthorizationRequestValidator;
 import org.apereo.cas.support.oauth.validator.token.OAuth20TokenRequestValidator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.OAuth20TokenGenerator;
@@ -125,6 +126,8 @@ public class OAuth20ConfigurationContext {
 
     private final CipherExecutor<Serializable, String> registeredServiceCipherExecutor;
 
+    private final OAuth20ClientSecretValidator clientSecretValidator;
+
     private OAuth20TokenSigningAndEncryptionService idTokenSigningAndEncryptionService;
 
     private final CasCookieBuilder oauthDistributedSessionCookieGenerator;
@@ -168,8 +168,7 @@ public class OAuth20IntrospectionEndpointController extends BaseOAuth20Controlle
             return Optional.of(buildBadRequestResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN));
         }
 
-        if (OAuth20Utils.checkClientSecret(registeredService, credentials.getPassword(),
-            getOAuthConfigurationContext().getRegisteredServiceCipherExecutor())) {
+        if (getOAuthConfigurationContext().getClientSecretValidator().validate(registeredService, credentials.getPassword())) {
             val service = getOAuthConfigurationContext().getWebApplicationServiceServiceFactory().createService(registeredService.getServiceId());
             val audit = AuditableContext.builder()
                 .service(service)
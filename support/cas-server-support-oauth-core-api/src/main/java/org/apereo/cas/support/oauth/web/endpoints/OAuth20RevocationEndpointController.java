@@ -21,6 +21,7 @@ import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.LinkedHashSet;
 
 /**
  * This is {@link OAuth20RevocationEndpointController}.
@@ -121,8 +122,11 @@ public class OAuth20RevocationEndpointController extends BaseOAuth20Controller {
      * @param token the token
      */
     private void revokeToken(final OAuth20RefreshToken token) {
-        revokeToken(token.getId());
-        token.getAccessTokens().forEach(this::revokeToken);
+        val tokens = new LinkedHashSet<String>();
+        tokens.add(token.getId());
+        tokens.addAll(token.getAccessTokens());
+        LOGGER.debug("Revoking tokens [{}]", tokens);
+        getOAuthConfigurationContext().getTicketRegistry().deleteTickets(tokens);
     }
 
     /**
@@ -31,6 +31,8 @@ import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilte
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
 import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceCipherExecutor;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.validator.DefaultOAuth20ClientSecretValidator;
+import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.support.oauth.validator.authorization.OAuth20AuthorizationCodeResponseTypeAuthorizationRequestValidator;
 import org.apereo.cas.support.oauth.validator.authorization.OAuth20AuthorizationRequestValidator;
 import org.apereo.cas.support.oauth.validator.authorization.OAuth20IdTokenAndTokenResponseTypeAuthorizationRequestValidator;
@@ -368,7 +370,7 @@ public class CasOAuth20Configuration {
         return new OAuth20ClientIdClientSecretAuthenticator(servicesManager.getObject(),
             webApplicationServiceFactory.getObject(),
             registeredServiceAccessStrategyEnforcer.getObject(),
-            oauthRegisteredServiceCipherExecutor(),
+            oauth20ClientSecretValidator(),
             ticketRegistry.getObject(),
             defaultPrincipalResolver.getObject());
     }
@@ -381,7 +383,7 @@ public class CasOAuth20Configuration {
             webApplicationServiceFactory.getObject(),
             registeredServiceAccessStrategyEnforcer.getObject(),
             ticketRegistry.getObject(),
-            oauthRegisteredServiceCipherExecutor(),
+            oauth20ClientSecretValidator(),
             defaultPrincipalResolver.getObject());
     }
 
@@ -393,7 +395,7 @@ public class CasOAuth20Configuration {
             webApplicationServiceFactory.getObject(),
             registeredServiceAccessStrategyEnforcer.getObject(),
             ticketRegistry.getObject(),
-            oauthRegisteredServiceCipherExecutor(),
+            oauth20ClientSecretValidator(),
             defaultPrincipalResolver.getObject());
     }
 
@@ -405,7 +407,7 @@ public class CasOAuth20Configuration {
             authenticationSystemSupport.getObject(),
             servicesManager.getObject(),
             webApplicationServiceFactory.getObject(),
-            oauthRegisteredServiceCipherExecutor(),
+            oauth20ClientSecretValidator(),
             oauthDistributedSessionStore());
     }
 
@@ -891,12 +893,20 @@ public class CasOAuth20Configuration {
         return CipherExecutor.noOp();
     }
 
+    @RefreshScope
+    @Bean
+    @ConditionalOnMissingBean(name = "oauth20ClientSecretValidator")
+    public OAuth20ClientSecretValidator oauth20ClientSecretValidator() {
+        return new DefaultOAuth20ClientSecretValidator(oauthRegisteredServiceCipherExecutor());
+    }
+
     @Bean
     @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
     public OAuth20ConfigurationContext oauth20ConfigurationContext() {
         return OAuth20ConfigurationContext.builder()
             .applicationContext(applicationContext)
             .registeredServiceCipherExecutor(oauthRegisteredServiceCipherExecutor())
+            .clientSecretValidator(oauth20ClientSecretValidator())
             .sessionStore(oauthDistributedSessionStore())
             .servicesManager(servicesManager.getObject())
             .ticketRegistry(ticketRegistry.getObject())
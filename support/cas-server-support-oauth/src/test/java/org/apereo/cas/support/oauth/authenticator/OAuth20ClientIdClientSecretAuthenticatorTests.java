@@ -4,6 +4,7 @@ import org.apereo.cas.services.RegisteredServiceAccessStrategyAuditableEnforcer;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceCipherExecutor;
+import org.apereo.cas.support.oauth.validator.DefaultOAuth20ClientSecretValidator;
 
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +36,7 @@ public class OAuth20ClientIdClientSecretAuthenticatorTests extends BaseOAuth20Au
         authenticator = new OAuth20ClientIdClientSecretAuthenticator(servicesManager,
             serviceFactory,
             new RegisteredServiceAccessStrategyAuditableEnforcer(),
-            new OAuth20RegisteredServiceCipherExecutor(),
+            new DefaultOAuth20ClientSecretValidator(new OAuth20RegisteredServiceCipherExecutor()),
             ticketRegistry,
             defaultPrincipalResolver);
     }
@@ -4,6 +4,7 @@ import org.apereo.cas.services.RegisteredServiceAccessStrategyAuditableEnforcer;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceCipherExecutor;
+import org.apereo.cas.support.oauth.validator.DefaultOAuth20ClientSecretValidator;
 
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,7 +34,7 @@ public class OAuth20RefreshTokenAuthenticatorTests extends BaseOAuth20Authentica
     public void init() {
         authenticator = new OAuth20RefreshTokenAuthenticator(servicesManager, serviceFactory,
             new RegisteredServiceAccessStrategyAuditableEnforcer(), ticketRegistry,
-            new OAuth20RegisteredServiceCipherExecutor(),
+            new DefaultOAuth20ClientSecretValidator(new OAuth20RegisteredServiceCipherExecutor()),
             defaultPrincipalResolver);
     }
 
@@ -3,6 +3,7 @@ package org.apereo.cas.support.oauth.authenticator;
 import org.apereo.cas.services.DefaultRegisteredServiceAccessStrategy;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceCipherExecutor;
+import org.apereo.cas.support.oauth.validator.DefaultOAuth20ClientSecretValidator;
 import org.apereo.cas.util.HttpUtils;
 
 import lombok.val;
@@ -34,7 +35,7 @@ public class OAuth20UsernamePasswordAuthenticatorTests extends BaseOAuth20Authen
         authenticator = new OAuth20UsernamePasswordAuthenticator(
             authenticationSystemSupport,
             servicesManager, serviceFactory,
-            new OAuth20RegisteredServiceCipherExecutor(),
+            new DefaultOAuth20ClientSecretValidator(new OAuth20RegisteredServiceCipherExecutor()),
             JEESessionStore.INSTANCE);
     }
 
@@ -0,0 +1,89 @@
+package org.apereo.cas.support.oauth.validator;
+
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceCipherExecutor;
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.util.RandomUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.io.Serializable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultOAuth20ClientSecretValidatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("OAuth")
+public class DefaultOAuth20ClientSecretValidatorTests {
+
+    private static OAuthRegisteredService getRegisteredService(final String secret) {
+        val registeredService = new OAuthRegisteredService();
+        registeredService.setClientId("clientid");
+        registeredService.setServiceId("https://example.org/.*");
+        registeredService.setClientSecret(secret);
+        return registeredService;
+    }
+
+    @Test
+    public void verifyEncodedSecretIsDecodedOnce() {
+        val cipher = spy(new OAuth20RegisteredServiceCipherExecutor());
+        val secret = RandomUtils.randomAlphanumeric(12);
+        val registeredService = getRegisteredService(cipher.encode(secret));
+        val validator = new DefaultOAuth20ClientSecretValidator(cipher);
+
+        for (var i = 0; i < 10; i++) {
+            assertTrue(validator.validate(registeredService, secret));
+            assertFalse(validator.validate(registeredService, secret + 'X'));
+            assertFalse(validator.validate(registeredService, null));
+        }
+        verify(cipher, times(1)).decode(any(Serializable.class), any());
+
+        val newSecret = RandomUtils.randomAlphanumeric(12);
+        registeredService.setClientSecret(cipher.encode(newSecret));
+        assertFalse(validator.validate(registeredService, secret));
+        assertTrue(validator.validate(registeredService, newSecret));
+        verify(cipher, times(2)).decode(any(Serializable.class), any());
+
+        validator.invalidate();
+        assertTrue(validator.validate(registeredService, newSecret));
+        verify(cipher, times(3)).decode(any(Serializable.class), any());
+    }
+
+    @Test
+    public void verifyUndefinedSecret() {
+        val validator = new DefaultOAuth20ClientSecretValidator(new OAuth20RegisteredServiceCipherExecutor());
+        assertTrue(validator.validate(getRegisteredService(null), "secret"));
+    }
+
+    @Test
+    public void verifyBCryptHashedSecret() {
+        val secret = RandomUtils.randomAlphanumeric(12);
+        val registeredService = getRegisteredService("{bcrypt}" + new BCryptPasswordEncoder().encode(secret));
+        val validator = new DefaultOAuth20ClientSecretValidator(new OAuth20RegisteredServiceCipherExecutor());
+        assertFalse(validator.validate(registeredService, "bad-secret"));
+        assertTrue(validator.validate(registeredService, secret));
+        assertTrue(validator.validate(registeredService, secret));
+        assertFalse(validator.validate(registeredService, "bad-secret"));
+    }
+
+    @Test
+    public void verifyPbkdf2HashedSecret() {
+        val secret = RandomUtils.randomAlphanumeric(12);
+        val cipher = spy(new OAuth20RegisteredServiceCipherExecutor());
+        val registeredService = getRegisteredService("{pbkdf2}" + new Pbkdf2PasswordEncoder().encode(secret));
+        val validator = new DefaultOAuth20ClientSecretValidator(cipher);
+        assertTrue(validator.validate(registeredService, secret));
+        assertTrue(validator.validate(registeredService, secret));
+        assertFalse(validator.validate(registeredService, "bad-secret"));
+        verify(cipher, times(2)).decode(any(Serializable.class), any());
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.cas.oidc.jwks;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
@@ -12,11 +13,16 @@ import org.jose4j.jwk.PublicJsonWebKey;
 import org.springframework.core.io.Resource;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This is {@link OidcDefaultJsonWebKeystoreCacheLoader}.
  * Only attempts to cache the default CAS keystore.
+ * The keystore is parsed again only when the keystore file has changed, and the signing key
+ * is the first key in the keystore meant for signatures that has a private key.
+ * When the keystore cannot be loaded on refresh, the signing key loaded previously remains in use.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -27,6 +33,8 @@ import java.util.Optional;
 public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String, Optional<PublicJsonWebKey>> {
     private final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService;
 
+    private final AtomicReference<LoadedJsonWebKeySet> lastLoadedJsonWebKeySet = new AtomicReference<>();
+
     /**
      * Gets json signing web key from jwks.
      *
@@ -39,18 +47,18 @@ public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String
             return null;
         }
 
-        val key = PublicJsonWebKey.class.cast(jwks.getJsonWebKeys().get(0));
+        val signingKey = OidcJsonWebKeyStoreUtils.getSigningJsonWebKey(jwks);
+        if (signingKey.isEmpty()) {
+            LOGGER.warn("No JSON web key in the keystore can be used to sign with a private key");
+            return null;
+        }
+        val key = signingKey.get();
         if (StringUtils.isBlank(key.getAlgorithm())) {
             LOGGER.debug("Located JSON web key [{}] has no algorithm defined", key);
         }
         if (StringUtils.isBlank(key.getKeyId())) {
             LOGGER.debug("Located JSON web key [{}] has no key id defined", key);
         }
-
-        if (key.getPrivateKey() == null) {
-            LOGGER.warn("Located JSON web key [{}] has no private key", key);
-            return null;
-        }
         return key;
     }
 
@@ -62,9 +70,17 @@ public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String
      * @throws Exception the exception
      */
     protected JsonWebKeySet buildJsonWebKeySet(final Resource resource) throws Exception {
+        val version = getResourceVersion(resource);
+        val lastLoaded = lastLoadedJsonWebKeySet.get();
+        if (version != null && lastLoaded != null && version.equals(lastLoaded.getVersion())) {
+            LOGGER.trace("JSON web keystore at [{}] has not changed since it was last loaded", resource);
+            return lastLoaded.getJsonWebKeySet();
+        }
         val json = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
         LOGGER.debug("Retrieved JSON web key from [{}] as [{}]", resource, json);
-        return buildJsonWebKeySet(json);
+        val jsonWebKeySet = buildJsonWebKeySet(json);
+        lastLoadedJsonWebKeySet.set(version != null && jsonWebKeySet != null ? new LoadedJsonWebKeySet(version, jsonWebKeySet) : null);
+        return jsonWebKeySet;
     }
 
     /**
@@ -136,6 +152,16 @@ public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String
         return jwksFile;
     }
 
+    @Override
+    public Optional<PublicJsonWebKey> reload(final String issuer, final Optional<PublicJsonWebKey> oldValue) {
+        val key = load(issuer);
+        if (key.isEmpty() && Objects.requireNonNull(oldValue).isPresent()) {
+            LOGGER.warn("Unable to refresh the JSON web keystore for issuer [{}]; the current signing key remains in use", issuer);
+            return oldValue;
+        }
+        return key;
+    }
+
     @Override
     public Optional<PublicJsonWebKey> load(final String issuer) {
         val jwks = buildJsonWebKeySet();
@@ -156,4 +182,22 @@ public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String
         LOGGER.debug("Found public JSON web key as [{}]", key);
         return Optional.of(key);
     }
+
+    private static String getResourceVersion(final Resource resource) {
+        try {
+            if (resource.isFile()) {
+                return resource.getURI() + "@" + resource.lastModified() + ':' + resource.contentLength();
+            }
+        } catch (final Exception e) {
+            LOGGER.trace(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Value
+    private static class LoadedJsonWebKeySet {
+        String version;
+
+        JsonWebKeySet jsonWebKeySet;
+    }
 }
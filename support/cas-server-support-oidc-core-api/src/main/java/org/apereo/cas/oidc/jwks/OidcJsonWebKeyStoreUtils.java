@@ -14,6 +14,7 @@ import org.jose4j.jwk.EcJwkGenerator;
 import org.jose4j.jwk.JsonWebKeySet;
 import org.jose4j.jwk.PublicJsonWebKey;
 import org.jose4j.jwk.RsaJwkGenerator;
+import org.jose4j.jwk.Use;
 import org.jose4j.jws.AlgorithmIdentifiers;
 import org.jose4j.keys.EllipticCurves;
 import org.springframework.core.io.InputStreamResource;
@@ -25,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link OidcJsonWebKeyStoreUtils}.
@@ -114,6 +116,28 @@ public class OidcJsonWebKeyStoreUtils {
         return key;
     }
 
+    /**
+     * Gets the json web key that should be used for signing.
+     * This is the first key in the keystore with a private key that is meant for signatures,
+     * followed by keys that declare no use, which allows several keys
+     * to remain published while keys are rotated.
+     *
+     * @param jwks the jwks
+     * @return the signing key
+     */
+    public static Optional<PublicJsonWebKey> getSigningJsonWebKey(final JsonWebKeySet jwks) {
+        val keys = jwks.getJsonWebKeys()
+            .stream()
+            .filter(PublicJsonWebKey.class::isInstance)
+            .map(PublicJsonWebKey.class::cast)
+            .filter(key -> key.getPrivateKey() != null)
+            .collect(Collectors.toList());
+        return keys.stream()
+            .filter(key -> Use.SIGNATURE.equals(key.getUse()))
+            .findFirst()
+            .or(() -> keys.stream().filter(key -> StringUtils.isBlank(key.getUse())).findFirst());
+    }
+
     private static JsonWebKeySet buildJsonWebKeySet(final Resource resource) throws Exception {
         LOGGER.debug("Loading JSON web key from [{}]", resource);
         val json = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
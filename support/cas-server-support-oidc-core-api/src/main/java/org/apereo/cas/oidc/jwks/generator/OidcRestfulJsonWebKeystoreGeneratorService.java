@@ -38,13 +38,17 @@ public class OidcRestfulJsonWebKeystoreGeneratorService implements OidcJsonWebKe
             .url(rest.getUrl())
             .build();
         val response = HttpUtils.execute(exec);
-        if (response == null || !HttpStatus.valueOf(response.getStatusLine().getStatusCode()).is2xxSuccessful()) {
-            LOGGER.warn("Unable to successfully fetch JWKS resource from [{}]", rest.getUrl());
-            return null;
-        }
+        try {
+            if (response == null || !HttpStatus.valueOf(response.getStatusLine().getStatusCode()).is2xxSuccessful()) {
+                LOGGER.warn("Unable to successfully fetch JWKS resource from [{}]", rest.getUrl());
+                return null;
+            }
 
-        val result = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
-        LOGGER.debug("Received payload result from [{}] as [{}]", rest.getUrl(), result);
-        return new ByteArrayResource(result.getBytes(StandardCharsets.UTF_8), "OIDC JWKS");
+            val result = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+            LOGGER.debug("Received payload result from [{}] as [{}]", rest.getUrl(), result);
+            return new ByteArrayResource(result.getBytes(StandardCharsets.UTF_8), "OIDC JWKS");
+        } finally {
+            HttpUtils.close(response);
+        }
     }
 }
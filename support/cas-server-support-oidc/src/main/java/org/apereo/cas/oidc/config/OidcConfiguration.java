@@ -86,6 +86,7 @@ import org.apereo.cas.support.oauth.authenticator.OAuthAuthenticationClientProvi
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.support.oauth.validator.authorization.OAuth20AuthorizationRequestValidator;
 import org.apereo.cas.support.oauth.validator.token.OAuth20TokenRequestValidator;
 import org.apereo.cas.support.oauth.web.response.OAuth20CasClientRedirectActionBuilder;
@@ -191,6 +192,10 @@ public class OidcConfiguration implements WebMvcConfigurer {
     @Qualifier("oauthRegisteredServiceCipherExecutor")
     private ObjectProvider<CipherExecutor> oauthRegisteredServiceCipherExecutor;
 
+    @Autowired
+    @Qualifier("oauth20ClientSecretValidator")
+    private ObjectProvider<OAuth20ClientSecretValidator> oauth20ClientSecretValidator;
+
     @Autowired
     @Qualifier("oauthDistributedSessionStore")
     private ObjectProvider<SessionStore> oauthDistributedSessionStore;
@@ -650,7 +655,7 @@ public class OidcConfiguration implements WebMvcConfigurer {
     public LoadingCache<String, Optional<PublicJsonWebKey>> oidcDefaultJsonWebKeystoreCache() {
         val oidc = casProperties.getAuthn().getOidc();
         return Caffeine.newBuilder().maximumSize(1)
-            .expireAfterWrite(Duration.ofMinutes(oidc.getJwks().getJwksCacheInMinutes()))
+            .refreshAfterWrite(Duration.ofMinutes(oidc.getJwks().getJwksCacheInMinutes()))
             .build(oidcDefaultJsonWebKeystoreCacheLoader());
     }
 
@@ -943,6 +948,7 @@ public class OidcConfiguration implements WebMvcConfigurer {
             .attributeToScopeClaimMapper(oidcAttributeToScopeClaimMapper())
             .applicationContext(applicationContext)
             .registeredServiceCipherExecutor(oauthRegisteredServiceCipherExecutor.getObject())
+            .clientSecretValidator(oauth20ClientSecretValidator.getObject())
             .sessionStore(oauthDistributedSessionStore.getObject())
             .servicesManager(servicesManager.getObject())
             .ticketRegistry(ticketRegistry.getObject())
@@ -1,13 +1,18 @@
 package org.apereo.cas.oidc.jwks;
 
 import org.apereo.cas.oidc.AbstractOidcTests;
+import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.ResourceUtils;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
 import org.jose4j.jwk.PublicJsonWebKey;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jwt.JwtClaims;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -18,9 +23,16 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,12 +50,43 @@ import static org.mockito.Mockito.*;
     "cas.authn.oidc.jwks.jwks-file=file:${#systemProperties['java.io.tmpdir']}/keystore.jwks"
 })
 public class OidcDefaultJsonWebKeystoreCacheLoaderTests extends AbstractOidcTests {
+    private static final String ISSUER = "https://sso.example.org/cas/oidc";
+
     @BeforeAll
     public static void setup() {
         val file = new File(FileUtils.getTempDirectory(), "keystore.jwks");
         file.delete();
     }
 
+    private static PublicJsonWebKey generateSigningKey(final String keyId) {
+        val key = OidcJsonWebKeyStoreUtils.generateJsonWebKey("rsa", 2048);
+        key.setKeyId(keyId);
+        key.setAlgorithm(AlgorithmIdentifiers.RSA_USING_SHA256);
+        return key;
+    }
+
+    private static void writeKeystore(final File file, final String json) throws Exception {
+        val lastModified = file.lastModified();
+        FileUtils.writeStringToFile(file, json, StandardCharsets.UTF_8);
+        assertTrue(file.setLastModified(Math.max(System.currentTimeMillis(), lastModified + 1000)));
+    }
+
+    private static LoadingCache<String, Optional<PublicJsonWebKey>> buildRefreshingCache(final File file) {
+        val gen = mock(OidcJsonWebKeystoreGeneratorService.class);
+        when(gen.generate()).thenReturn(new FileSystemResource(file));
+        return Caffeine.newBuilder()
+            .maximumSize(1)
+            .refreshAfterWrite(Duration.ofMillis(50))
+            .build(new OidcDefaultJsonWebKeystoreCacheLoader(gen));
+    }
+
+    private static String sign(final PublicJsonWebKey key) {
+        val claims = new JwtClaims();
+        claims.setIssuer(ISSUER);
+        claims.setSubject("casuser");
+        return EncodingUtils.signJws(claims, key, AlgorithmIdentifiers.RSA_USING_SHA256, Map.of());
+    }
+
     @Test
     public void verifyNoWebKeys() {
         val jwks = new JsonWebKeySet();
@@ -117,4 +160,57 @@ public class OidcDefaultJsonWebKeystoreCacheLoaderTests extends AbstractOidcTest
         val loader = new OidcDefaultJsonWebKeystoreCacheLoader(gen);
         assertTrue(loader.load("https://cas.example.org").isEmpty());
     }
+
+    @Test
+    public void verifyConcurrentSigningAcrossKeyRotation() throws Exception {
+        val currentKey = generateSigningKey("current");
+        val file = File.createTempFile("keystore", ".jwks");
+        writeKeystore(file, new JsonWebKeySet(currentKey).toJson(JsonWebKey.OutputControlLevel.INCLUDE_PRIVATE));
+        val cache = buildRefreshingCache(file);
+        assertEquals("current", cache.get(ISSUER).orElseThrow().getKeyId());
+
+        val signingKeys = ConcurrentHashMap.<String>newKeySet();
+        val executor = Executors.newFixedThreadPool(8);
+        val deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        val results = new ArrayList<Future<Boolean>>();
+        for (var i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                var rotated = false;
+                while (!rotated && System.currentTimeMillis() < deadline) {
+                    val key = cache.get(ISSUER).orElseThrow();
+                    val jws = sign(key);
+                    assertNotNull(EncodingUtils.verifyJwsSignature(key.getPublicKey(), jws));
+                    signingKeys.add(key.getKeyId());
+                    rotated = "next".equals(key.getKeyId());
+                }
+                return rotated;
+            }));
+        }
+        Thread.sleep(200);
+
+        val nextKey = generateSigningKey("next");
+        writeKeystore(file, "{\"keys\":["
+            + currentKey.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY) + ','
+            + nextKey.toJson(JsonWebKey.OutputControlLevel.INCLUDE_PRIVATE) + "]}");
+        for (val result : results) {
+            assertTrue(result.get());
+        }
+        executor.shutdownNow();
+        assertEquals(2, signingKeys.size());
+        assertTrue(signingKeys.containsAll(List.of("current", "next")));
+    }
+
+    @Test
+    public void verifyFailedRefreshKeepsSigningKey() throws Exception {
+        val file = File.createTempFile("keystore", ".jwks");
+        writeKeystore(file, new JsonWebKeySet(generateSigningKey("current")).toJson(JsonWebKey.OutputControlLevel.INCLUDE_PRIVATE));
+        val cache = buildRefreshingCache(file);
+        assertEquals("current", cache.get(ISSUER).orElseThrow().getKeyId());
+
+        writeKeystore(file, "{}");
+        Thread.sleep(100);
+        assertEquals("current", cache.get(ISSUER).orElseThrow().getKeyId());
+        Thread.sleep(100);
+        assertEquals("current", cache.get(ISSUER).orElseThrow().getKeyId());
+    }
 }
@@ -6,6 +6,8 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.Use;
+import org.jose4j.jws.AlgorithmIdentifiers;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -54,4 +56,31 @@ public class OidcJsonWebKeyStoreUtilsTests extends AbstractOidcTests {
         assertNotNull(OidcJsonWebKeyStoreUtils.parseJsonWebKeySet(
             keyset.toJson(JsonWebKey.OutputControlLevel.INCLUDE_PRIVATE)));
     }
+
+    @Test
+    public void verifySigningKey() throws Exception {
+        val previousKey = OidcJsonWebKeyStoreUtils.generateJsonWebKey("rsa", 2048);
+        previousKey.setKeyId("previous");
+        previousKey.setUse(Use.SIGNATURE);
+        previousKey.setAlgorithm(AlgorithmIdentifiers.RSA_USING_SHA256);
+        val publicKey = JsonWebKey.Factory.newJwk(previousKey.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY));
+
+        val currentKey = OidcJsonWebKeyStoreUtils.generateJsonWebKey("rsa", 2048);
+        currentKey.setKeyId("current");
+        currentKey.setAlgorithm(AlgorithmIdentifiers.RSA_USING_SHA256);
+
+        val encryptionKey = OidcJsonWebKeyStoreUtils.generateJsonWebKey("rsa", 2048);
+        encryptionKey.setKeyId("encryption");
+        encryptionKey.setUse(Use.ENCRYPTION);
+
+        val jwks = new JsonWebKeySet(List.of(encryptionKey, publicKey, currentKey));
+        assertEquals("current", OidcJsonWebKeyStoreUtils.getSigningJsonWebKey(jwks).orElseThrow().getKeyId());
+    }
+
+    @Test
+    public void verifyNoSigningKey() {
+        val key = OidcJsonWebKeyStoreUtils.generateJsonWebKey("rsa", 2048);
+        key.setUse(Use.ENCRYPTION);
+        assertTrue(OidcJsonWebKeyStoreUtils.getSigningJsonWebKey(new JsonWebKeySet(List.of(key))).isEmpty());
+    }
 }
@@ -0,0 +1,231 @@
+package org.apereo.cas.persondir;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.BasePersonAttributeDao;
+import org.apereo.services.persondir.support.CaseInsensitiveNamedPersonImpl;
+import org.apereo.services.persondir.support.merger.IAttributeMerger;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * This is {@link ParallelMergingPersonAttributeDao}.
+ * Queries all attribute repositories concurrently and merges their results
+ * in the order in which repositories are registered, so that the outcome is the same
+ * as merging results sequentially while the overall latency is bounded by the slowest
+ * repository rather than the sum of all. Each repository is given its own deadline, and
+ * repositories that fail repeatedly are skipped for a while via a simple circuit breaker.
+ * Queries that miss their deadline are interrupted, and the thread pool is shut down along with this bean.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class ParallelMergingPersonAttributeDao extends BasePersonAttributeDao implements AutoCloseable, DisposableBean {
+    private final Map<IPersonAttributeDao, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private final List<IPersonAttributeDao> personAttributeDaos;
+
+    private final IAttributeMerger merger;
+
+    private final ExecutorService executorService;
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private boolean requireAll;
+
+    private int circuitBreakerFailureThreshold = 5;
+
+    private Duration circuitBreakerResetTimeout = Duration.ofSeconds(30);
+
+    private static String getRepositoryName(final IPersonAttributeDao dao) {
+        return Arrays.toString(dao.getId());
+    }
+
+    @Override
+    public IPersonAttributes getPerson(final String uid, final IPersonAttributeDaoFilter filter) {
+        val results = execute(filter, dao -> dao.getPerson(uid, filter));
+        if (results == null) {
+            return null;
+        }
+        Map<String, List<Object>> attributes = null;
+        for (val person : results) {
+            if (person != null && person.getAttributes() != null) {
+                attributes = attributes == null
+                    ? new LinkedHashMap<>(person.getAttributes())
+                    : merger.mergeAttributes(attributes, person.getAttributes());
+            }
+        }
+        return attributes == null ? null : new CaseInsensitiveNamedPersonImpl(uid, attributes);
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeople(final Map<String, Object> query, final IPersonAttributeDaoFilter filter) {
+        return mergePeople(execute(filter, dao -> dao.getPeople(query, filter)));
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                     final IPersonAttributeDaoFilter filter) {
+        return mergePeople(execute(filter, dao -> dao.getPeopleWithMultivaluedAttributes(query, filter)));
+    }
+
+    @Override
+    public Set<String> getPossibleUserAttributeNames(final IPersonAttributeDaoFilter filter) {
+        return mergeSequentially(filter, dao -> dao.getPossibleUserAttributeNames(filter), merger::mergePossibleUserAttributeNames);
+    }
+
+    @Override
+    public Set<String> getAvailableQueryAttributes(final IPersonAttributeDaoFilter filter) {
+        return mergeSequentially(filter, dao -> dao.getAvailableQueryAttributes(filter), merger::mergeAvailableQueryAttributes);
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    private Set<IPersonAttributes> mergePeople(final List<Set<IPersonAttributes>> results) {
+        if (results == null) {
+            return null;
+        }
+        Set<IPersonAttributes> merged = null;
+        for (val result : results) {
+            if (result != null) {
+                merged = merged == null ? new LinkedHashSet<>(result) : merger.mergeResults(merged, result);
+            }
+        }
+        return merged;
+    }
+
+    private Set<String> mergeSequentially(final IPersonAttributeDaoFilter filter,
+                                          final Function<IPersonAttributeDao, Set<String>> function,
+                                          final BinaryOperator<Set<String>> mergeFunction) {
+        Set<String> merged = null;
+        for (val dao : personAttributeDaos) {
+            if (isEligible(dao, filter)) {
+                val result = function.apply(dao);
+                if (result != null) {
+                    merged = merged == null ? new LinkedHashSet<>(result) : mergeFunction.apply(merged, result);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Submit the operation to all eligible repositories at once
+     * and collect results in registration order.
+     *
+     * @param <T>      the type parameter
+     * @param filter   the filter
+     * @param function the function
+     * @return the results in registration order, or null if results are to be discarded.
+     */
+    private <T> List<T> execute(final IPersonAttributeDaoFilter filter,
+                                final Function<IPersonAttributeDao, T> function) {
+        val futures = new LinkedHashMap<IPersonAttributeDao, Future<T>>();
+        var complete = true;
+        for (val dao : personAttributeDaos) {
+            if (!isEligible(dao, filter)) {
+                continue;
+            }
+            val circuitBreaker = getCircuitBreaker(dao);
+            if (circuitBreaker.isOpen()) {
+                LOGGER.debug("Skipping attribute repository [{}] whose circuit breaker is open", getRepositoryName(dao));
+                complete = false;
+                continue;
+            }
+            futures.put(dao, executorService.submit(() -> function.apply(dao)));
+        }
+
+        val deadline = System.nanoTime() + timeout.toNanos();
+        val results = new ArrayList<T>(futures.size());
+        for (val entry : futures.entrySet()) {
+            val dao = entry.getKey();
+            val circuitBreaker = getCircuitBreaker(dao);
+            try {
+                val remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(entry.getValue().get(remaining, TimeUnit.NANOSECONDS));
+                circuitBreaker.recordSuccess();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(future -> future.cancel(true));
+                return null;
+            } catch (final Exception e) {
+                entry.getValue().cancel(true);
+                LOGGER.warn("Attribute repository [{}] failed or did not respond within [{}]", getRepositoryName(dao), timeout);
+                LoggingUtils.warn(LOGGER, e);
+                circuitBreaker.recordFailure();
+                complete = false;
+            }
+        }
+        if (!complete && requireAll) {
+            LOGGER.warn("Not all attribute repositories produced a result; results will be discarded");
+            return null;
+        }
+        return results;
+    }
+
+    private boolean isEligible(final IPersonAttributeDao dao, final IPersonAttributeDaoFilter filter) {
+        return dao.isEnabled() && (filter == null || filter.choosePersonAttributeDao(dao));
+    }
+
+    private CircuitBreaker getCircuitBreaker(final IPersonAttributeDao dao) {
+        return circuitBreakers.computeIfAbsent(dao, k -> new CircuitBreaker());
+    }
+
+    private class CircuitBreaker {
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private final AtomicLong openUntil = new AtomicLong();
+
+        boolean isOpen() {
+            val until = openUntil.get();
+            return circuitBreakerFailureThreshold > 0 && until != 0 && System.nanoTime() - until < 0;
+        }
+
+        void recordSuccess() {
+            failures.set(0);
+        }
+
+        void recordFailure() {
+            if (circuitBreakerFailureThreshold > 0 && failures.incrementAndGet() >= circuitBreakerFailureThreshold) {
+                failures.set(0);
+                openUntil.set(System.nanoTime() + circuitBreakerResetTimeout.toNanos());
+            }
+        }
+    }
+}
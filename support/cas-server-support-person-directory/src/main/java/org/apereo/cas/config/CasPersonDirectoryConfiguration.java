@@ -8,8 +8,11 @@ import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolutionExecutionPlanConfigurer;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.authentication.ParallelPrincipalAttributesProperties;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
+import org.apereo.cas.persondir.ParallelMergingPersonAttributeDao;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlan;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlanConfigurer;
 
@@ -36,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -55,6 +59,18 @@ public class CasPersonDirectoryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    private static void logAttributeRepositories(final List<IPersonAttributeDao> list) {
+        if (list.isEmpty()) {
+            LOGGER.debug("No attribute repository sources are available/defined to merge together.");
+        } else {
+            val names = list
+                .stream()
+                .map(p -> Arrays.toString(p.getId()))
+                .collect(Collectors.joining(","));
+            LOGGER.debug("Configured attribute repository sources to merge together: [{}]", names);
+        }
+    }
+
     @ConditionalOnMissingBean(name = "personDirectoryPrincipalFactory")
     @Bean
     @RefreshScope
@@ -162,26 +178,34 @@ public class CasPersonDirectoryConfiguration {
     @ConditionalOnMissingBean(name = "aggregatingAttributeRepository")
     @RefreshScope
     public IPersonAttributeDao aggregatingAttributeRepository() {
-        val aggregate = getAggregateAttributeRepository();
-
         val properties = casProperties.getAuthn().getAttributeRepository();
         val attributeMerger = CoreAuthenticationUtils.getAttributeMerger(properties.getCore().getMerger());
         LOGGER.trace("Configured merging strategy for attribute sources is [{}]", attributeMerger);
-        aggregate.setMerger(attributeMerger);
 
         val list = personDirectoryAttributeRepositoryPlan().getAttributeRepositories();
-        aggregate.setPersonAttributeDaos(list);
+        logAttributeRepositories(list);
+
+        val parallel = properties.getCore().getParallel();
+        if (parallel.isEnabled() && properties.getCore().getAggregation() == PrincipalAttributesCoreProperties.AggregationStrategyTypes.MERGE) {
+            val executor = Executors.newFixedThreadPool(Math.max(1, parallel.getPoolSize()), r -> {
+                val thread = new Thread(r, "PersonDirectoryAttributeRepositoryThread");
+                thread.setDaemon(true);
+                return thread;
+            });
+            val aggregate = new ParallelMergingPersonAttributeDao(list, attributeMerger, executor);
+            aggregate.setTimeout(Beans.newDuration(parallel.getTimeout()));
+            aggregate.setCircuitBreakerFailureThreshold(parallel.getCircuitBreakerFailureThreshold());
+            aggregate.setCircuitBreakerResetTimeout(Beans.newDuration(parallel.getCircuitBreakerResetTimeout()));
+            aggregate.setRequireAll(properties.getCore().isRequireAllRepositorySources()
+                || parallel.getPartialResultPolicy() == ParallelPrincipalAttributesProperties.PartialResultPolicyTypes.FAIL);
+            LOGGER.debug("Attribute repository sources will be queried in parallel with a timeout of [{}]", aggregate.getTimeout());
+            return aggregate;
+        }
 
+        val aggregate = getAggregateAttributeRepository();
+        aggregate.setMerger(attributeMerger);
+        aggregate.setPersonAttributeDaos(list);
         aggregate.setRequireAll(properties.getCore().isRequireAllRepositorySources());
-        if (list.isEmpty()) {
-            LOGGER.debug("No attribute repository sources are available/defined to merge together.");
-        } else {
-            val names = list
-                .stream()
-                .map(p -> Arrays.toString(p.getId()))
-                .collect(Collectors.joining(","));
-            LOGGER.debug("Configured attribute repository sources to merge together: [{}]", names);
-        }
         return aggregate;
     }
 
@@ -0,0 +1,164 @@
+package org.apereo.cas;
+
+import org.apereo.cas.persondir.ParallelMergingPersonAttributeDao;
+
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.StubPersonAttributeDao;
+import org.apereo.services.persondir.support.merger.NoncollidingAttributeAdder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ParallelMergingPersonAttributeDaoTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Attributes")
+public class ParallelMergingPersonAttributeDaoTests {
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    private static IPersonAttributeDao newAttributeRepository(final String name, final long delay,
+                                                              final Map<String, List<Object>> attributes) {
+        val dao = new DelayedStubPersonAttributeDao(delay, new HashMap<>(attributes), new AtomicInteger());
+        dao.setId(name);
+        return dao;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void verifyLatencyIsBoundBySlowestRepository() {
+        val repositories = List.of(
+            newAttributeRepository("first", 500, Map.of("name", List.of("first"), "first", List.of("value"))),
+            newAttributeRepository("second", 500, Map.of("name", List.of("second"), "second", List.of("value"))),
+            newAttributeRepository("third", 500, Map.of("name", List.of("third"), "third", List.of("value"))));
+        val dao = new ParallelMergingPersonAttributeDao(repositories, new NoncollidingAttributeAdder(), executorService);
+        val start = System.nanoTime();
+        val person = dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose());
+        val elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed < 1200, () -> "Elapsed time " + elapsed + "ms exceeds the slowest repository");
+        assertNotNull(person);
+        assertEquals(List.of("first"), person.getAttributes().get("name"));
+        assertTrue(person.getAttributes().containsKey("first"));
+        assertTrue(person.getAttributes().containsKey("second"));
+        assertTrue(person.getAttributes().containsKey("third"));
+
+        val people = dao.getPeopleWithMultivaluedAttributes(Map.of("username", List.of("casuser")),
+            IPersonAttributeDaoFilter.alwaysChoose());
+        assertEquals(1, people.size());
+    }
+
+    @Test
+    public void verifyPartialResultsWhenRepositoryTimesOut() {
+        val repositories = List.of(
+            newAttributeRepository("slow", 5000, Map.of("slow", List.of("value"))),
+            newAttributeRepository("fast", 10, Map.of("fast", List.of("value"))));
+        val dao = new ParallelMergingPersonAttributeDao(repositories, new NoncollidingAttributeAdder(), executorService);
+        dao.setTimeout(Duration.ofMillis(300));
+        val person = dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose());
+        assertNotNull(person);
+        assertFalse(person.getAttributes().containsKey("slow"));
+        assertTrue(person.getAttributes().containsKey("fast"));
+
+        dao.setRequireAll(true);
+        assertNull(dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose()));
+    }
+
+    @Test
+    public void verifyCircuitBreakerSkipsFailingRepository() {
+        val invocations = new AtomicInteger();
+        val repositories = List.of(
+            new FailingStubPersonAttributeDao(invocations),
+            newAttributeRepository("healthy", 0, Map.of("healthy", List.of("value"))));
+        val dao = new ParallelMergingPersonAttributeDao(repositories, new NoncollidingAttributeAdder(), executorService);
+        dao.setCircuitBreakerFailureThreshold(2);
+        dao.setCircuitBreakerResetTimeout(Duration.ofMinutes(1));
+        for (var i = 0; i < 5; i++) {
+            val person = dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose());
+            assertTrue(person.getAttributes().containsKey("healthy"));
+        }
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void verifyTimedOutRepositoryIsInterrupted() throws Exception {
+        val interrupted = new CountDownLatch(1);
+        val slow = new StubPersonAttributeDao(new HashMap<>()) {
+            @Override
+            public IPersonAttributes getPerson(final String uid, final IPersonAttributeDaoFilter filter) {
+                try {
+                    Thread.sleep(5000);
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            }
+        };
+        val executor = Executors.newFixedThreadPool(2);
+        val dao = new ParallelMergingPersonAttributeDao(List.of(slow,
+            newAttributeRepository("fast", 0, Map.of("fast", List.of("value")))), new NoncollidingAttributeAdder(), executor);
+        dao.setTimeout(Duration.ofMillis(100));
+        val person = dao.getPerson("casuser", IPersonAttributeDaoFilter.alwaysChoose());
+        assertTrue(person.getAttributes().containsKey("fast"));
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+
+        dao.destroy();
+        assertTrue(executor.isShutdown());
+    }
+
+    private static class DelayedStubPersonAttributeDao extends StubPersonAttributeDao {
+        private final long delay;
+
+        private final AtomicInteger invocations;
+
+        DelayedStubPersonAttributeDao(final long delay, final Map<String, List<Object>> attributes,
+                                      final AtomicInteger invocations) {
+            super(attributes);
+            this.delay = delay;
+            this.invocations = invocations;
+        }
+
+        @Override
+        public IPersonAttributes getPerson(final String uid, final IPersonAttributeDaoFilter filter) {
+            invocations.incrementAndGet();
+            try {
+                Thread.sleep(delay);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.getPerson(uid, filter);
+        }
+    }
+
+    private static class FailingStubPersonAttributeDao extends DelayedStubPersonAttributeDao {
+        FailingStubPersonAttributeDao(final AtomicInteger invocations) {
+            super(0, new HashMap<>(), invocations);
+        }
+
+        @Override
+        public IPersonAttributes getPerson(final String uid, final IPersonAttributeDaoFilter filter) {
+            super.getPerson(uid, filter);
+            throw new IllegalStateException("Failed");
+        }
+    }
+}
@@ -7,9 +7,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Spliterator;
@@ -49,6 +51,19 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return true;
     }
 
+    @Override
+    public int deleteSingleTickets(final Collection<String> ticketIds) {
+        val redisKeys = ticketIds.stream()
+            .map(ticketId -> getTicketRedisKey(encodeTicketId(ticketId)))
+            .collect(Collectors.toSet());
+        if (redisKeys.isEmpty()) {
+            return 0;
+        }
+        LOGGER.debug("Unlinking [{}] ticket keys", redisKeys.size());
+        val count = this.client.unlink(redisKeys);
+        return count == null ? redisKeys.size() : count.intValue();
+    }
+
     @Override
     public void addTicket(final Ticket ticket) {
         try {
@@ -84,6 +99,33 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    public Collection<? extends Ticket> getTickets(final Collection<String> ticketIds, final Predicate<Ticket> predicate) {
+        try {
+            val redisKeys = ticketIds.stream()
+                .filter(StringUtils::isNotBlank)
+                .map(ticketId -> getTicketRedisKey(encodeTicketId(ticketId)))
+                .distinct()
+                .collect(Collectors.toList());
+            if (redisKeys.isEmpty()) {
+                return new ArrayList<>(0);
+            }
+            val tickets = this.client.opsForValue().multiGet(redisKeys);
+            if (tickets != null) {
+                return tickets.stream()
+                    .filter(Objects::nonNull)
+                    .map(this::decodeTicket)
+                    .filter(Objects::nonNull)
+                    .filter(predicate)
+                    .collect(Collectors.toList());
+            }
+        } catch (final Exception e) {
+            LOGGER.error("Failed fetching [{}]", ticketIds);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return new ArrayList<>(0);
+    }
+
     @Override
     public Collection<? extends Ticket> getTickets() {
         try (val ticketsStream = getTicketsStream()) {
@@ -190,7 +190,7 @@ public class SamlIdPSingleLogoutRedirectionStrategy implements LogoutRedirection
             .parameters(CollectionUtils.wrap(SamlProtocolConstants.PARAMETER_SAML_RESPONSE, message))
             .headers(CollectionUtils.wrap("Content-Type", MediaType.APPLICATION_XML_VALUE))
             .build();
-        HttpUtils.execute(exec);
+        HttpUtils.close(HttpUtils.execute(exec));
     }
 
     /**
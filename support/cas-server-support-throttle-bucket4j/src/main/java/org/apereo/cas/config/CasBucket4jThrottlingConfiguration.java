@@ -1,15 +1,32 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.support.throttle.Bucket4jThrottleProperties;
 import org.apereo.cas.throttle.ThrottledRequestExecutor;
 import org.apereo.cas.web.Bucket4jThrottledRequestExecutor;
 
+import io.github.bucket4j.Bucket4j;
+import io.github.bucket4j.grid.GridBucketState;
+import io.github.bucket4j.grid.ProxyManager;
+import io.github.bucket4j.grid.jcache.JCache;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.cache.Cache;
+import javax.cache.CacheException;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.TouchedExpiryPolicy;
+import java.net.URI;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
 /**
  * This is {@link CasBucket4jThrottlingConfiguration}.
  *
@@ -18,6 +35,7 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration(value = "casBucket4jThrottlingConfiguration", proxyBeanMethods = false)
 @EnableConfigurationProperties(CasConfigurationProperties.class)
+@Slf4j
 public class CasBucket4jThrottlingConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
@@ -25,6 +43,36 @@ public class CasBucket4jThrottlingConfiguration {
     @Bean
     public ThrottledRequestExecutor throttledRequestExecutor() {
         val throttle = casProperties.getAuthn().getThrottle();
-        return new Bucket4jThrottledRequestExecutor(throttle.getBucket4j());
+        val bucket4j = throttle.getBucket4j();
+        val proxyManager = StringUtils.isNotBlank(bucket4j.getCacheName()) ? buildJCacheProxyManager(bucket4j) : null;
+        return new Bucket4jThrottledRequestExecutor(bucket4j, throttle.getUsernameParameter(), proxyManager);
+    }
+
+    private static ProxyManager<String> buildJCacheProxyManager(final Bucket4jThrottleProperties properties) {
+        val provider = StringUtils.isNotBlank(properties.getCacheProvider())
+            ? Caching.getCachingProvider(properties.getCacheProvider())
+            : Caching.getCachingProvider();
+        val uri = StringUtils.isNotBlank(properties.getCacheUri())
+            ? URI.create(properties.getCacheUri())
+            : provider.getDefaultURI();
+        val cacheProperties = new Properties();
+        cacheProperties.putAll(properties.getCacheProperties());
+        val cacheManager = provider.getCacheManager(uri, provider.getDefaultClassLoader(), cacheProperties);
+        val cacheName = properties.getCacheName();
+
+        Cache<String, GridBucketState> cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            LOGGER.debug("Creating cache [{}] to hold throttling buckets via [{}]", cacheName, provider.getClass().getName());
+            val expiration = Bucket4jThrottledRequestExecutor.getRefillDuration(properties);
+            val configuration = new MutableConfiguration<String, GridBucketState>()
+                .setExpiryPolicyFactory(TouchedExpiryPolicy.factoryOf(new Duration(TimeUnit.SECONDS, expiration.getSeconds())));
+            try {
+                cache = cacheManager.createCache(cacheName, configuration);
+            } catch (final CacheException e) {
+                LOGGER.debug("Cache [{}] was created concurrently: [{}]", cacheName, e.getMessage());
+                cache = cacheManager.getCache(cacheName);
+            }
+        }
+        return Bucket4j.extension(JCache.class).proxyManagerForCache(cache);
     }
 }
@@ -1,24 +1,38 @@
 package org.apereo.cas.web;
 
+import org.apereo.cas.CasProtocolConstants;
 import org.apereo.cas.configuration.model.support.throttle.Bucket4jThrottleProperties;
 import org.apereo.cas.throttle.ThrottledRequestExecutor;
 import org.apereo.cas.util.LoggingUtils;
 
-import io.github.bucket4j.AbstractBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BlockingStrategy;
+import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Bucket4j;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.grid.ProxyManager;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link Bucket4jThrottledRequestExecutor}.
+ * Buckets are keyed by the configured request attributes and are either held in local memory,
+ * or obtained from a {@link ProxyManager} when their state is shared by all nodes.
+ * In the latter case, tokens are taken from the shared bucket in batches and handed out locally
+ * so that most requests for keys under the limit do not require a remote call.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -38,49 +52,166 @@ public class Bucket4jThrottledRequestExecutor implements ThrottledRequestExecuto
 
     private static final long MAX_WAIT_NANOS = TimeUnit.HOURS.toNanos(1);
 
-    private final AbstractBucket bucket;
+    private static final long MAX_NUMBER_OF_BUCKETS = 100_000L;
+
+    private static final String DEFAULT_BUCKET_KEY = "*";
+
+    private static final String DEFAULT_USERNAME_PARAMETER = "username";
+
+    private final Bandwidth limit;
+
+    private final BucketConfiguration configuration;
+
+    private final ProxyManager<String> proxyManager;
+
+    private final Cache<String, Bucket> buckets;
+
+    private final Cache<String, AtomicLong> leasedTokens;
+
+    private final List<Bucket4jThrottleProperties.BucketKeyTypes> keys;
+
+    private final String usernameParameter;
 
     private final boolean blocking;
 
+    private final long leaseSize;
+
     public Bucket4jThrottledRequestExecutor(final Bucket4jThrottleProperties properties) {
+        this(properties, null, null);
+    }
+
+    public Bucket4jThrottledRequestExecutor(final Bucket4jThrottleProperties properties,
+                                            final String usernameParameter,
+                                            final ProxyManager<String> proxyManager) {
         val duration = Duration.ofSeconds(properties.getRangeInSeconds());
 
-        val limit = properties.getOverdraft() > 0
+        this.limit = properties.getOverdraft() > 0
             ? Bandwidth.classic(properties.getOverdraft(), Refill.greedy(properties.getCapacity(), duration))
             : Bandwidth.simple(properties.getCapacity(), duration);
+        this.configuration = Bucket4j.configurationBuilder().addLimit(limit).build();
+        this.proxyManager = proxyManager;
 
-        this.bucket = (AbstractBucket) Bucket4j.builder()
-            .addLimit(limit)
-            .withMillisecondPrecision()
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_NUMBER_OF_BUCKETS)
+            .expireAfterAccess(getRefillDuration(properties))
+            .build();
+        this.leasedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_NUMBER_OF_BUCKETS)
+            .expireAfterWrite(duration)
             .build();
 
+        this.keys = properties.getKeys();
+        this.usernameParameter = StringUtils.defaultIfBlank(usernameParameter, DEFAULT_USERNAME_PARAMETER);
         this.blocking = properties.isBlocking();
+        this.leaseSize = Math.min(properties.getLeaseSize(), properties.getCapacity());
+    }
+
+    /**
+     * Gets the duration after which an idle bucket is entirely refilled,
+     * and can be discarded without affecting the limits it enforces.
+     *
+     * @param properties the properties
+     * @return the refill duration
+     */
+    public static Duration getRefillDuration(final Bucket4jThrottleProperties properties) {
+        val maximumTokens = Math.max(properties.getOverdraft(), properties.getCapacity());
+        val refillCycles = Math.max(1, (long) Math.ceil((double) maximumTokens / Math.max(1, properties.getCapacity())));
+        return Duration.ofSeconds(properties.getRangeInSeconds()).multipliedBy(refillCycles);
     }
 
     @Override
     public boolean throttle(final HttpServletRequest request, final HttpServletResponse response) {
-        var result = true;
+        val key = getBucketKey(request);
+        val bucket = getBucket(key);
 
-        val availableTokens = this.bucket.getAvailableTokens();
+        if (proxyManager != null && leaseSize > 1) {
+            val remaining = consumeLeasedToken(key, bucket);
+            if (remaining >= 0) {
+                response.addHeader(HEADER_NAME_X_RATE_LIMIT_REMAINING, Long.toString(remaining));
+                return false;
+            }
+        }
+
+        var result = true;
+        var availableTokens = 0L;
+        var nanosToWaitForRefill = 0L;
         try {
             if (this.blocking) {
                 LOGGER.trace("Attempting to consume a token for the authentication attempt");
-                result = !this.bucket.tryConsume(1, MAX_WAIT_NANOS, BlockingStrategy.PARKING);
+                result = !bucket.asScheduler().tryConsume(1, MAX_WAIT_NANOS, BlockingStrategy.PARKING);
+                availableTokens = bucket.getAvailableTokens();
             } else {
-                result = !this.bucket.tryConsume(1);
+                val probe = bucket.tryConsumeAndReturnRemaining(1);
+                result = !probe.isConsumed();
+                availableTokens = probe.getRemainingTokens();
+                nanosToWaitForRefill = probe.getNanosToWaitForRefill();
             }
         } catch (final InterruptedException e) {
             LoggingUtils.error(LOGGER, e);
             Thread.currentThread().interrupt();
         }
         if (result) {
-            val probe = this.bucket.tryConsumeAndReturnRemaining(1);
-            val seconds = TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill());
+            val seconds = TimeUnit.NANOSECONDS.toSeconds(nanosToWaitForRefill);
             response.addHeader(HEADER_NAME_X_RATE_LIMIT_RETRY_AFTER_SECONDS, Long.toString(seconds));
-            LOGGER.warn("The request is throttled as capacity is entirely consumed. Available tokens are [{}]", availableTokens);
+            LOGGER.warn("The request is throttled as capacity is entirely consumed for [{}]. Available tokens are [{}]", key, availableTokens);
         } else {
             response.addHeader(HEADER_NAME_X_RATE_LIMIT_REMAINING, Long.toString(availableTokens));
         }
         return result;
     }
+
+    /**
+     * Gets the key of the bucket that tracks the request.
+     *
+     * @param request the request
+     * @return the bucket key
+     */
+    protected String getBucketKey(final HttpServletRequest request) {
+        if (keys.isEmpty()) {
+            return DEFAULT_BUCKET_KEY;
+        }
+        return keys.stream()
+            .map(type -> {
+                switch (type) {
+                    case USERNAME:
+                        return request.getParameter(usernameParameter);
+                    case SERVICE:
+                        return request.getParameter(CasProtocolConstants.PARAMETER_SERVICE);
+                    case IP_ADDRESS:
+                    default:
+                        val clientInfo = ClientInfoHolder.getClientInfo();
+                        return clientInfo != null ? clientInfo.getClientIpAddress() : request.getRemoteAddr();
+                }
+            })
+            .map(StringUtils::defaultString)
+            .collect(Collectors.joining(";"));
+    }
+
+    private Bucket getBucket(final String key) {
+        return buckets.get(key, k -> proxyManager != null
+            ? proxyManager.getProxy(k, () -> configuration)
+            : Bucket4j.builder().addLimit(limit).withMillisecondPrecision().build());
+    }
+
+    /**
+     * Consume a token leased locally from the shared bucket, leasing
+     * a new batch of tokens from the shared bucket when none are left.
+     *
+     * @param key    the key
+     * @param bucket the shared bucket
+     * @return the number of leased tokens left, or a negative value if the shared bucket has no tokens left.
+     */
+    private long consumeLeasedToken(final String key, final Bucket bucket) {
+        val lease = leasedTokens.get(key, k -> new AtomicLong());
+        val remaining = lease.getAndUpdate(tokens -> tokens > 0 ? tokens - 1 : 0);
+        if (remaining > 0) {
+            return remaining - 1;
+        }
+        val leased = bucket.tryConsumeAsMuchAsPossible(leaseSize);
+        LOGGER.trace("Leased [{}] token(s) from the shared bucket for [{}]", leased, key);
+        if (leased > 0) {
+            return lease.addAndGet(leased - 1);
+        }
+        return -1;
+    }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.web.Bucket4jBlockingThrottledRequestExecutorTests;
+import org.apereo.cas.web.Bucket4jDistributedThrottledRequestExecutorTests;
 import org.apereo.cas.web.Bucket4jThrottledRequestExecutorTests;
 
 import org.junit.platform.runner.JUnitPlatform;
@@ -15,7 +16,8 @@ import org.junit.runner.RunWith;
  */
 @SelectClasses({
     Bucket4jThrottledRequestExecutorTests.class,
-    Bucket4jBlockingThrottledRequestExecutorTests.class
+    Bucket4jBlockingThrottledRequestExecutorTests.class,
+    Bucket4jDistributedThrottledRequestExecutorTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
@@ -0,0 +1,63 @@
+package org.apereo.cas.web;
+
+import org.apereo.cas.config.CasBucket4jThrottlingConfiguration;
+import org.apereo.cas.throttle.ThrottledRequestExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link Bucket4jDistributedThrottledRequestExecutorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    CasBucket4jThrottlingConfiguration.class
+}, properties = {
+    "cas.authn.throttle.bucket4j.capacity=3",
+    "cas.authn.throttle.bucket4j.lease-size=2",
+    "cas.authn.throttle.bucket4j.blocking=false",
+    "cas.authn.throttle.bucket4j.keys=IP_ADDRESS,USERNAME",
+    "cas.authn.throttle.bucket4j.cache-name=cas-throttle-buckets",
+    "cas.authn.throttle.bucket4j.cache-provider=com.hazelcast.cache.impl.HazelcastServerCachingProvider",
+    "cas.authn.throttle.bucket4j.cache-properties.hazelcast.config.location=classpath:hazelcast-throttle.xml"
+})
+@Tag("Hazelcast")
+public class Bucket4jDistributedThrottledRequestExecutorTests {
+    @Autowired
+    @Qualifier("throttledRequestExecutor")
+    private ThrottledRequestExecutor throttledRequestExecutor;
+
+    @Test
+    public void verifyOperation() {
+        for (var i = 0; i < 3; i++) {
+            val response = new MockHttpServletResponse();
+            assertFalse(throttledRequestExecutor.throttle(getRequest("1.2.3.4", "casuser"), response));
+            assertTrue(response.containsHeader(Bucket4jThrottledRequestExecutor.HEADER_NAME_X_RATE_LIMIT_REMAINING));
+        }
+        val response = new MockHttpServletResponse();
+        assertTrue(throttledRequestExecutor.throttle(getRequest("1.2.3.4", "casuser"), response));
+        assertTrue(response.containsHeader(Bucket4jThrottledRequestExecutor.HEADER_NAME_X_RATE_LIMIT_RETRY_AFTER_SECONDS));
+
+        assertFalse(throttledRequestExecutor.throttle(getRequest("1.2.3.4", "other"), new MockHttpServletResponse()));
+        assertFalse(throttledRequestExecutor.throttle(getRequest("5.6.7.8", "casuser"), new MockHttpServletResponse()));
+    }
+
+    private static MockHttpServletRequest getRequest(final String address, final String username) {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr(address);
+        request.setParameter("username", username);
+        return request;
+    }
+}
@@ -4,17 +4,26 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import javax.servlet.http.HttpServletRequest;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of a {@link InMemoryThrottledSubmissionHandlerInterceptor} that keeps track of a mapping
- * of IP Addresses to number of failures to authenticate.
+ * of IP Addresses to failures to authenticate, counted within a sliding window
+ * whose length is the configured failure range. A submission is throttled once the number of
+ * failures within the window exceeds the configured failure threshold.
+ * Keys are also tracked in buckets by the time their records expire, so that cleaning up
+ * only visits records that have expired rather than the entire map. Each key is tracked in a single
+ * bucket, and keys whose records were evicted from the map are pruned from the buckets
+ * once they outnumber the records, so that buckets remain bounded by the size of the map.
  * This class relies on an external configuration to clean it up.
- * It ignores the threshold data in the parent class.
  *
  * @author Scott Battaglia
  * @since 3.0.0
@@ -23,28 +32,57 @@ import java.util.stream.Collectors;
 public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter
     implements InMemoryThrottledSubmissionHandlerInterceptor {
 
-    private static final double SUBMISSION_RATE_DIVIDEND = 1000.0;
+    private static final long NUMBER_OF_MILLISECONDS_IN_SECOND = 1000L;
 
-    private final ConcurrentMap<String, ZonedDateTime> ipMap;
+    private static final long MINIMUM_TRACKED_KEYS_BEFORE_PRUNING = 1_000L;
+
+    private final ConcurrentMap<String, ThrottledSubmission> ipMap;
+
+    private final ConcurrentNavigableMap<Long, Set<String>> expirationBuckets = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong trackedKeys = new AtomicLong();
+
+    private final AtomicBoolean pruning = new AtomicBoolean();
 
     protected AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter(
         final ThrottledSubmissionHandlerConfigurationContext configurationContext,
-        final ConcurrentMap<String, ZonedDateTime> ipMap) {
+        final ConcurrentMap<String, ThrottledSubmission> ipMap) {
         super(configurationContext);
         this.ipMap = ipMap;
     }
 
+    private static long getExpirationBucket(final ThrottledSubmission submission, final long window) {
+        return Math.floorDiv(submission.getExpirationTime(window) + window - 1, window);
+    }
+
     @Override
     public void recordSubmissionFailure(final HttpServletRequest request) {
         val key = constructKey(request);
         LOGGER.debug("Recording submission failure [{}]", key);
-        this.ipMap.put(key, ZonedDateTime.now(ZoneOffset.UTC));
+        val window = getFailureRangeInMillis();
+        val now = System.currentTimeMillis();
+        ipMap.compute(key, (k, v) -> {
+            val submission = v == null ? ThrottledSubmission.of(now) : v.record(now, window);
+            if (v != null) {
+                untrack(k, getExpirationBucket(v, window));
+            }
+            track(k, getExpirationBucket(submission, window));
+            return submission;
+        });
+        if (trackedKeys.get() > Math.max(MINIMUM_TRACKED_KEYS_BEFORE_PRUNING, 2 * ipMap.size())) {
+            pruneExpirationBuckets();
+        }
     }
 
     @Override
     public boolean exceedsThreshold(final HttpServletRequest request) {
-        val last = this.ipMap.get(constructKey(request));
-        return last != null && submissionRate(ZonedDateTime.now(ZoneOffset.UTC), last) > getThresholdRate();
+        if (getConfigurationContext().getFailureRangeInSeconds() <= 0) {
+            return false;
+        }
+        val submission = ipMap.get(constructKey(request));
+        return submission != null
+            && submission.estimateFailures(System.currentTimeMillis(), getFailureRangeInMillis())
+            > getConfigurationContext().getFailureThreshold();
     }
 
     @Override
@@ -58,19 +96,63 @@ public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapt
     @Override
     public void decrement() {
         LOGGER.info("Beginning audit cleanup...");
-        val now = ZonedDateTime.now(ZoneOffset.UTC);
-        this.ipMap.entrySet().removeIf(entry -> submissionRate(now, entry.getValue()) < getThresholdRate());
+        val window = getFailureRangeInMillis();
+        val now = System.currentTimeMillis();
+        val expired = expirationBuckets.headMap(Math.floorDiv(now, window), true);
+        var entry = expired.pollFirstEntry();
+        while (entry != null) {
+            trackedKeys.addAndGet(-entry.getValue().size());
+            entry.getValue().forEach(key -> ipMap.computeIfPresent(key,
+                (k, submission) -> submission.getExpirationTime(window) <= now ? null : submission));
+            entry = expired.pollFirstEntry();
+        }
         LOGGER.debug("Done decrementing count for throttler.");
     }
 
     /**
-     * Computes the instantaneous rate in between two given dates corresponding to two submissions.
+     * Gets the number of keys tracked in expiration buckets.
      *
-     * @param a First date.
-     * @param b Second date.
-     * @return Instantaneous submission rate in submissions/sec, e.g. {@code a - b}.
+     * @return the number of tracked keys
+     */
+    long getNumberOfTrackedKeys() {
+        return trackedKeys.get();
+    }
+
+    /**
+     * Remove keys from expiration buckets whose records are no longer present,
+     * typically because they were evicted from the map once its capacity was reached.
      */
-    private static double submissionRate(final ZonedDateTime a, final ZonedDateTime b) {
-        return SUBMISSION_RATE_DIVIDEND / (a.toInstant().toEpochMilli() - b.toInstant().toEpochMilli());
+    private void pruneExpirationBuckets() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            val window = getFailureRangeInMillis();
+            expirationBuckets.forEach((bucket, keys) -> keys.removeIf(key -> {
+                val submission = ipMap.get(key);
+                return submission == null || getExpirationBucket(submission, window) != bucket;
+            }));
+            trackedKeys.set(expirationBuckets.values().stream().mapToLong(Set::size).sum());
+            LOGGER.trace("Pruned expiration buckets to track [{}] key(s)", trackedKeys.get());
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    private void track(final String key, final long bucket) {
+        if (expirationBuckets.computeIfAbsent(bucket, b -> ConcurrentHashMap.newKeySet()).add(key)) {
+            trackedKeys.incrementAndGet();
+        }
+    }
+
+    private void untrack(final String key, final long bucket) {
+        val keys = expirationBuckets.get(bucket);
+        if (keys != null && keys.remove(key)) {
+            trackedKeys.decrementAndGet();
+        }
+    }
+
+    private long getFailureRangeInMillis() {
+        return Math.max(getConfigurationContext().getFailureRangeInSeconds(), 1) * NUMBER_OF_MILLISECONDS_IN_SECOND;
     }
 }
@@ -5,7 +5,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
-import java.time.ZonedDateTime;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -19,7 +18,7 @@ public class InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptor
     extends AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter {
 
     public InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext,
-                                                                                      final ConcurrentMap<String, ZonedDateTime> ipMap) {
+                                                                                      final ConcurrentMap<String, ThrottledSubmission> ipMap) {
         super(configurationContext, ipMap);
     }
 
@@ -0,0 +1,95 @@
+package org.apereo.cas.web.support;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * This is {@link ThrottledSubmission} that tracks failed submissions for a throttling key
+ * using a sliding window counter. Failures are counted in fixed windows whose length
+ * is the configured failure range; the number of failures in the sliding range is estimated
+ * from the counts of the current and previous windows, weighted by how much of the previous
+ * window still overlaps with the range. Instances are immutable and only carry primitives
+ * so they remain compact in memory and cheap to replicate.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ThrottledSubmission implements Serializable {
+    private static final long serialVersionUID = -1403632727539573641L;
+
+    private final long windowStart;
+
+    private final int previousCount;
+
+    private final int currentCount;
+
+    private final long lastFailure;
+
+    /**
+     * Start tracking failures with a single failure recorded now.
+     *
+     * @param now the current time in epoch milliseconds
+     * @return the throttled submission
+     */
+    public static ThrottledSubmission of(final long now) {
+        return new ThrottledSubmission(now, 0, 1, now);
+    }
+
+    /**
+     * Record a new failure and return the updated submission.
+     *
+     * @param now          the current time in epoch milliseconds
+     * @param windowMillis the window length in milliseconds
+     * @return the throttled submission
+     */
+    public ThrottledSubmission record(final long now, final long windowMillis) {
+        val elapsed = now - windowStart;
+        if (elapsed >= 2 * windowMillis) {
+            return of(now);
+        }
+        if (elapsed >= windowMillis) {
+            return new ThrottledSubmission(windowStart + windowMillis, currentCount, 1, now);
+        }
+        return new ThrottledSubmission(windowStart, previousCount, currentCount + 1, Math.max(now, lastFailure));
+    }
+
+    /**
+     * Estimate the number of failures recorded within the last window.
+     *
+     * @param now          the current time in epoch milliseconds
+     * @param windowMillis the window length in milliseconds
+     * @return the estimated number of failures
+     */
+    public double estimateFailures(final long now, final long windowMillis) {
+        val elapsed = now - windowStart;
+        if (elapsed >= 2 * windowMillis) {
+            return 0;
+        }
+        if (elapsed >= windowMillis) {
+            return currentCount * (double) (2 * windowMillis - elapsed) / windowMillis;
+        }
+        return previousCount * (double) (windowMillis - elapsed) / windowMillis + currentCount;
+    }
+
+    /**
+     * Gets the time at which recorded failures no longer count towards the threshold.
+     *
+     * @param windowMillis the window length in milliseconds
+     * @return the expiration time in epoch milliseconds
+     */
+    public long getExpirationTime(final long windowMillis) {
+        return windowStart + 2 * windowMillis;
+    }
+
+    @Override
+    public String toString() {
+        return Instant.ofEpochMilli(lastFailure) + " (" + (previousCount + currentCount) + ')';
+    }
+}
@@ -11,10 +11,12 @@ import org.apereo.cas.throttle.ThrottledRequestResponseHandler;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapter;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapter;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionCleaner;
+import org.apereo.cas.web.support.ThrottledSubmission;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerEndpoint;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -30,9 +32,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
-import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -73,7 +73,11 @@ public class CasThrottlingConfiguration {
     @ConditionalOnMissingBean(name = "throttleSubmissionMap")
     @Bean
     public ConcurrentMap throttleSubmissionMap() {
-        return new ConcurrentHashMap<String, ZonedDateTime>();
+        val capacity = casProperties.getAuthn().getThrottle().getInMemory().getCapacity();
+        return Caffeine.newBuilder()
+            .maximumSize(capacity)
+            .<String, ThrottledSubmission>build()
+            .asMap();
     }
 
     @RefreshScope
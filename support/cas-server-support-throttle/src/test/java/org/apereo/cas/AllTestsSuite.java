@@ -3,6 +3,7 @@ package org.apereo.cas;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerEndpointTests;
+import org.apereo.cas.web.support.ThrottledSubmissionTests;
 
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.platform.suite.api.SelectClasses;
@@ -17,7 +18,8 @@ import org.junit.runner.RunWith;
 @SelectClasses({
     InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests.class,
     InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests.class,
-    ThrottledSubmissionHandlerEndpointTests.class
+    ThrottledSubmissionHandlerEndpointTests.class,
+    ThrottledSubmissionTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
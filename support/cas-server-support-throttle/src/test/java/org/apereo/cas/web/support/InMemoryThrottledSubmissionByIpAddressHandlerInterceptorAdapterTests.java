@@ -1,12 +1,22 @@
 package org.apereo.cas.web.support;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * Unit test for {@link InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapter}.
  *
@@ -26,4 +36,30 @@ public class InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTest
     @Autowired
     @Qualifier("authenticationThrottle")
     private ThrottledSubmissionHandlerInterceptor throttle;
+
+    @Test
+    public void verifyEvictedKeysArePrunedFromExpirationBuckets() {
+        val context = ThrottledSubmissionHandlerConfigurationContext.builder()
+            .failureThreshold(5)
+            .failureRangeInSeconds(60)
+            .build();
+        val map = Caffeine.newBuilder()
+            .maximumSize(10)
+            .executor(Runnable::run)
+            .<String, ThrottledSubmission>build()
+            .asMap();
+        val adapter = new InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapter(context, map);
+        try {
+            IntStream.range(0, 5_000).forEach(i -> {
+                val request = new MockHttpServletRequest();
+                request.setRemoteAddr("10.0." + i / 256 + '.' + i % 256);
+                ClientInfoHolder.setClientInfo(new ClientInfo(request));
+                adapter.recordSubmissionFailure(request);
+            });
+        } finally {
+            ClientInfoHolder.setClientInfo(null);
+        }
+        assertTrue(map.size() <= 10);
+        assertTrue(adapter.getNumberOfTrackedKeys() <= 1_000);
+    }
 }
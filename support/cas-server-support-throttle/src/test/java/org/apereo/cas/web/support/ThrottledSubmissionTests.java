@@ -0,0 +1,50 @@
+package org.apereo.cas.web.support;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ThrottledSubmissionTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Simple")
+public class ThrottledSubmissionTests {
+    private static final long WINDOW = 1000;
+
+    @Test
+    public void verifyFailuresCountedInWindow() {
+        var submission = ThrottledSubmission.of(0);
+        submission = submission.record(200, WINDOW).record(400, WINDOW);
+        assertEquals(3, submission.estimateFailures(600, WINDOW));
+        assertEquals(400, submission.getLastFailure());
+        assertEquals(2 * WINDOW, submission.getExpirationTime(WINDOW));
+    }
+
+    @Test
+    public void verifyFailuresSlideOutOfWindow() {
+        var submission = ThrottledSubmission.of(0).record(500, WINDOW);
+        assertEquals(1, submission.estimateFailures(1500, WINDOW), 0.001);
+        assertEquals(0, submission.estimateFailures(2000, WINDOW));
+
+        submission = submission.record(1500, WINDOW);
+        assertEquals(WINDOW, submission.getWindowStart());
+        assertEquals(2, submission.getPreviousCount());
+        assertEquals(1, submission.getCurrentCount());
+        assertEquals(2, submission.estimateFailures(1500, WINDOW), 0.001);
+        assertEquals(3 * WINDOW, submission.getExpirationTime(WINDOW));
+    }
+
+    @Test
+    public void verifyWindowResetsAfterInactivity() {
+        val submission = ThrottledSubmission.of(0).record(100, WINDOW).record(5000, WINDOW);
+        assertEquals(5000, submission.getWindowStart());
+        assertEquals(0, submission.getPreviousCount());
+        assertEquals(1, submission.getCurrentCount());
+        assertNotNull(submission.toString());
+    }
+}
@@ -97,7 +97,7 @@ public class CasThymeleafConfiguration {
     @Bean
     @ConditionalOnMissingBean(name = "chainingTemplateViewResolver")
     public AbstractTemplateResolver chainingTemplateViewResolver() {
-        val chain = new ChainingTemplateViewResolver();
+        val chain = new ChainingTemplateViewResolver(casProperties);
 
         val cpResolver = new ClassLoaderTemplateResolver();
         configureTemplateViewResolver(cpResolver);
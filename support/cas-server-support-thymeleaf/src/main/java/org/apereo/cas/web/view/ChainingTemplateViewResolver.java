@@ -1,28 +1,59 @@
 package org.apereo.cas.web.view;
 
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.web.support.WebUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.templateresolver.AbstractConfigurableTemplateResolver;
 import org.thymeleaf.templateresolver.AbstractTemplateResolver;
-import org.thymeleaf.templateresolver.TemplateResolution;
 import org.thymeleaf.templateresource.ITemplateResource;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * This is {@link ChainingTemplateViewResolver}.
+ * Resolved templates are remembered by template, theme and locale for a short while,
+ * so that rendering a view does not consult every resolver in the chain each time.
+ * Resolutions that involve a {@link RestfulUrlTemplateResolver} are never remembered,
+ * since the endpoint may vary its response by request headers and already
+ * keeps templates fresh using conditional requests.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
 @Getter
+@Slf4j
 public class ChainingTemplateViewResolver extends AbstractConfigurableTemplateResolver {
     private final List<AbstractTemplateResolver> resolvers = new ArrayList<>(0);
 
+    private final CasConfigurationProperties casProperties;
+
+    private final Cache<String, Optional<ITemplateResource>> resolutionCache;
+
     public ChainingTemplateViewResolver() {
+        this(null);
+    }
+
+    public ChainingTemplateViewResolver(final CasConfigurationProperties casProperties) {
+        this.casProperties = casProperties;
+        this.resolutionCache = casProperties != null && casProperties.getView().getTemplateResolutionCacheSize() > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(casProperties.getView().getTemplateResolutionCacheSize())
+                .expireAfterWrite(Beans.newDuration(casProperties.getView().getTemplateResolutionCacheExpiration()))
+                .build()
+            : null;
         setOrder(0);
         setCacheable(false);
         setCheckExistence(true);
@@ -43,6 +74,27 @@ public class ChainingTemplateViewResolver extends AbstractConfigurableTemplateRe
      */
     public void initialize() {
         AnnotationAwareOrderComparator.sortIfNecessary(this.resolvers);
+        invalidateCache();
+    }
+
+    /**
+     * Forget all remembered template resolutions.
+     */
+    public void invalidateCache() {
+        if (resolutionCache != null) {
+            resolutionCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Forget remembered resolutions of the given template, for all themes and locales.
+     *
+     * @param template the template
+     */
+    public void invalidateCache(final String template) {
+        if (resolutionCache != null) {
+            resolutionCache.asMap().keySet().removeIf(key -> key.startsWith(template + '|'));
+        }
     }
 
     @Override
@@ -52,12 +104,59 @@ public class ChainingTemplateViewResolver extends AbstractConfigurableTemplateRe
                                                         final String resourceName,
                                                         final String characterEncoding,
                                                         final Map<String, Object> templateResolutionAttributes) {
-        return this.resolvers
-            .stream()
-            .map(r -> r.resolveTemplate(configuration, ownerTemplate, template, templateResolutionAttributes))
-            .filter(resource -> resource != null && resource.isTemplateResourceExistenceVerified())
-            .findFirst()
-            .map(TemplateResolution::getTemplateResource)
-            .orElse(null);
+        if (resolutionCache == null || (templateResolutionAttributes != null && !templateResolutionAttributes.isEmpty())) {
+            return resolveTemplateResource(configuration, ownerTemplate, template, templateResolutionAttributes).getTemplateResource();
+        }
+        val key = getResolutionCacheKey(ownerTemplate, template);
+        val cached = resolutionCache.getIfPresent(key);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        LOGGER.trace("Resolving template resource for [{}]", key);
+        val resolution = resolveTemplateResource(configuration, ownerTemplate, template, templateResolutionAttributes);
+        if (resolution.isCacheable()) {
+            resolutionCache.put(key, Optional.ofNullable(resolution.getTemplateResource()));
+        }
+        return resolution.getTemplateResource();
+    }
+
+    /**
+     * Gets the key that identifies the resolution of a template
+     * for the current theme and locale.
+     *
+     * @param ownerTemplate the owner template
+     * @param template      the template
+     * @return the key
+     */
+    protected String getResolutionCacheKey(final String ownerTemplate, final String template) {
+        val request = WebUtils.getHttpServletRequestFromExternalWebflowContext();
+        val locale = request != null ? request.getLocale().toString() : StringUtils.EMPTY;
+        return String.join("|", template, StringUtils.defaultString(ownerTemplate),
+            StringUtils.defaultString(ThemeUtils.getCurrentTheme(casProperties)), locale);
+    }
+
+    private ChainedTemplateResolution resolveTemplateResource(final IEngineConfiguration configuration,
+                                                              final String ownerTemplate,
+                                                              final String template,
+                                                              final Map<String, Object> templateResolutionAttributes) {
+        var cacheable = true;
+        for (val resolver : this.resolvers) {
+            if (resolver instanceof RestfulUrlTemplateResolver) {
+                cacheable = false;
+            }
+            val resolution = resolver.resolveTemplate(configuration, ownerTemplate, template, templateResolutionAttributes);
+            if (resolution != null && resolution.isTemplateResourceExistenceVerified()) {
+                return new ChainedTemplateResolution(resolution.getTemplateResource(), cacheable);
+            }
+        }
+        return new ChainedTemplateResolution(null, cacheable);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class ChainedTemplateResolution {
+        private final ITemplateResource templateResource;
+
+        private final boolean cacheable;
     }
 }
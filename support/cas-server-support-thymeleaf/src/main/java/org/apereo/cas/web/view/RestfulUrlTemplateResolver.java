@@ -6,11 +6,16 @@ import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.web.support.WebUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.thymeleaf.IEngineConfiguration;
@@ -23,15 +28,31 @@ import java.util.Map;
 
 /**
  * This is {@link RestfulUrlTemplateResolver}.
+ * Templates fetched from the endpoint are remembered along with their entity tag
+ * and last-modified date, so that subsequent requests can be made conditional
+ * and an unchanged template is not transferred again.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
 @Slf4j
 public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
+    private static final long MAX_NUMBER_OF_TEMPLATES = 1_000L;
+
+    private final Cache<String, FetchedTemplate> fetchedTemplates;
 
     public RestfulUrlTemplateResolver(final CasConfigurationProperties casProperties) {
         super(casProperties);
+        this.fetchedTemplates = Caffeine.newBuilder()
+            .maximumSize(MAX_NUMBER_OF_TEMPLATES)
+            .build();
+    }
+
+    /**
+     * Forget all templates fetched from the endpoint.
+     */
+    public void invalidateCache() {
+        fetchedTemplates.invalidateAll();
     }
 
     @Override
@@ -60,6 +81,18 @@ public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
         }
         headers.putAll(rest.getHeaders());
 
+        val key = String.join("|", template, StringUtils.defaultString(ownerTemplate), resourceName,
+            StringUtils.defaultString(themeName), headers.getOrDefault("locale", StringUtils.EMPTY).toString());
+        val fetched = fetchedTemplates.getIfPresent(key);
+        if (fetched != null) {
+            if (StringUtils.isNotBlank(fetched.getEntityTag())) {
+                headers.put(HttpHeaders.IF_NONE_MATCH, fetched.getEntityTag());
+            }
+            if (StringUtils.isNotBlank(fetched.getLastModified())) {
+                headers.put(HttpHeaders.IF_MODIFIED_SINCE, fetched.getLastModified());
+            }
+        }
+
         HttpResponse response = null;
         try {
             val exec = HttpUtils.HttpExecutionRequest.builder()
@@ -71,8 +104,21 @@ public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
                 .build();
             response = HttpUtils.execute(exec);
             val statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode == HttpStatus.NOT_MODIFIED.value() && fetched != null) {
+                LOGGER.trace("Template [{}] is not modified and is served from cache", template);
+                return new StringTemplateResource(fetched.getTemplate());
+            }
             if (HttpStatus.valueOf(statusCode).is2xxSuccessful()) {
                 val result = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+                val entityTag = response.getFirstHeader(HttpHeaders.ETAG);
+                val lastModified = response.getFirstHeader(HttpHeaders.LAST_MODIFIED);
+                if (entityTag != null || lastModified != null) {
+                    fetchedTemplates.put(key, new FetchedTemplate(result,
+                        entityTag != null ? entityTag.getValue() : null,
+                        lastModified != null ? lastModified.getValue() : null));
+                } else {
+                    fetchedTemplates.invalidate(key);
+                }
                 return new StringTemplateResource(result);
             }
         } catch (final Exception e) {
@@ -84,4 +130,14 @@ public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
         return super.computeTemplateResource(configuration, ownerTemplate, template, resourceName,
             characterEncoding, templateResolutionAttributes);
     }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class FetchedTemplate {
+        private final String template;
+
+        private final String entityTag;
+
+        private final String lastModified;
+    }
 }
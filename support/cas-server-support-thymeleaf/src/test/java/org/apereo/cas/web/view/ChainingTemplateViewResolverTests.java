@@ -1,12 +1,23 @@
 package org.apereo.cas.web.view;
 
+import org.apereo.cas.configuration.CasConfigurationProperties;
+
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.webflow.context.ExternalContextHolder;
+import org.springframework.webflow.context.servlet.ServletExternalContext;
 import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.templateresolver.StringTemplateResolver;
+import org.thymeleaf.templateresource.ITemplateResource;
+import org.thymeleaf.templateresource.StringTemplateResource;
 
 import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,4 +41,72 @@ public class ChainingTemplateViewResolverTests {
             "template", new LinkedHashMap<>());
         assertNotNull(res);
     }
+
+    @Test
+    public void verifyResolutionIsCached() {
+        val props = new CasConfigurationProperties();
+        val r = new ChainingTemplateViewResolver(props);
+        val count = new AtomicInteger();
+        val resolver = new StringTemplateResolver() {
+            @Override
+            protected ITemplateResource computeTemplateResource(final IEngineConfiguration configuration,
+                                                                final String ownerTemplate, final String template,
+                                                                final Map<String, Object> templateResolutionAttributes) {
+                count.incrementAndGet();
+                return super.computeTemplateResource(configuration, ownerTemplate, template, templateResolutionAttributes);
+            }
+        };
+        resolver.setCheckExistence(true);
+        r.addResolver(resolver);
+        r.initialize();
+
+        val configuration = mock(IEngineConfiguration.class);
+        for (var i = 0; i < 5; i++) {
+            assertNotNull(r.resolveTemplate(configuration, "cas", "template", new LinkedHashMap<>()));
+        }
+        assertEquals(1, count.get());
+
+        val request = new MockHttpServletRequest();
+        request.setAttribute(props.getTheme().getParamName(), "sample-theme");
+        ExternalContextHolder.setExternalContext(new ServletExternalContext(new MockServletContext(), request, new MockHttpServletResponse()));
+        try {
+            assertNotNull(r.resolveTemplate(configuration, "cas", "template", new LinkedHashMap<>()));
+            assertEquals(2, count.get());
+        } finally {
+            ExternalContextHolder.setExternalContext(null);
+        }
+
+        r.invalidateCache("template");
+        assertNotNull(r.resolveTemplate(configuration, "cas", "template", new LinkedHashMap<>()));
+        assertEquals(3, count.get());
+        r.invalidateCache();
+        assertNotNull(r.resolveTemplate(configuration, "cas", "template", new LinkedHashMap<>()));
+        assertEquals(4, count.get());
+    }
+
+    @Test
+    public void verifyRestfulResolutionIsNotCached() {
+        val props = new CasConfigurationProperties();
+        val r = new ChainingTemplateViewResolver(props);
+        val count = new AtomicInteger();
+        val resolver = new RestfulUrlTemplateResolver(props) {
+            @Override
+            protected ITemplateResource computeTemplateResource(final IEngineConfiguration configuration,
+                                                                final String ownerTemplate, final String template,
+                                                                final String resourceName, final String characterEncoding,
+                                                                final Map<String, Object> templateResolutionAttributes) {
+                count.incrementAndGet();
+                return new StringTemplateResource(template);
+            }
+        };
+        resolver.setCheckExistence(true);
+        r.addResolver(resolver);
+        r.initialize();
+
+        val configuration = mock(IEngineConfiguration.class);
+        for (var i = 0; i < 3; i++) {
+            assertNotNull(r.resolveTemplate(configuration, "cas", "template", new LinkedHashMap<>()));
+        }
+        assertEquals(3, count.get());
+    }
 }
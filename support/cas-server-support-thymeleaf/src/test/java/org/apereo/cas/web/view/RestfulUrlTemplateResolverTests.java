@@ -5,6 +5,8 @@ import org.apereo.cas.util.MockServletContext;
 import org.apereo.cas.util.MockWebServer;
 
 import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.jooq.lambda.Unchecked;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ByteArrayResource;
@@ -18,8 +20,13 @@ import org.springframework.webflow.execution.RequestContextHolder;
 import org.springframework.webflow.test.MockRequestContext;
 import org.thymeleaf.IEngineConfiguration;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.Socket;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -71,4 +78,41 @@ public class RestfulUrlTemplateResolverTests {
         }
 
     }
+
+    @Test
+    public void verifyConditionalRequest() throws Exception {
+        val requests = new ArrayList<List<String>>();
+        try (val webServer = new MockWebServer(9303, Unchecked.function((Socket socket) -> {
+            val reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            val lines = new ArrayList<String>();
+            var line = reader.readLine();
+            while (line != null && !line.isEmpty()) {
+                lines.add(line.toLowerCase());
+                line = reader.readLine();
+            }
+            requests.add(lines);
+            val response = lines.contains("if-none-match: \"v1\"")
+                ? "HTTP/1.1 304 Not Modified\r\nETag: \"v1\"\r\nConnection: close\r\n\r\n"
+                : "HTTP/1.1 200 OK\r\nETag: \"v1\"\r\nContent-Length: 8\r\nConnection: close\r\n\r\ntemplate";
+            socket.getOutputStream().write(response.getBytes(StandardCharsets.UTF_8));
+            return lines;
+        }))) {
+            webServer.start();
+
+            val props = new CasConfigurationProperties();
+            props.getView().getRest().setUrl("http://localhost:9303");
+            val r = new RestfulUrlTemplateResolver(props);
+            for (var i = 0; i < 2; i++) {
+                val res = r.resolveTemplate(mock(IEngineConfiguration.class), "cas",
+                    "template", new LinkedHashMap<>());
+                assertNotNull(res);
+                try (val content = res.getTemplateResource().reader()) {
+                    assertEquals("template", IOUtils.toString(content));
+                }
+            }
+            assertEquals(2, requests.size());
+            assertFalse(requests.get(0).contains("if-none-match: \"v1\""));
+            assertTrue(requests.get(1).contains("if-none-match: \"v1\""));
+        }
+    }
 }
@@ -63,6 +63,7 @@ public class YamlServiceRegistryConfiguration {
             registeredServiceReplicationStrategy.getObject(),
             resourceNamingStrategy.getObject(),
             serviceRegistryListeners.getObject());
+        yaml.setLoadParallelism(registry.getYaml().getLoadParallelism());
         if (registry.getYaml().isWatcherEnabled()) {
             yaml.enableDefaultWatcherService();
         }